@@ -0,0 +1,55 @@
+package com.devwonder.apigateway.ratelimit;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The counting logic of the original {@code RateLimitingGlobalFilter}, kept only as a
+ * benchmark baseline: unbounded map, one monitor per client, 300 requests per minute.
+ * The stdout print on rejection is left out so the comparison measures bookkeeping only.
+ */
+class LegacyFixedWindowLimiter {
+
+    private static final int MAX_REQUESTS_PER_MINUTE = 300;
+    private static final long WINDOW_SIZE_MILLIS = 60 * 1000L;
+
+    private final ConcurrentHashMap<String, RequestCounter> requestCounts = new ConcurrentHashMap<>();
+
+    boolean tryAcquire(String clientId) {
+        RequestCounter counter = requestCounts.computeIfAbsent(clientId, k -> new RequestCounter());
+
+        long now = Instant.now().toEpochMilli();
+
+        synchronized (counter) {
+            if (now - counter.windowStart > WINDOW_SIZE_MILLIS) {
+                counter.reset(now);
+            }
+
+            if (counter.count.get() >= MAX_REQUESTS_PER_MINUTE) {
+                return false;
+            }
+
+            counter.count.incrementAndGet();
+        }
+        return true;
+    }
+
+    int size() {
+        return requestCounts.size();
+    }
+
+    private static class RequestCounter {
+        private final AtomicInteger count = new AtomicInteger(0);
+        private volatile long windowStart;
+
+        RequestCounter() {
+            this.windowStart = Instant.now().toEpochMilli();
+        }
+
+        void reset(long newWindowStart) {
+            this.count.set(0);
+            this.windowStart = newWindowStart;
+        }
+    }
+}
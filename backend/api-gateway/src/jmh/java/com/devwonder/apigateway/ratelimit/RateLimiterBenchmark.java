@@ -0,0 +1,80 @@
+package com.devwonder.apigateway.ratelimit;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the original fixed-window limiter with {@link LocalGcraRateLimiter} when
+ * many threads hit a large population of client keys.
+ *
+ * {@code keys} controls contention: with few keys threads fight over the same
+ * counters, with many keys the map itself dominates. The legacy limiter never evicts,
+ * so its key count (printed at teardown) grows to {@code keys}; the GCRA table stays
+ * under {@code maxEntries}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final RateLimitProperties.Policy POLICY = new RateLimitProperties.Policy(300, 5.0);
+
+    @Param({ "16", "100000", "1000000" })
+    private int keys;
+
+    @Param({ "100000" })
+    private int maxEntries;
+
+    private String[] clientIds;
+    private LegacyFixedWindowLimiter legacy;
+    private LocalGcraRateLimiter gcra;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clientIds = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            clientIds[i] = "ip:10." + (i >>> 16 & 0xFF) + "." + (i >>> 8 & 0xFF) + "." + (i & 0xFF);
+        }
+        legacy = new LegacyFixedWindowLimiter();
+        gcra = new LocalGcraRateLimiter(maxEntries, 30_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%nkeys=%d legacy entries=%d gcra entries=%d gcra evictions=%d%n",
+                keys, legacy.size(), gcra.size(), gcra.evictions());
+    }
+
+    @Benchmark
+    public boolean legacyFixedWindow() {
+        return legacy.tryAcquire(nextClient());
+    }
+
+    @Benchmark
+    public boolean localGcra() {
+        return gcra.tryAcquire(nextClient(), POLICY).isAllowed();
+    }
+
+    private String nextClient() {
+        return clientIds[ThreadLocalRandom.current().nextInt(clientIds.length)];
+    }
+}
@@ -0,0 +1,133 @@
+package com.devwonder.apigateway.admission;
+
+import com.devwonder.apigateway.dto.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Classifies each proxied request into a {@link PriorityClass} and admits it through
+ * the {@link AdmissionController}, answering 503 with {@code Retry-After} when its
+ * class is at its limit.
+ *
+ * Roles come from the authorities of the verified token in the security context, never
+ * from request headers a client could set itself. Latency is sampled from admission
+ * to upstream response headers, and only for non-5xx answers, so fast failures and
+ * fallbacks do not make the backends look healthier than they are.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdmissionControlGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final AdmissionController controller;
+    private final AdmissionProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        return classify(route).flatMap(priority -> admit(exchange, chain, route, priority));
+    }
+
+    private Mono<Void> admit(ServerWebExchange exchange, GatewayFilterChain chain, Route route,
+            PriorityClass priority) {
+        int inFlightAtStart = controller.tryAcquire(priority);
+        if (inFlightAtStart < 0) {
+            return shed(exchange, route, priority);
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(ignored -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (status != null && status.is5xxServerError()) {
+                        controller.release(priority);
+                    } else {
+                        controller.release(priority, System.nanoTime() - start, inFlightAtStart);
+                    }
+                })
+                .doOnError(e -> controller.release(priority))
+                .doOnCancel(() -> controller.release(priority));
+    }
+
+    private Mono<PriorityClass> classify(Route route) {
+        PriorityClass byRoute = properties.getRoutes().get(route.getId());
+        if (byRoute != null) {
+            return Mono.just(byRoute);
+        }
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .map(this::classifyByRoles)
+                .defaultIfEmpty(properties.getDefaultClass());
+    }
+
+    private PriorityClass classifyByRoles(Authentication authentication) {
+        PriorityClass best = null;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name == null || !name.startsWith(ROLE_PREFIX)) {
+                continue;
+            }
+            PriorityClass byRole = properties.getRoles().get(name.substring(ROLE_PREFIX.length()));
+            if (byRole != null && (best == null || byRole.ordinal() < best.ordinal())) {
+                best = byRole;
+            }
+        }
+        return best != null ? best : properties.getDefaultClass();
+    }
+
+    private Mono<Void> shed(ServerWebExchange exchange, Route route, PriorityClass priority) {
+        log.debug("Shedding {} request to route {} (limit {}, in flight {})",
+                priority, route.getId(), controller.getLimit(priority), controller.getInFlight(priority));
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set("Retry-After",
+                Long.toString(Math.max(1, properties.getRetryAfter().toSeconds())));
+
+        ErrorResponse error = ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE.value(), "Service overloaded",
+                "The service is busy. Try again shortly.", exchange.getRequest().getPath().value());
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(error);
+        } catch (JsonProcessingException e) {
+            body = "{\"error\":\"Service overloaded\"}".getBytes(StandardCharsets.UTF_8);
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    @Override
+    public int getOrder() {
+        // Cache hits and coalesced followers are answered earlier and never take a slot
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER + 1;
+    }
+}
@@ -0,0 +1,84 @@
+package com.devwonder.apigateway.admission;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admits requests against one adaptive limit per {@link PriorityClass}.
+ *
+ * Each class counts its own calls in flight and feeds its own
+ * {@link GradientConcurrencyLimit} with its own round trips, so report refreshes
+ * slowing down shrink the LOW limit while checkout keeps its CRITICAL one. No class
+ * queues: a request over its class limit is refused at once.
+ */
+public class AdmissionController {
+
+    private final Map<PriorityClass, ClassLimit> classes = new EnumMap<>(PriorityClass.class);
+
+    public AdmissionController(Map<PriorityClass, GradientConcurrencyLimit> limits) {
+        for (PriorityClass priority : PriorityClass.values()) {
+            GradientConcurrencyLimit limit = limits.get(priority);
+            if (limit == null) {
+                throw new IllegalArgumentException("No admission limit for class " + priority);
+            }
+            classes.put(priority, new ClassLimit(limit));
+        }
+    }
+
+    /**
+     * Takes a slot for the given class.
+     *
+     * @return calls of that class in flight including this one, or {@code -1} when the class is shed
+     */
+    public int tryAcquire(PriorityClass priority) {
+        ClassLimit state = classes.get(priority);
+        int classLimit = Math.max(1, state.limit.getLimit());
+        while (true) {
+            int current = state.inFlight.get();
+            if (current >= classLimit) {
+                state.shed.increment();
+                return -1;
+            }
+            if (state.inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /** Returns a slot without feeding the limit, e.g. after an error or cancellation. */
+    public void release(PriorityClass priority) {
+        classes.get(priority).inFlight.decrementAndGet();
+    }
+
+    /** Returns a slot and reports how long the call took to get a response. */
+    public void release(PriorityClass priority, long rttNanos, int inFlightAtStart) {
+        ClassLimit state = classes.get(priority);
+        state.inFlight.decrementAndGet();
+        state.limit.onSample(rttNanos, inFlightAtStart);
+    }
+
+    public int getLimit(PriorityClass priority) {
+        return classes.get(priority).limit.getLimit();
+    }
+
+    public int getInFlight(PriorityClass priority) {
+        return classes.get(priority).inFlight.get();
+    }
+
+    public long getShed(PriorityClass priority) {
+        return classes.get(priority).shed.sum();
+    }
+
+    private static final class ClassLimit {
+
+        private final GradientConcurrencyLimit limit;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder shed = new LongAdder();
+
+        private ClassLimit(GradientConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.devwonder.apigateway.admission;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Admission control settings bound from {@code gateway.admission}.
+ *
+ * A request's class comes from its route if the route is listed under
+ * {@link #routes}, otherwise from the best class among the caller's roles, otherwise
+ * {@link #defaultClass}. Every class has its own adaptive limit, fed only by the
+ * latency of its own calls, so a slow upstream shrinks the limit of the class that uses
+ * it and nobody else's. Lower classes get lower floors and ceilings in {@link #classes}
+ * and therefore give way first when the backends slow down together.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    private PriorityClass defaultClass = PriorityClass.NORMAL;
+
+    /** Keyed by gateway route id, e.g. {@code report-service}. */
+    private Map<String, PriorityClass> routes = new HashMap<>();
+
+    /** Keyed by role name as carried in the token, e.g. {@code DEALER}. */
+    private Map<String, PriorityClass> roles = new HashMap<>();
+
+    /** Suggested back-off sent to shed callers. */
+    private Duration retryAfter = Duration.ofSeconds(2);
+
+    /** Tuning for any class not listed in {@link #classes}. */
+    private Limit limit = new Limit();
+
+    /** Per-class tuning; a listed class takes none of its values from {@link #limit}. */
+    private Map<PriorityClass, Limit> classes = new EnumMap<>(Map.of(
+            PriorityClass.CRITICAL, Limit.of(200, 50, 2000),
+            PriorityClass.HIGH, Limit.of(150, 40, 1500),
+            PriorityClass.NORMAL, Limit.of(100, 20, 1000),
+            PriorityClass.LOW, Limit.of(40, 5, 300)));
+
+    public Limit limitFor(PriorityClass priority) {
+        return classes.getOrDefault(priority, limit);
+    }
+
+    /** Gradient limit tuning, named after the Netflix concurrency-limits parameters. */
+    @Data
+    public static class Limit {
+
+        private int initialLimit = 200;
+
+        private int minLimit = 50;
+
+        private int maxLimit = 2000;
+
+        /** Weight of each new estimate; lower reacts slower but jitters less. */
+        private double smoothing = 0.2;
+
+        /** Samples in the long-term latency average the short-term latency is compared against. */
+        private int longWindow = 600;
+
+        /** Latency growth over the long-term average tolerated before the limit shrinks. */
+        private double rttTolerance = 1.5;
+
+        static Limit of(int initialLimit, int minLimit, int maxLimit) {
+            Limit limit = new Limit();
+            limit.setInitialLimit(initialLimit);
+            limit.setMinLimit(minLimit);
+            limit.setMaxLimit(maxLimit);
+            return limit;
+        }
+    }
+}
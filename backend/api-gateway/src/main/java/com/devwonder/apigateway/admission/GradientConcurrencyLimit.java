@@ -0,0 +1,76 @@
+package com.devwonder.apigateway.admission;
+
+/**
+ * Concurrency limit that follows upstream latency, after the gradient2 algorithm of
+ * Netflix concurrency-limits.
+ *
+ * Every completed call compares its round trip time against a slow exponential
+ * average. While latency stays within {@code rttTolerance} of that average the limit
+ * grows by a small queue allowance; once queueing shows up as longer round trips the
+ * ratio drops below one and the limit shrinks proportionally. The average itself
+ * decays toward recent samples when they are much faster, so a one-off latency spike
+ * cannot pin the limit low. Samples taken while under half the limit is in use are
+ * ignored: they say nothing about how much more could be taken.
+ */
+public class GradientConcurrencyLimit {
+
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final int longWindow;
+    private final double rttTolerance;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long samples;
+
+    public GradientConcurrencyLimit(AdmissionProperties.Limit settings) {
+        this.minLimit = settings.getMinLimit();
+        this.maxLimit = settings.getMaxLimit();
+        this.smoothing = settings.getSmoothing();
+        this.longWindow = settings.getLongWindow();
+        this.rttTolerance = settings.getRttTolerance();
+        this.estimatedLimit = settings.getInitialLimit();
+        this.limit = settings.getInitialLimit();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Feeds one successful call.
+     *
+     * @param rttNanos time from admission to upstream response headers
+     * @param inFlight calls in flight when this one was admitted
+     */
+    public synchronized void onSample(long rttNanos, int inFlight) {
+        double shortRtt = Math.max(1, rttNanos);
+        samples++;
+        if (samples <= WARMUP_SAMPLES) {
+            // Plain mean until the exponential average has something to stand on
+            longRttNanos += (shortRtt - longRttNanos) / samples;
+            return;
+        }
+        longRttNanos += (shortRtt - longRttNanos) / longWindow;
+
+        // Recover quickly after a sustained slowdown has inflated the baseline
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        if (inFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRtt));
+        double queueAllowance = Math.sqrt(estimatedLimit);
+        double candidate = estimatedLimit * gradient + queueAllowance;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                estimatedLimit * (1 - smoothing) + candidate * smoothing));
+        limit = (int) estimatedLimit;
+    }
+}
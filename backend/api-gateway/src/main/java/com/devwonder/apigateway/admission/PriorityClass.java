@@ -0,0 +1,20 @@
+package com.devwonder.apigateway.admission;
+
+/**
+ * Admission priority, highest first. Each class has its own adaptive limit; the lower
+ * a class, the smaller its configured floor and ceiling, so it is shed first.
+ */
+public enum PriorityClass {
+
+    /** Login, cart and checkout; the largest limit. */
+    CRITICAL,
+
+    /** Other authenticated traffic. */
+    HIGH,
+
+    /** Anonymous browsing. */
+    NORMAL,
+
+    /** Expensive, deferrable work such as report refreshes. */
+    LOW
+}
@@ -0,0 +1,33 @@
+package com.devwonder.apigateway.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+/**
+ * A stored upstream response. Only the body and content type are kept; everything
+ * else the gateway sends on a hit is derived from the entry.
+ */
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+
+    private final String path;
+
+    private final byte[] body;
+
+    private final MediaType contentType;
+
+    private final String etag;
+
+    private final long expiresAtNanos;
+
+    public boolean isExpired(long nowNanos) {
+        return nowNanos - expiresAtNanos >= 0;
+    }
+
+    /** Seconds of freshness left, for {@code Cache-Control: max-age}. */
+    public long remainingSeconds(long nowNanos) {
+        return Math.max(0, (expiresAtNanos - nowNanos) / 1_000_000_000L);
+    }
+}
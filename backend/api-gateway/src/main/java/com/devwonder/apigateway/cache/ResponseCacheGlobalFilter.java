@@ -0,0 +1,286 @@
+package com.devwonder.apigateway.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Serves public catalog and blog reads from {@link ResponseCacheStore}.
+ *
+ * On a miss the upstream body is buffered, stored and tagged with a strong ETag; on
+ * a hit the stored body is written without touching the backend. Either way a
+ * matching {@code If-None-Match} turns the response into a bodiless 304.
+ *
+ * Upstreams answer in JSON or Smile depending on {@code Accept}, so the key carries the
+ * representation the request negotiates and every response says {@code Vary: Accept}.
+ */
+@Component
+public class ResponseCacheGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    /** What upstreams can produce, in the order they prefer it when the client does not care. */
+    private static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON, SMILE);
+
+    private final ResponseCacheStore store;
+    private final ResponseCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<CompiledRule> rules;
+
+    public ResponseCacheGlobalFilter(ResponseCacheStore store, ResponseCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(PathPatternParser.defaultInstance.parse(rule.getPath()), rule.getTtl()))
+                .toList();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled() || request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        String path = request.getPath().value();
+        CompiledRule rule = findRule(request.getPath().pathWithinApplication());
+        MediaType representation = rule != null ? negotiate(request) : null;
+        String key = representation != null ? buildKey(representation, path, request.getQueryParams()) : null;
+        if (key == null) {
+            return chain.filter(exchange);
+        }
+
+        CachedResponse cached = store.get(key);
+        if (cached != null) {
+            return writeCached(exchange, cached);
+        }
+
+        count("miss");
+        CachingResponseDecorator decorator = new CachingResponseDecorator(exchange, key, path, representation,
+                rule.getTtl());
+        return chain.filter(exchange.mutate().response(decorator).build());
+    }
+
+    private CompiledRule findRule(PathContainer path) {
+        for (CompiledRule rule : rules) {
+            if (rule.getPattern().matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The representation an upstream would pick for this {@code Accept}: the one with the
+     * highest quality, an exact match beating a wildcard at equal quality. {@code null}
+     * when the header is malformed or accepts neither, which leaves the request uncached.
+     */
+    static MediaType negotiate(ServerHttpRequest request) {
+        List<MediaType> accepted;
+        try {
+            accepted = request.getHeaders().getAccept();
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        if (accepted.isEmpty()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType best = null;
+        double bestScore = 0;
+        for (MediaType representation : REPRESENTATIONS) {
+            for (MediaType candidate : accepted) {
+                if (!candidate.includes(representation)) {
+                    continue;
+                }
+                // Quality first; an exact type adds less than the smallest quality step of 0.001
+                double score = candidate.getQualityValue() + (candidate.isWildcardSubtype() ? 0 : 0.0001);
+                if (candidate.getQualityValue() > 0 && score > bestScore) {
+                    best = representation;
+                    bestScore = score;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Representation, path and the allowed query parameters in a stable order, or
+     * {@code null} when the request carries anything the key would not capture.
+     */
+    private String buildKey(MediaType representation, String path, MultiValueMap<String, String> queryParams) {
+        StringBuilder key = new StringBuilder(representation.toString()).append(' ').append(path);
+        if (queryParams.isEmpty()) {
+            return key.toString();
+        }
+        TreeMap<String, String> keyed = new TreeMap<>();
+        for (var param : queryParams.entrySet()) {
+            if (!properties.getKeyParams().contains(param.getKey()) || param.getValue().size() != 1) {
+                return null;
+            }
+            keyed.put(param.getKey(), param.getValue().get(0));
+        }
+        key.append('?');
+        keyed.forEach((name, value) -> key.append(name).append('=').append(value).append('&'));
+        return key.substring(0, key.length() - 1);
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        long now = System.nanoTime();
+        applyValidators(response.getHeaders(), cached.getEtag(), Duration.ofSeconds(cached.remainingSeconds(now)));
+        response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+
+        if (matchesIfNoneMatch(exchange.getRequest(), cached.getEtag())) {
+            count("not_modified");
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        count("hit");
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.getContentType() != null) {
+            response.getHeaders().setContentType(cached.getContentType());
+        }
+        response.getHeaders().setContentLength(cached.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    private static void applyValidators(HttpHeaders headers, String etag, Duration maxAge) {
+        // Replace the no-store defaults Spring Security adds upstream; the rules are the opt-in
+        headers.remove(HttpHeaders.PRAGMA);
+        headers.remove(HttpHeaders.EXPIRES);
+        headers.setETag(etag);
+        headers.setCacheControl(CacheControl.maxAge(maxAge).cachePublic());
+        List<String> vary = new ArrayList<>(headers.getVary());
+        if (vary.stream().noneMatch(HttpHeaders.ACCEPT::equalsIgnoreCase)) {
+            vary.add(HttpHeaders.ACCEPT);
+            headers.setVary(vary);
+        }
+    }
+
+    private static boolean matchesIfNoneMatch(ServerHttpRequest request, String etag) {
+        List<String> candidates;
+        try {
+            candidates = request.getHeaders().getIfNoneMatch();
+        } catch (IllegalArgumentException e) {
+            return false; // Malformed header; serve the full response
+        }
+        for (String candidate : candidates) {
+            String tag = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("gateway.cache.requests", "result", result).increment();
+    }
+
+    @Override
+    public int getOrder() {
+        // Must wrap the response before NettyWriteResponseFilter writes the upstream body
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CompiledRule {
+        private final PathPattern pattern;
+        private final Duration ttl;
+    }
+
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final String path;
+        private final MediaType representation;
+        private final Duration ttl;
+
+        CachingResponseDecorator(ServerWebExchange exchange, String key, String path, MediaType representation,
+                Duration ttl) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.path = path;
+            this.representation = representation;
+            this.ttl = ttl;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                return super.writeWith(body);
+            }
+            return DataBufferUtils.join(Flux.from(body)).flatMap(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+
+                String etag = "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+                HttpHeaders headers = getHeaders();
+                if (bytes.length <= properties.getMaxBodySize().toBytes()) {
+                    store.put(key, new CachedResponse(path, bytes, headers.getContentType(), etag,
+                            System.nanoTime() + ttl.toNanos()));
+                }
+                applyValidators(headers, etag, ttl);
+                headers.set(CACHE_STATUS_HEADER, "MISS");
+
+                if (matchesIfNoneMatch(exchange.getRequest(), etag)) {
+                    setStatusCode(HttpStatus.NOT_MODIFIED);
+                    headers.remove(HttpHeaders.CONTENT_LENGTH);
+                    return getDelegate().setComplete();
+                }
+                return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+
+        private boolean isCacheable() {
+            HttpHeaders headers = getHeaders();
+            String cacheControl = headers.getCacheControl();
+            // Upstream Spring Security always sends no-store, so only an explicit "private" opts out.
+            // A body in another representation than the key names would be replayed to the wrong clients.
+            MediaType contentType = headers.getContentType();
+            return HttpStatus.OK.equals(getStatusCode())
+                    && contentType != null && representation.isCompatibleWith(contentType)
+                    && !headers.containsKey(HttpHeaders.SET_COOKIE)
+                    && (cacheControl == null || !cacheControl.contains("private"));
+        }
+    }
+}
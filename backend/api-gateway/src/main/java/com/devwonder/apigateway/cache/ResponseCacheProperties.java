@@ -0,0 +1,47 @@
+package com.devwonder.apigateway.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gateway response cache settings bound from {@code gateway.response-cache}.
+ *
+ * Only GET requests whose path matches one of {@link #rules} are cached; the first
+ * matching rule decides the TTL. Query parameters outside {@link #keyParams} make a
+ * request uncacheable, so two requests sharing a cache key can never see different
+ * upstream responses.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled = true;
+
+    private int maxEntries = 2_000;
+
+    /** Responses larger than this are passed through without being stored. */
+    private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+    private DataSize maxTotalSize = DataSize.ofMegabytes(64);
+
+    private List<String> keyParams = new ArrayList<>(List.of("fields", "limit"));
+
+    /** Redis pub/sub channel carrying comma-separated path patterns to purge. */
+    private String purgeChannel = "gateway:cache:purge";
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        /** Spring path pattern on the external path, e.g. {@code /api/product/{id:\d+}}. */
+        private String path;
+
+        private Duration ttl = Duration.ofSeconds(60);
+    }
+}
@@ -0,0 +1,73 @@
+package com.devwonder.apigateway.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Applies purge requests published by product-service and blog-service.
+ *
+ * Messages are comma-separated path patterns on the external paths, e.g.
+ * {@code /api/product/products/**,/api/product/42}. Every gateway replica subscribes,
+ * so one publish clears the entry everywhere. The subscription resubscribes with
+ * backoff if Redis goes away; until then entries simply age out by TTL.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCachePurgeListener {
+
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final ResponseCacheStore store;
+    private final ResponseCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private Disposable subscription;
+
+    @PostConstruct
+    public void subscribe() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        subscription = listenerContainer.receive(ChannelTopic.of(properties.getPurgeChannel()))
+                .doOnError(e -> log.warn("Cache purge subscription lost, retrying: {}", e.toString()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> purge(message.getMessage()));
+    }
+
+    void purge(String message) {
+        try {
+            List<PathPattern> patterns = Arrays.stream(message.split(","))
+                    .map(String::trim)
+                    .filter(StringUtils::hasText)
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            int purged = store.purge(patterns);
+            meterRegistry.counter("gateway.cache.purged").increment(purged);
+            log.debug("Purged {} cached responses for {}", purged, message);
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed cache purge message '{}': {}", message, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.devwonder.apigateway.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-memory tier of the gateway response cache.
+ *
+ * Entries are capped both by count and by total body bytes. Expired entries are
+ * removed lazily on read and in bulk whenever a write pushes the store over either
+ * bound; if that is not enough, arbitrary entries are dropped until there is headroom.
+ * Public catalog pages are cheap to refetch, so eviction order does not need to be LRU.
+ */
+@Component
+public class ResponseCacheStore {
+
+    private final ConcurrentHashMap<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final ResponseCacheProperties properties;
+
+    public ResponseCacheStore(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("gateway.cache.entries", entries, Map::size)
+                .description("Responses held by the gateway cache")
+                .register(meterRegistry);
+        Gauge.builder("gateway.cache.bytes", totalBytes, AtomicLong::get)
+                .description("Body bytes held by the gateway cache")
+                .register(meterRegistry);
+    }
+
+    public CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.isExpired(System.nanoTime())) {
+            remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    public void put(String key, CachedResponse response) {
+        CachedResponse previous = entries.put(key, response);
+        totalBytes.addAndGet(response.getBody().length - (previous != null ? previous.getBody().length : 0));
+        if (entries.size() > properties.getMaxEntries()
+                || totalBytes.get() > properties.getMaxTotalSize().toBytes()) {
+            shrink();
+        }
+    }
+
+    /** Removes every entry whose path matches one of the patterns; returns how many went. */
+    public int purge(List<PathPattern> patterns) {
+        int purged = 0;
+        for (Map.Entry<String, CachedResponse> entry : entries.entrySet()) {
+            PathContainer path = PathContainer.parsePath(entry.getValue().getPath());
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    if (remove(entry.getKey(), entry.getValue())) {
+                        purged++;
+                    }
+                    break;
+                }
+            }
+        }
+        return purged;
+    }
+
+    public void clear() {
+        entries.forEach(this::remove);
+    }
+
+    private void shrink() {
+        long now = System.nanoTime();
+        entries.forEach((key, cached) -> {
+            if (cached.isExpired(now)) {
+                remove(key, cached);
+            }
+        });
+
+        int targetEntries = properties.getMaxEntries() - properties.getMaxEntries() / 10;
+        long targetBytes = properties.getMaxTotalSize().toBytes() - properties.getMaxTotalSize().toBytes() / 10;
+        Iterator<Map.Entry<String, CachedResponse>> it = entries.entrySet().iterator();
+        while (it.hasNext() && (entries.size() > targetEntries || totalBytes.get() > targetBytes)) {
+            Map.Entry<String, CachedResponse> entry = it.next();
+            remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private boolean remove(String key, CachedResponse cached) {
+        if (entries.remove(key, cached)) {
+            totalBytes.addAndGet(-cached.getBody().length);
+            return true;
+        }
+        return false;
+    }
+}
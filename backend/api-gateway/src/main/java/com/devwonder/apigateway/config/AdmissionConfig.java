@@ -0,0 +1,47 @@
+package com.devwonder.apigateway.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.devwonder.apigateway.admission.AdmissionController;
+import com.devwonder.apigateway.admission.AdmissionProperties;
+import com.devwonder.apigateway.admission.GradientConcurrencyLimit;
+import com.devwonder.apigateway.admission.PriorityClass;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionController admissionController(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        Map<PriorityClass, GradientConcurrencyLimit> limits = new EnumMap<>(PriorityClass.class);
+        for (PriorityClass priority : PriorityClass.values()) {
+            limits.put(priority, new GradientConcurrencyLimit(properties.limitFor(priority)));
+        }
+        AdmissionController controller = new AdmissionController(limits);
+
+        for (PriorityClass priority : PriorityClass.values()) {
+            Gauge.builder("gateway.admission.limit", controller, c -> c.getLimit(priority))
+                    .tag("class", priority.name())
+                    .description("Current adaptive concurrency limit of the class")
+                    .register(meterRegistry);
+            Gauge.builder("gateway.admission.inflight", controller, c -> c.getInFlight(priority))
+                    .tag("class", priority.name())
+                    .description("Requests of the class admitted and waiting on an upstream")
+                    .register(meterRegistry);
+            FunctionCounter.builder("gateway.admission.shed", controller, c -> c.getShed(priority))
+                    .tag("class", priority.name())
+                    .description("Requests refused because their class was at its limit")
+                    .register(meterRegistry);
+        }
+        return controller;
+    }
+}
@@ -0,0 +1,24 @@
+package com.devwonder.apigateway.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.devwonder.apigateway.hedging.HedgeBudget;
+
+@Configuration
+public class HedgingConfig {
+
+    @Bean
+    public HedgeBudget hedgeBudget(@Value("${gateway.hedging.budget-ratio:0.1}") double ratio,
+            @Value("${gateway.hedging.max-balance:100}") int maxBalance, MeterRegistry meterRegistry) {
+        HedgeBudget budget = new HedgeBudget(ratio, maxBalance);
+        Gauge.builder("gateway.hedging.budget", budget, HedgeBudget::available)
+                .description("Hedged requests the gateway can currently afford")
+                .register(meterRegistry);
+        return budget;
+    }
+}
@@ -0,0 +1,44 @@
+package com.devwonder.apigateway.config;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.devwonder.apigateway.ratelimit.LocalGcraRateLimiter;
+import com.devwonder.apigateway.ratelimit.RateLimitProperties;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public RedisScript<List<Long>> tokenBucketScript() {
+        // Loaded once; Spring Data sends EVALSHA and falls back to EVAL on a script cache miss
+        return (RedisScript<List<Long>>) (RedisScript) RedisScript.of(
+                new ClassPathResource("scripts/token_bucket.lua"), List.class);
+    }
+
+    @Bean
+    public LocalGcraRateLimiter localRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        RateLimitProperties.Local local = properties.getLocal();
+        LocalGcraRateLimiter limiter = new LocalGcraRateLimiter(
+                local.getMaxEntries(), local.getSweepInterval().toMillis());
+
+        Gauge.builder("gateway.ratelimit.local.entries", limiter, LocalGcraRateLimiter::size)
+                .description("Keys currently tracked by the in-process rate limiter")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.ratelimit.local.evictions", limiter, LocalGcraRateLimiter::evictions)
+                .description("Live keys dropped because the in-process table hit its size bound")
+                .register(meterRegistry);
+        return limiter;
+    }
+}
@@ -0,0 +1,11 @@
+package com.devwonder.apigateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.devwonder.apigateway.cache.ResponseCacheProperties;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+}
@@ -7,6 +7,10 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,7 +18,10 @@ import org.springframework.security.config.annotation.web.reactive.EnableWebFlux
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
 import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
@@ -25,6 +32,8 @@ import org.springframework.security.oauth2.server.resource.authentication.Reacti
 import org.springframework.security.web.server.SecurityWebFilterChain;
 
 import com.devwonder.apigateway.security.AllAuthoritiesAuthorizationManager;
+import com.devwonder.apigateway.security.CachingReactiveJwtDecoder;
+import com.devwonder.apigateway.security.TokenRevocationChecker;
 
 @Configuration
 @EnableWebFluxSecurity
@@ -34,6 +43,17 @@ public class SecurityConfig {
     private static final String ROLE_DEALER = "DEALER";
     private static final String ROLE_SYSTEM = "SYSTEM";
 
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<TokenRevocationChecker> tokenRevocationChecker;
+
+    @Value("${gateway.jwt-cache.max-entries:50000}")
+    private int jwtCacheMaxEntries;
+
+    public SecurityConfig(MeterRegistry meterRegistry, ObjectProvider<TokenRevocationChecker> tokenRevocationChecker) {
+        this.meterRegistry = meterRegistry;
+        this.tokenRevocationChecker = tokenRevocationChecker;
+    }
+
     @Bean
     public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http) {
         return http
@@ -113,6 +133,7 @@ public class SecurityConfig {
             // ADMIN/DEALER product endpoints (authentication + ADMIN or DEALER role required) - MUST BE FIRST
             .pathMatchers(HttpMethod.GET, "/api/product/products").permitAll()
             .pathMatchers(HttpMethod.GET, "/api/product/products/deleted").hasRole(ROLE_ADMIN)
+            .pathMatchers(HttpMethod.GET, "/api/product/exports/**").hasRole(ROLE_ADMIN)
             .pathMatchers(HttpMethod.POST, "/api/product/products").hasRole(ROLE_ADMIN)
             .pathMatchers(HttpMethod.PATCH, "/api/product/{id}").hasRole(ROLE_ADMIN)
             .pathMatchers(HttpMethod.PATCH, "/api/product/{id}/restore").hasRole(ROLE_ADMIN)
@@ -235,6 +256,7 @@ public class SecurityConfig {
     private void configureOrderServiceAuth(ServerHttpSecurity.AuthorizeExchangeSpec exchanges) {
         exchanges
             // ADMIN-only endpoints - MUST BE FIRST (specific patterns first)
+            .pathMatchers(HttpMethod.GET, "/api/order/exports/**").hasRole(ROLE_ADMIN)
             .pathMatchers(HttpMethod.GET, "/api/order/orders/search").hasRole(ROLE_ADMIN)
             .pathMatchers(HttpMethod.GET, "/api/order/orders/deleted").hasRole(ROLE_ADMIN)
             .pathMatchers(HttpMethod.PATCH, "/api/order/orders/*/payment-status").hasRole(ROLE_ADMIN)
@@ -340,6 +362,9 @@ public class SecurityConfig {
      * Default Spring Security behavior adds 60 seconds clock skew tolerance:
      * - Token with 5s expiration = actually valid for 65s
      * - This bean sets clock skew to 0s for precise expiration
+     *
+     * Verified tokens are cached until their exp, so signature verification runs once per
+     * token instead of once per request (see CachingReactiveJwtDecoder).
      */
     @Bean
     public ReactiveJwtDecoder jwtDecoder() {
@@ -347,15 +372,28 @@ public class SecurityConfig {
         NimbusReactiveJwtDecoder jwtDecoder = NimbusReactiveJwtDecoder
             .withJwkSetUri("http://auth-service:8081/auth/.well-known/jwks.json")
             .jwsAlgorithm(SignatureAlgorithm.RS256)
+            .jwsAlgorithm(SignatureAlgorithm.ES256)  // auth.signing-keys.algorithm may select either
             .build();
 
-        // Configure validator with ZERO clock skew (no tolerance)
+        TokenRevocationChecker revocationChecker =
+                tokenRevocationChecker.getIfAvailable(() -> TokenRevocationChecker.NONE);
+
+        // Configure validator with ZERO clock skew (no tolerance) and reject logged-out tokens
         OAuth2TokenValidator<Jwt> withClockSkew = new DelegatingOAuth2TokenValidator<>(
-            new JwtTimestampValidator(Duration.ofSeconds(0))  // 0 seconds clock skew
+            new JwtTimestampValidator(Duration.ofSeconds(0)),  // 0 seconds clock skew
+            revocationValidator(revocationChecker)
         );
 
         jwtDecoder.setJwtValidator(withClockSkew);
-        return jwtDecoder;
+        return new CachingReactiveJwtDecoder(jwtDecoder, revocationChecker, jwtCacheMaxEntries, meterRegistry);
+    }
+
+    private OAuth2TokenValidator<Jwt> revocationValidator(TokenRevocationChecker revocationChecker) {
+        OAuth2Error revoked = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "Token has been revoked", null);
+        return jwt -> jwt.getIssuedAt() != null
+                && revocationChecker.isRevoked(jwt.getSubject(), jwt.getIssuedAt().toEpochMilli())
+                ? OAuth2TokenValidatorResult.failure(revoked)
+                : OAuth2TokenValidatorResult.success();
     }
 
     // CORS configuration moved to YAML (api-gateway.yml) for easier maintenance
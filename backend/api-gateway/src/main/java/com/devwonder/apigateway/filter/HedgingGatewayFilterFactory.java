@@ -0,0 +1,229 @@
+package com.devwonder.apigateway.filter;
+
+import com.devwonder.apigateway.hedging.HedgeBudget;
+import com.devwonder.apigateway.hedging.LatencyTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_HEADER_NAMES;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.ORIGINAL_RESPONSE_CONTENT_TYPE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.PRESERVE_HOST_HEADER_ATTRIBUTE;
+
+/**
+ * Opt-in request hedging for idempotent GET routes.
+ *
+ * Takes over from {@code NettyRoutingFilter} for GETs: the request is sent upstream
+ * and, if no response headers have arrived after the route's recent p95 (clamped to
+ * {@code minDelay..maxDelay}), a second copy is sent. Whichever answers first is
+ * handed to {@code NettyWriteResponseFilter} exactly as a normal routed response
+ * would be, and the other is cancelled, which closes its connection. A primary that
+ * fails without a response sends the hedge immediately, and the request only fails
+ * once neither copy can answer. Hedges are paid for from the shared
+ * {@link HedgeBudget}; when it is empty the request simply waits for the primary.
+ *
+ * <pre>
+ * filters:
+ *   - name: Hedging
+ *     args:
+ *       min-delay: 20ms
+ *       max-delay: 1s
+ * </pre>
+ */
+@Component
+public class HedgingGatewayFilterFactory extends AbstractGatewayFilterFactory<HedgingGatewayFilterFactory.Config> {
+
+    private final HttpClient httpClient;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final HedgeBudget budget;
+    private final MeterRegistry meterRegistry;
+
+    public HedgingGatewayFilterFactory(HttpClient httpClient, ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+            HedgeBudget budget, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.httpClient = httpClient;
+        this.headersFilters = headersFilters;
+        this.budget = budget;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        LatencyTracker tracker = new LatencyTracker(config.getPercentile(), config.getWindow().toNanos(),
+                config.getMinSamples());
+
+        // After load balancing has fixed the request URL, and in place of NettyRoutingFilter
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            URI url = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+            if (exchange.getRequest().getMethod() != HttpMethod.GET || url == null
+                    || ServerWebExchangeUtils.isAlreadyRouted(exchange)
+                    || !("http".equals(url.getScheme()) || "https".equals(url.getScheme()))) {
+                return chain.filter(exchange);
+            }
+            ServerWebExchangeUtils.setAlreadyRouted(exchange);
+            budget.deposit();
+
+            String routeId = routeId(exchange);
+            HttpHeaders requestHeaders = HttpHeadersFilter.filterRequest(
+                    headersFilters.getIfAvailable(Collections::emptyList), exchange);
+            long start = System.nanoTime();
+
+            // A primary that fails outright releases the hedge at once instead of after the delay
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            Sinks.Empty<Void> primaryFailed = Sinks.empty();
+            Mono<Upstream> primary = send(exchange, url, requestHeaders, false)
+                    .doOnError(e -> {
+                        primaryError.set(e);
+                        primaryFailed.tryEmitEmpty();
+                    });
+            Mono<Upstream> hedge = Mono.firstWithSignal(Mono.delay(hedgeDelay(tracker, config)).then(),
+                            primaryFailed.asMono())
+                    .then(Mono.defer(() -> {
+                        if (!budget.tryWithdraw()) {
+                            count(routeId, "budget_exhausted");
+                            return Mono.empty();
+                        }
+                        count(routeId, "hedged");
+                        return send(exchange, url, requestHeaders, true);
+                    }));
+
+            // First response wins; an error or a skipped hedge only counts once both sides are out
+            return Mono.firstWithValue(primary, hedge)
+                    // A loser whose response arrived just as the race was decided is dropped here
+                    .doOnDiscard(Upstream.class, Upstream::release)
+                    .onErrorMap(e -> primaryError.get() != null ? primaryError.get() : e)
+                    .flatMap(winner -> {
+                        tracker.record(System.nanoTime() - start);
+                        if (winner.isHedge()) {
+                            count(routeId, "hedge_won");
+                        }
+                        applyResponse(exchange, winner);
+                        return chain.filter(exchange);
+                    });
+        }, ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 2);
+    }
+
+    private static Duration hedgeDelay(LatencyTracker tracker, Config config) {
+        long estimateMicros = tracker.estimateMicros();
+        if (estimateMicros < 0) {
+            return config.getInitialDelay();
+        }
+        Duration estimate = Duration.ofNanos(estimateMicros * 1000);
+        if (estimate.compareTo(config.getMinDelay()) < 0) {
+            return config.getMinDelay();
+        }
+        return estimate.compareTo(config.getMaxDelay()) > 0 ? config.getMaxDelay() : estimate;
+    }
+
+    private Mono<Upstream> send(ServerWebExchange exchange, URI url, HttpHeaders requestHeaders, boolean hedge) {
+        boolean preserveHost = exchange.getAttributeOrDefault(PRESERVE_HOST_HEADER_ATTRIBUTE, false);
+        String host = exchange.getRequest().getHeaders().getFirst(HttpHeaders.HOST);
+        return httpClient
+                .headers(headers -> {
+                    requestHeaders.forEach(headers::set);
+                    headers.remove(HttpHeaders.HOST);
+                    if (preserveHost && host != null) {
+                        headers.set(HttpHeaders.HOST, host);
+                    }
+                })
+                .get()
+                .uri(url)
+                .responseConnection((response, connection) -> Mono.just(new Upstream(response, connection, hedge)))
+                .single();
+    }
+
+    /** Mirrors what NettyRoutingFilter records so NettyWriteResponseFilter streams the winner's body. */
+    private void applyResponse(ServerWebExchange exchange, Upstream upstream) {
+        HttpClientResponse clientResponse = upstream.getResponse();
+        HttpHeaders headers = new HttpHeaders();
+        clientResponse.responseHeaders().forEach(entry -> headers.add(entry.getKey(), entry.getValue()));
+
+        String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        if (contentType != null) {
+            exchange.getAttributes().put(ORIGINAL_RESPONSE_CONTENT_TYPE_ATTR, contentType);
+        }
+        exchange.getAttributes().put(CLIENT_RESPONSE_ATTR, clientResponse);
+        exchange.getAttributes().put(CLIENT_RESPONSE_CONN_ATTR, upstream.getConnection());
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(clientResponse.status().code()));
+
+        HttpHeaders filtered = HttpHeadersFilter.filter(headersFilters.getIfAvailable(Collections::emptyList),
+                headers, exchange, HttpHeadersFilter.Type.RESPONSE);
+        if (!filtered.containsKey(HttpHeaders.TRANSFER_ENCODING) && filtered.containsKey(HttpHeaders.CONTENT_LENGTH)) {
+            response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+        }
+        exchange.getAttributes().put(CLIENT_RESPONSE_HEADER_NAMES, filtered.keySet());
+        response.getHeaders().addAll(filtered);
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "none";
+    }
+
+    private void count(String routeId, String result) {
+        meterRegistry.counter("gateway.hedging.requests", "route", routeId, "result", result).increment();
+    }
+
+    @Data
+    public static class Config {
+
+        /** Latency quantile after which a hedge is sent. */
+        private double percentile = 0.95;
+
+        /** Used until the route has a full window of samples. */
+        private Duration initialDelay = Duration.ofMillis(300);
+
+        private Duration minDelay = Duration.ofMillis(20);
+
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+        /** How often the quantile estimate is refreshed. */
+        private Duration window = Duration.ofSeconds(10);
+
+        private int minSamples = 50;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Upstream {
+        private final HttpClientResponse response;
+        private final Connection connection;
+        private final boolean hedge;
+
+        /** Closes a response nobody will read; its connection cannot go back to the pool half consumed. */
+        void release() {
+            connection.dispose();
+        }
+    }
+}
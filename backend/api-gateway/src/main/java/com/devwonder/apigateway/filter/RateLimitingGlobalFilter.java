@@ -1,101 +1,201 @@
 package com.devwonder.apigateway.filter;
 
-// Update the import to the correct package, for example:
+import com.devwonder.apigateway.dto.ErrorResponse;
+import com.devwonder.apigateway.ratelimit.LocalGcraRateLimiter;
+import com.devwonder.apigateway.ratelimit.RateLimitDecision;
+import com.devwonder.apigateway.ratelimit.RateLimitProperties;
+import com.devwonder.apigateway.ratelimit.RedisTokenBucketRateLimiter;
 import com.devwonder.apigateway.util.RequestUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.security.MessageDigest;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RateLimitingGlobalFilter implements GlobalFilter, Ordered {
-    
-    private static final int MAX_REQUESTS_PER_MINUTE = 300;
-    private static final long WINDOW_SIZE_MILLIS = 60 * 1000L; // 1 minute in milliseconds
-    
-    private final ConcurrentHashMap<String, RequestCounter> requestCounts = new ConcurrentHashMap<>();
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final RedisTokenBucketRateLimiter rateLimiter;
+    private final LocalGcraRateLimiter localRateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
-        String clientId = RequestUtil.getClientIpAddress(request);
         String path = request.getPath().value();
-        
+
         // Skip rate limiting for health checks, static resources, and API documentation
-        if (path.contains("/actuator/") ||
-            path.contains("/health") ||
-            path.contains("/swagger-ui/") ||
-            path.contains("/v3/api-docs") ||
-            path.contains("/swagger-resources/") ||
-            path.contains("/webjars/")) {
+        if (!properties.isEnabled() || isExcluded(path)) {
             return chain.filter(exchange);
         }
-        
-        RequestCounter counter = requestCounts.computeIfAbsent(clientId, k -> new RequestCounter());
-        
-        long now = Instant.now().toEpochMilli();
-        
-        synchronized (counter) {
-            // Reset counter if window has passed
-            if (now - counter.windowStart > WINDOW_SIZE_MILLIS) {
-                counter.reset(now);
+
+        return resolveClient(exchange)
+                .flatMap(client -> checkLimits(exchange, client)
+                        .flatMap(decision -> {
+                            if (decision.isAllowed()) {
+                                if (decision.getRemaining() >= 0) {
+                                    exchange.getResponse().getHeaders()
+                                            .set("X-RateLimit-Remaining", Long.toString(decision.getRemaining()));
+                                }
+                                return chain.filter(exchange);
+                            }
+                            return handleRateLimitExceeded(exchange, client, decision);
+                        }));
+    }
+
+    private boolean isExcluded(String path) {
+        for (String excluded : properties.getExcludedPaths()) {
+            if (path.contains(excluded)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Identifies the caller and picks its policy. A configured API key wins over the JWT subject,
+     * which wins over the client IP for anonymous traffic. Unknown keys get no bucket of their own,
+     * otherwise rotating the header would mint fresh buckets and sidestep the per-IP limit.
+     */
+    private Mono<Client> resolveClient(ServerWebExchange exchange) {
+        String apiKey = exchange.getRequest().getHeaders().getFirst(API_KEY_HEADER);
+        if (StringUtils.hasText(apiKey)) {
+            String configuredKey = findConfiguredApiKey(apiKey);
+            if (configuredKey != null) {
+                String digest = DigestUtils.md5DigestAsHex(configuredKey.getBytes(StandardCharsets.UTF_8));
+                return Mono.just(new Client("key", "key:" + digest, properties.getApiKeys().get(configuredKey)));
+            }
+        }
+
+        Client anonymous = new Client("ip",
+                "ip:" + RequestUtil.getClientIpAddress(exchange.getRequest()), properties.getDefaultPolicy());
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .map(this::authenticatedClient)
+                .defaultIfEmpty(anonymous);
+    }
+
+    // Compares against every configured key without exiting early, so timing reveals neither a key nor a prefix
+    private String findConfiguredApiKey(String apiKey) {
+        byte[] presented = apiKey.getBytes(StandardCharsets.UTF_8);
+        String match = null;
+        for (String configured : properties.getApiKeys().keySet()) {
+            if (MessageDigest.isEqual(presented, configured.getBytes(StandardCharsets.UTF_8))) {
+                match = configured;
+            }
+        }
+        return match;
+    }
+
+    private Client authenticatedClient(Authentication authentication) {
+        RateLimitProperties.Policy policy = null;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name == null || !name.startsWith(ROLE_PREFIX)) {
+                continue;
             }
-            
-            if (counter.count.get() >= MAX_REQUESTS_PER_MINUTE) {
-                System.out.println("Rate limit exceeded for client: " + clientId);
-                return handleRateLimitExceeded(exchange);
+            RateLimitProperties.Policy rolePolicy = properties.getRoles().get(name.substring(ROLE_PREFIX.length()));
+            if (rolePolicy != null && (policy == null || rolePolicy.getCapacity() > policy.getCapacity())) {
+                policy = rolePolicy;
             }
-            
-            counter.count.incrementAndGet();
         }
-        
-        return chain.filter(exchange);
+        return new Client("user", "user:" + authentication.getName(),
+                policy != null ? policy : properties.getDefaultPolicy());
     }
 
-    private Mono<Void> handleRateLimitExceeded(ServerWebExchange exchange) {
+    private Mono<RateLimitDecision> checkLimits(ServerWebExchange exchange, Client client) {
+        String prefix = properties.getKeyPrefix();
+        Mono<RateLimitDecision> callerCheck = tryAcquire(prefix + ":" + client.getKey(), client.getPolicy());
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        RateLimitProperties.Policy routePolicy = route != null ? properties.getRoutes().get(route.getId()) : null;
+        if (routePolicy == null) {
+            return callerCheck;
+        }
+
+        String routeKey = prefix + ":route:" + route.getId() + ":" + client.getKey();
+        return callerCheck.flatMap(decision -> decision.isAllowed()
+                ? tryAcquire(routeKey, routePolicy)
+                : Mono.just(decision));
+    }
+
+    private Mono<RateLimitDecision> tryAcquire(String key, RateLimitProperties.Policy policy) {
+        if (properties.getMode() == RateLimitProperties.Mode.LOCAL) {
+            return Mono.just(localRateLimiter.tryAcquire(key, policy));
+        }
+        return rateLimiter.tryAcquire(key, policy);
+    }
+
+    private Mono<Void> handleRateLimitExceeded(ServerWebExchange exchange, Client client,
+            RateLimitDecision decision) {
+        ServerHttpRequest request = exchange.getRequest();
+        long retryAfterSeconds = Math.max(1, (decision.getRetryAfterMillis() + 999) / 1000);
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        // Tag by client type only; per-client tags would make the metric unbounded
+        meterRegistry.counter("gateway.ratelimit.rejected",
+                "route", route != null ? route.getId() : "none",
+                "client", client.getType()).increment();
+        log.debug("Rate limit exceeded for {} {} ({})", request.getMethod(), request.getPath(), client.getKey());
+
         ServerHttpResponse response = exchange.getResponse();
         response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
-        response.getHeaders().add("Content-Type", MediaType.APPLICATION_JSON_VALUE);
-        response.getHeaders().add("Retry-After", "60");
-        
-        String body = String.format(
-            "{\"error\":\"Rate limit exceeded\",\"message\":\"Too many requests. Try again later.\",\"timestamp\":\"%s\"}",
-            Instant.now()
-        );
-        
-        var buffer = response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8));
-        return response.writeWith(Mono.just(buffer));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set("Retry-After", Long.toString(retryAfterSeconds));
+        response.getHeaders().set("X-RateLimit-Remaining", "0");
+
+        ErrorResponse error = ErrorResponse.of(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded",
+                "Too many requests. Try again later.", request.getPath().value());
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(error);
+        } catch (JsonProcessingException e) {
+            body = "{\"error\":\"Rate limit exceeded\"}".getBytes(StandardCharsets.UTF_8);
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
     }
 
     @Override
     public int getOrder() {
-        return -200; // Execute before authentication
+        return -200; // First global filter; the security context is already populated by then
     }
 
-    private static class RequestCounter {
-        private final AtomicInteger count = new AtomicInteger(0);
-        private volatile long windowStart;
-        
-        public RequestCounter() {
-            this.windowStart = Instant.now().toEpochMilli();
-        }
-        
-        public void reset(long newWindowStart) {
-            this.count.set(0);
-            this.windowStart = newWindowStart;
-        }
+    @Getter
+    @AllArgsConstructor
+    private static class Client {
+        private final String type;
+        private final String key;
+        private final RateLimitProperties.Policy policy;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,274 @@
+package com.devwonder.apigateway.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Opt-in single-flight for idempotent reads: concurrent GETs with the same route,
+ * path, query and authorization scope share one upstream call.
+ *
+ * The first request (the leader) is proxied normally while its body is copied as it
+ * streams out. Requests arriving while it is in flight wait up to {@code maxWait} for
+ * that copy and replay it, whatever its status. If the leader errors, is cancelled,
+ * takes longer than a follower's {@code maxWait} or grows past {@code maxBodySize},
+ * the affected followers simply make their own upstream call.
+ *
+ * <pre>
+ * filters:
+ *   - name: RequestCoalescing
+ *     args:
+ *       scope: ROLES        # SUBJECT (default) | ROLES | NONE
+ *       max-wait: 3s
+ *       max-body-size: 1MB
+ * </pre>
+ */
+@Component
+public class RequestCoalescingGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    /**
+     * Headers describing the leader's own connection (RFC 9110 section 7.6.1) plus its
+     * framing; a replay is a fresh, fully buffered body with its own Content-Length.
+     */
+    private static final List<String> CONNECTION_HEADERS = List.of(
+            HttpHeaders.CONNECTION, "Keep-Alive", HttpHeaders.PROXY_AUTHENTICATE, HttpHeaders.PROXY_AUTHORIZATION,
+            HttpHeaders.TE, HttpHeaders.TRAILER, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.UPGRADE,
+            HttpHeaders.CONTENT_LENGTH);
+
+    private final ConcurrentHashMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescingGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // Same slot as ModifyResponseBody: the decorator must be installed before the
+        // Netty write filter copies the upstream body into the response.
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+            return resolveScope(config.getScope()).flatMap(scope -> {
+                String key = buildKey(exchange, scope);
+                Flight flight = new Flight();
+                Flight existing = inFlight.putIfAbsent(key, flight);
+
+                if (existing != null) {
+                    return follow(existing, config)
+                            .flatMap(shared -> shared.isPresent()
+                                    ? replay(exchange, shared.get())
+                                    : countAndProceed(exchange, chain));
+                }
+
+                count(exchange, "leader");
+                LeaderResponseDecorator decorator = new LeaderResponseDecorator(
+                        exchange.getResponse(), flight, config.getMaxBodySize().toBytes());
+                return chain.filter(exchange.mutate().response(decorator).build())
+                        .doFinally(signal -> {
+                            flight.abandon();
+                            inFlight.remove(key, flight);
+                        });
+            });
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<String> resolveScope(Scope scope) {
+        if (scope == Scope.NONE) {
+            return Mono.just("");
+        }
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .filter(Authentication::isAuthenticated)
+                .map(auth -> scope == Scope.SUBJECT
+                        ? auth.getName()
+                        : auth.getAuthorities().stream()
+                                .map(GrantedAuthority::getAuthority)
+                                .sorted()
+                                .collect(Collectors.joining(",")))
+                .defaultIfEmpty(ANONYMOUS);
+    }
+
+    private static String buildKey(ServerWebExchange exchange, String scope) {
+        ServerHttpRequest request = exchange.getRequest();
+        String query = request.getURI().getRawQuery();
+        return routeId(exchange) + '|' + request.getPath().value() + '?' + (query != null ? query : "") + '|' + scope;
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "none";
+    }
+
+    private Mono<Optional<SharedResponse>> follow(Flight flight, Config config) {
+        return flight.result()
+                .timeout(config.getMaxWait())
+                .map(Optional::of)
+                .onErrorResume(TimeoutException.class, e -> Mono.empty())
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    private Mono<Void> countAndProceed(ServerWebExchange exchange, GatewayFilterChain chain) {
+        count(exchange, "fallback");
+        return chain.filter(exchange);
+    }
+
+    private Mono<Void> replay(ServerWebExchange exchange, SharedResponse shared) {
+        count(exchange, "follower");
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(shared.getStatus());
+        HttpHeaders headers = response.getHeaders();
+        // Keep headers this exchange already set (e.g. its own rate limit budget)
+        shared.getHeaders().forEach((name, values) -> {
+            if (!headers.containsKey(name)) {
+                headers.put(name, values);
+            }
+        });
+        headers.setContentLength(shared.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.getBody())));
+    }
+
+    private void count(ServerWebExchange exchange, String role) {
+        meterRegistry.counter("gateway.coalescing.requests", "route", routeId(exchange), "role", role).increment();
+    }
+
+    public enum Scope {
+        /** Share only between requests from the same user (anonymous callers share one scope). */
+        SUBJECT,
+        /** Share between users holding exactly the same authorities. */
+        ROLES,
+        /** Share between everyone; only for responses that never depend on the caller. */
+        NONE
+    }
+
+    @Data
+    public static class Config {
+
+        private Scope scope = Scope.SUBJECT;
+
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class SharedResponse {
+        private final HttpStatusCode status;
+        private final HttpHeaders headers;
+        private final byte[] body;
+    }
+
+    private static class Flight {
+
+        private final Sinks.One<SharedResponse> sink = Sinks.one();
+
+        Mono<SharedResponse> result() {
+            return sink.asMono();
+        }
+
+        void publish(SharedResponse response) {
+            sink.tryEmitValue(response);
+        }
+
+        /** Releases followers to make their own call; a no-op once a response was published. */
+        void abandon() {
+            sink.tryEmitEmpty();
+        }
+    }
+
+    /** Streams the leader's body through untouched while keeping a copy for followers. */
+    private static class LeaderResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final Flight flight;
+        private final long maxBodySize;
+        private final ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        private boolean overflowed;
+
+        LeaderResponseDecorator(ServerHttpResponse delegate, Flight flight, long maxBodySize) {
+            super(delegate);
+            this.flight = flight;
+            this.maxBodySize = maxBodySize;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body)
+                    .doOnNext(this::capture)
+                    .doOnComplete(this::publish));
+        }
+
+        private void capture(DataBuffer buffer) {
+            if (overflowed) {
+                return;
+            }
+            if (copy.size() + buffer.readableByteCount() > maxBodySize) {
+                overflowed = true;
+                flight.abandon();
+                return;
+            }
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer chunk = iterator.next();
+                    byte[] bytes = new byte[chunk.remaining()];
+                    chunk.get(bytes);
+                    copy.writeBytes(bytes);
+                }
+            }
+        }
+
+        private void publish() {
+            HttpStatusCode status = getStatusCode();
+            if (overflowed || status == null) {
+                flight.abandon();
+                return;
+            }
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(getHeaders());
+            // Connection lists further per-hop headers by name
+            headers.getConnection().forEach(headers::remove);
+            CONNECTION_HEADERS.forEach(headers::remove);
+            flight.publish(new SharedResponse(status, headers, copy.toByteArray()));
+        }
+    }
+}
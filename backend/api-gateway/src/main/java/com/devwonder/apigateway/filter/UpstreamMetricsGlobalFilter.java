@@ -0,0 +1,72 @@
+package com.devwonder.apigateway.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times each call from the moment the gateway hands it to an upstream instance until
+ * that instance's response headers arrive, as {@code gateway.upstream.requests}.
+ *
+ * Runs after load balancing so the {@code upstream} tag is the concrete host:port
+ * that served the call. Together with Spring Cloud Gateway's own
+ * {@code spring.cloud.gateway.requests} (whole exchange, per route) this separates
+ * time spent inside the gateway from time spent waiting on a backend.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamMetricsGlobalFilter implements GlobalFilter, Ordered {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> record(exchange, signal, System.nanoTime() - start));
+    }
+
+    private void record(ServerWebExchange exchange, SignalType signal, long elapsedNanos) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        URI upstream = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        Timer.builder("gateway.upstream.requests")
+                .description("Time until the upstream returned response headers")
+                .tag("route", route != null ? route.getId() : "none")
+                .tag("upstream", upstream != null ? upstream.getHost() + ":" + upstream.getPort() : "none")
+                .tag("method", exchange.getRequest().getMethod().name())
+                .tag("status", statusTag(exchange, signal))
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String statusTag(ServerWebExchange exchange, SignalType signal) {
+        if (signal == SignalType.CANCEL) {
+            return "CANCELLED";
+        }
+        if (signal == SignalType.ON_ERROR) {
+            return "ERROR";
+        }
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null ? status.value() / 100 + "xx" : "UNKNOWN";
+    }
+
+    @Override
+    public int getOrder() {
+        // The request URL now points at the chosen instance; only NettyRoutingFilter follows
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
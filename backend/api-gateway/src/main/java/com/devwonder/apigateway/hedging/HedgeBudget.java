@@ -0,0 +1,46 @@
+package com.devwonder.apigateway.hedging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gateway-wide allowance for hedged requests, in the style of Finagle's retry budget.
+ *
+ * Every hedge-eligible request deposits {@code ratio} of a token and every hedge
+ * spends a whole one, so over time hedges can add at most {@code ratio} extra load
+ * however slow the backends get. The balance is capped so a long quiet period cannot
+ * bank a burst of hedges for the next incident.
+ */
+public class HedgeBudget {
+
+    private static final long MILLIS_PER_TOKEN = 1000;
+
+    private final long depositMillis;
+    private final long maxBalanceMillis;
+    private final AtomicLong balance = new AtomicLong();
+
+    public HedgeBudget(double ratio, int maxBalance) {
+        this.depositMillis = Math.max(1, Math.round(ratio * MILLIS_PER_TOKEN));
+        this.maxBalanceMillis = maxBalance * MILLIS_PER_TOKEN;
+    }
+
+    public void deposit() {
+        balance.accumulateAndGet(depositMillis, (current, add) -> Math.min(maxBalanceMillis, current + add));
+    }
+
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < MILLIS_PER_TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - MILLIS_PER_TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    /** Whole hedges currently affordable. */
+    public long available() {
+        return balance.get() / MILLIS_PER_TOKEN;
+    }
+}
@@ -0,0 +1,88 @@
+package com.devwonder.apigateway.hedging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rolling latency quantile for one route, cheap enough to update on every request.
+ *
+ * Samples are counted in log-linear buckets (four per power of two microseconds,
+ * so roughly 20% resolution). At the end of each window the quantile is computed from
+ * that window's counts and kept until the next rotation; windows with too few samples
+ * leave the previous estimate in place.
+ */
+public class LatencyTracker {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKETS = SUB_BUCKETS * 27; // up to ~2 minutes in microseconds
+
+    private final double quantile;
+    private final long windowNanos;
+    private final int minSamples;
+    private final AtomicReference<AtomicLongArray> counts = new AtomicReference<>(new AtomicLongArray(BUCKETS));
+    private final AtomicLong windowEnd;
+    private volatile long estimateMicros = -1;
+
+    public LatencyTracker(double quantile, long windowNanos, int minSamples) {
+        this.quantile = quantile;
+        this.windowNanos = windowNanos;
+        this.minSamples = minSamples;
+        this.windowEnd = new AtomicLong(System.nanoTime() + windowNanos);
+    }
+
+    public void record(long latencyNanos) {
+        long now = System.nanoTime();
+        long end = windowEnd.get();
+        if (now - end >= 0 && windowEnd.compareAndSet(end, now + windowNanos)) {
+            AtomicLongArray finished = counts.getAndSet(new AtomicLongArray(BUCKETS));
+            long computed = quantileOf(finished);
+            if (computed >= 0) {
+                estimateMicros = computed;
+            }
+        }
+        counts.get().incrementAndGet(bucket(Math.max(0, latencyNanos / 1000)));
+    }
+
+    /** Latest quantile estimate in microseconds, or {@code -1} before the first full window. */
+    public long estimateMicros() {
+        return estimateMicros;
+    }
+
+    private long quantileOf(AtomicLongArray window) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += window.get(i);
+        }
+        if (total < minSamples) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += window.get(i);
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) ((micros >>> (exponent - 2)) & (SUB_BUCKETS - 1));
+        return Math.min(BUCKETS - 1, exponent * SUB_BUCKETS + sub);
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exponent - 2)) - 1;
+    }
+}
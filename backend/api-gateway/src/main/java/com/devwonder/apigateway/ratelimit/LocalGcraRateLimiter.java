@@ -0,0 +1,131 @@
+package com.devwonder.apigateway.ratelimit;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process limiter using the generic cell rate algorithm (GCRA).
+ *
+ * Each key is a single {@link AtomicLong} holding its theoretical arrival time (TAT),
+ * updated with a CAS loop, so callers never block each other. A key whose TAT is in the
+ * past has a full bucket again and carries no information, which makes expiry free:
+ * sweeps simply drop those entries. The table is capped at {@code maxEntries}; when a
+ * sweep cannot get under the cap, the live entries closest to refilling are evicted down
+ * to 90% of the cap, so an evicted caller loses as little budget as possible and the
+ * next sweep is at least a tenth of the cap of new keys away.
+ *
+ * Used when the gateway runs in local mode and as the fallback while Redis is down.
+ */
+public class LocalGcraRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final ConcurrentHashMap<String, AtomicLong> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long sweepIntervalNanos;
+    private final LongSupplier clock;
+    private final AtomicLong nextSweepAt;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final LongAdder evictions = new LongAdder();
+
+    public LocalGcraRateLimiter(int maxEntries, long sweepIntervalMillis) {
+        this(maxEntries, sweepIntervalMillis, System::nanoTime);
+    }
+
+    LocalGcraRateLimiter(int maxEntries, long sweepIntervalMillis, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.sweepIntervalNanos = sweepIntervalMillis * NANOS_PER_MILLI;
+        this.clock = clock;
+        this.nextSweepAt = new AtomicLong(clock.getAsLong() + sweepIntervalNanos);
+    }
+
+    public RateLimitDecision tryAcquire(String key, RateLimitProperties.Policy policy) {
+        // Properties are validated at startup; this guards policies built in code
+        if (!(policy.getRefillPerSecond() > 0)) {
+            throw new IllegalArgumentException("refillPerSecond must be positive, was " + policy.getRefillPerSecond());
+        }
+        long now = clock.getAsLong();
+        long interval = Math.max(1L, (long) (NANOS_PER_SECOND / policy.getRefillPerSecond()));
+        long burst = interval * Math.max(1L, policy.getCapacity());
+
+        maybeSweep(now);
+        AtomicLong tat = entries.get(key);
+        if (tat == null) {
+            if (entries.size() >= maxEntries) {
+                trySweep(now);
+            }
+            tat = entries.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+
+        while (true) {
+            long current = tat.get();
+            long next = (isExpired(current, now) ? now : current) + interval;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                return RateLimitDecision.rejected((wait + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI);
+            }
+            if (tat.compareAndSet(current, next)) {
+                return RateLimitDecision.allowed((burst - (next - now)) / interval);
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private static boolean isExpired(long tat, long now) {
+        return tat == Long.MIN_VALUE || tat - now <= 0;
+    }
+
+    private void maybeSweep(long now) {
+        long due = nextSweepAt.get();
+        if (now - due >= 0 && nextSweepAt.compareAndSet(due, now + sweepIntervalNanos)) {
+            trySweep(now);
+        }
+    }
+
+    private void trySweep(long now) {
+        // Callers that find a sweep in progress insert anyway; the table overshoots the cap briefly
+        // instead of every new key paying for its own full scan
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sweep(now);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void sweep(long now) {
+        entries.values().removeIf(tat -> isExpired(tat.get(), now));
+
+        // Still over the cap: every entry is live, so shed the ones nearest a full bucket.
+        int excess = entries.size() - (maxEntries - maxEntries / 10);
+        if (excess <= 0) {
+            return;
+        }
+        long[] tats = entries.values().stream().mapToLong(AtomicLong::get).toArray();
+        Arrays.sort(tats);
+        long cutoff = tats[Math.min(excess, tats.length) - 1];
+        Iterator<AtomicLong> values = entries.values().iterator();
+        while (excess > 0 && values.hasNext()) {
+            if (values.next().get() - cutoff <= 0) {
+                values.remove();
+                evictions.increment();
+                excess--;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.devwonder.apigateway.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a single rate limit check. {@code remaining} is -1 when unknown, which
+ * happens when the limiter fails open.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RateLimitDecision {
+
+    private static final RateLimitDecision UNKNOWN = new RateLimitDecision(true, -1, 0);
+
+    private final boolean allowed;
+
+    private final long remaining;
+
+    private final long retryAfterMillis;
+
+    public static RateLimitDecision allowed(long remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+
+    public static RateLimitDecision rejected(long retryAfterMillis) {
+        return new RateLimitDecision(false, 0, retryAfterMillis);
+    }
+
+    public static RateLimitDecision unknown() {
+        return UNKNOWN;
+    }
+}
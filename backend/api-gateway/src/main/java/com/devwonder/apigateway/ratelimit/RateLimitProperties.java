@@ -0,0 +1,116 @@
+package com.devwonder.apigateway.ratelimit;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate limit settings bound from {@code gateway.rate-limit}.
+ *
+ * Every caller has one bucket, sized by the first matching policy: API key, then the
+ * most generous policy among the caller's roles, then {@link #defaultPolicy}. A route
+ * listed under {@link #routes} also gets its own per-caller bucket, and a request
+ * must pass both.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** {@code REDIS} shares buckets across replicas; {@code LOCAL} keeps them per instance. */
+    private Mode mode = Mode.REDIS;
+
+    private String keyPrefix = "rate-limit";
+
+    private Policy defaultPolicy = new Policy(300, 5.0);
+
+    /** Keyed by gateway route id, e.g. {@code report-service}. */
+    private Map<String, Policy> routes = new HashMap<>();
+
+    /** Keyed by role name without the {@code ROLE_} prefix, e.g. {@code ADMIN}. */
+    private Map<String, Policy> roles = new HashMap<>();
+
+    /** Keyed by the raw {@code X-API-Key} value; any other key is limited by the JWT or IP bucket. */
+    private Map<String, Policy> apiKeys = new HashMap<>();
+
+    private List<String> excludedPaths = new ArrayList<>(List.of(
+            "/actuator/", "/health", "/swagger-ui/", "/v3/api-docs", "/swagger-resources/", "/webjars/"));
+
+    private NearCache nearCache = new NearCache();
+
+    private Local local = new Local();
+
+    /**
+     * Fails startup on a policy that could never refill; token_bucket.lua and the local limiter
+     * divide by the refill rate, so a zero rate would otherwise surface as errors on live traffic.
+     */
+    @PostConstruct
+    public void validate() {
+        defaultPolicy.validate("default-policy");
+        routes.forEach((route, policy) -> policy.validate("routes." + route));
+        roles.forEach((role, policy) -> policy.validate("roles." + role));
+        apiKeys.forEach((apiKey, policy) -> policy.validate("api-keys.<redacted>"));
+    }
+
+    public enum Mode {
+        REDIS,
+        LOCAL
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+
+        /** Maximum burst size. */
+        private long capacity;
+
+        /** Sustained rate the bucket refills at. */
+        private double refillPerSecond;
+
+        void validate(String name) {
+            if (capacity <= 0) {
+                throw new IllegalStateException("gateway.rate-limit." + name + ".capacity must be positive, was " + capacity);
+            }
+            if (!(refillPerSecond > 0) || Double.isInfinite(refillPerSecond)) {
+                throw new IllegalStateException(
+                        "gateway.rate-limit." + name + ".refill-per-second must be positive, was " + refillPerSecond);
+            }
+        }
+    }
+
+    @Data
+    public static class NearCache {
+
+        private boolean enabled = true;
+
+        /** Tokens requested from Redis at once when the bucket is well under its limit. */
+        private int leaseSize = 10;
+
+        /** How long leased tokens may be spent locally before they are dropped. */
+        private Duration leaseTtl = Duration.ofMillis(500);
+
+        /** Fraction of the bucket that must remain for Redis to grant a full lease. */
+        private double watermark = 0.5;
+
+        private int maxEntries = 100_000;
+    }
+
+    /** In-process limiter used in local mode and while Redis is unreachable. */
+    @Data
+    public static class Local {
+
+        private int maxEntries = 100_000;
+
+        private Duration sweepInterval = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,157 @@
+package com.devwonder.apigateway.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket shared across gateway replicas through Redis.
+ *
+ * A Lua script updates each bucket atomically on the Redis server, so concurrent
+ * replicas never read-modify-write the same counter. To keep Redis off the hot path,
+ * a caller whose bucket is well under its limit is granted a small lease of tokens
+ * that this instance spends locally until the lease runs out or expires. Leased
+ * tokens are already deducted in Redis, so the near-cache can only under-admit.
+ *
+ * While Redis is unreachable, decisions come from the in-process
+ * {@link LocalGcraRateLimiter}, so limits degrade to per-instance instead of vanishing.
+ */
+@Slf4j
+@Component
+public class RedisTokenBucketRateLimiter {
+
+    private static final long FAILURE_LOG_INTERVAL_MILLIS = 10_000L;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<List<Long>> tokenBucketScript;
+    private final RateLimitProperties properties;
+    private final LocalGcraRateLimiter fallbackLimiter;
+    private final Counter fallbackCounter;
+
+    private final ConcurrentHashMap<String, Lease> leases = new ConcurrentHashMap<>();
+    private final AtomicLong lastFailureLog = new AtomicLong();
+    private final AtomicLong nextLeaseSweepAt = new AtomicLong(System.nanoTime());
+
+    public RedisTokenBucketRateLimiter(ReactiveStringRedisTemplate redisTemplate,
+            RedisScript<List<Long>> tokenBucketScript,
+            RateLimitProperties properties,
+            LocalGcraRateLimiter fallbackLimiter,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.tokenBucketScript = tokenBucketScript;
+        this.properties = properties;
+        this.fallbackLimiter = fallbackLimiter;
+        this.fallbackCounter = Counter.builder("gateway.ratelimit.fallback")
+                .description("Rate limit checks answered locally because Redis failed")
+                .register(meterRegistry);
+    }
+
+    public Mono<RateLimitDecision> tryAcquire(String bucketKey, RateLimitProperties.Policy policy) {
+        RateLimitProperties.NearCache nearCache = properties.getNearCache();
+        if (nearCache.isEnabled()) {
+            Lease lease = leases.get(bucketKey);
+            if (lease != null) {
+                long left = lease.tryTake();
+                if (left >= 0) {
+                    return Mono.just(RateLimitDecision.allowed(left));
+                }
+                leases.remove(bucketKey, lease);
+            }
+        }
+
+        int requested = nearCache.isEnabled() ? Math.max(1, nearCache.getLeaseSize()) : 1;
+        List<String> args = List.of(
+                Long.toString(policy.getCapacity()),
+                Double.toString(policy.getRefillPerSecond() / 1000.0),
+                Integer.toString(requested),
+                Double.toString(nearCache.getWatermark()));
+
+        return redisTemplate.execute(tokenBucketScript, List.of(bucketKey), args)
+                .next()
+                .map(result -> toDecision(bucketKey, result))
+                .onErrorResume(e -> {
+                    logFailure(e);
+                    fallbackCounter.increment();
+                    return Mono.fromSupplier(() -> fallbackLimiter.tryAcquire(bucketKey, policy));
+                })
+                .defaultIfEmpty(RateLimitDecision.unknown());
+    }
+
+    private RateLimitDecision toDecision(String bucketKey, List<Long> result) {
+        long granted = result.get(0);
+        long remaining = result.get(1);
+        if (granted <= 0) {
+            return RateLimitDecision.rejected(result.get(2));
+        }
+        if (granted > 1) {
+            storeLease(bucketKey, granted - 1);
+        }
+        return RateLimitDecision.allowed(remaining + granted - 1);
+    }
+
+    private void storeLease(String bucketKey, long permits) {
+        RateLimitProperties.NearCache nearCache = properties.getNearCache();
+        long now = System.nanoTime();
+        if (leases.size() >= nearCache.getMaxEntries() && !makeRoomForLease(now, nearCache)) {
+            // Every lease is live. Skipping this one forfeits only its own few tokens,
+            // where evicting would take them from callers that are spending them.
+            return;
+        }
+        leases.put(bucketKey, new Lease(permits, now + nearCache.getLeaseTtl().toNanos()));
+    }
+
+    private boolean makeRoomForLease(long now, RateLimitProperties.NearCache nearCache) {
+        // Leases only live one TTL, so sweeping more often than that finds nothing new
+        long due = nextLeaseSweepAt.get();
+        if (now - due >= 0 && nextLeaseSweepAt.compareAndSet(due, now + nearCache.getLeaseTtl().toNanos())) {
+            leases.values().removeIf(lease -> lease.isExpired(now));
+        }
+        return leases.size() < nearCache.getMaxEntries();
+    }
+
+    private void logFailure(Throwable e) {
+        long now = System.currentTimeMillis();
+        long last = lastFailureLog.get();
+        if (now - last >= FAILURE_LOG_INTERVAL_MILLIS && lastFailureLog.compareAndSet(last, now)) {
+            log.warn("Redis rate limiter unavailable, falling back to per-instance limits: {}", e.toString());
+        }
+    }
+
+    private static final class Lease {
+
+        private final AtomicLong permits;
+        private final long expiresAtNanos;
+
+        private Lease(long permits, long expiresAtNanos) {
+            this.permits = new AtomicLong(permits);
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        /** Returns the permits left after taking one, or -1 if the lease is spent or expired. */
+        private long tryTake() {
+            if (isExpired(System.nanoTime())) {
+                return -1;
+            }
+            long current;
+            do {
+                current = permits.get();
+                if (current <= 0) {
+                    return -1;
+                }
+            } while (!permits.compareAndSet(current, current - 1));
+            return current - 1;
+        }
+    }
+}
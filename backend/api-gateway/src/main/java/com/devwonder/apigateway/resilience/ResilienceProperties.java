@@ -0,0 +1,59 @@
+package com.devwonder.apigateway.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Circuit breaker, bulkhead and timeout settings bound from {@code gateway.resilience}.
+ *
+ * Each route gets its own breaker and bulkhead named after the route id. Routes not
+ * listed under {@link #routes} use {@link #defaultPolicy}; fields left out of a route
+ * entry take the built-in values below, not those of the default policy.
+ */
+@Data
+@ConfigurationProperties(prefix = "gateway.resilience")
+public class ResilienceProperties {
+
+    private boolean enabled = true;
+
+    private Policy defaultPolicy = new Policy();
+
+    /** Keyed by gateway route id, e.g. {@code report-service}. */
+    private Map<String, Policy> routes = new HashMap<>();
+
+    public Policy policyFor(String routeId) {
+        return routes.getOrDefault(routeId, defaultPolicy);
+    }
+
+    @Data
+    public static class Policy {
+
+        /** Time allowed until upstream response headers arrive. */
+        private Duration timeout = Duration.ofSeconds(10);
+
+        /** Requests allowed to wait for upstream response headers at once; extra ones are rejected, not queued. */
+        private int maxConcurrentCalls = 200;
+
+        /** Percentage of failed calls (errors, timeouts, 5xx) that opens the breaker. */
+        private float failureRateThreshold = 50;
+
+        /** Percentage of slow calls that opens the breaker. */
+        private float slowCallRateThreshold = 80;
+
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+
+        /** Number of most recent calls the failure and slow-call rates are computed over. */
+        private int slidingWindowSize = 50;
+
+        private int minimumNumberOfCalls = 20;
+
+        /** How long an open breaker fails fast before letting trial calls through. */
+        private Duration waitInOpenState = Duration.ofSeconds(30);
+
+        private int permittedCallsInHalfOpenState = 5;
+    }
+}
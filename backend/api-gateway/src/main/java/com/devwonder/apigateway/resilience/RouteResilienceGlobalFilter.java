@@ -0,0 +1,142 @@
+package com.devwonder.apigateway.resilience;
+
+import com.devwonder.apigateway.dto.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Wraps every proxied call in its route's bulkhead, circuit breaker and timeout.
+ *
+ * The bulkhead caps how many calls of one route may wait on upstream at once, so a
+ * slow service fills its own quota instead of the shared pool. The breaker records
+ * upstream errors, timeouts and 5xx responses; once open it fails fast until trial
+ * calls succeed again. Rejections and timeouts get an {@link ErrorResponse} body
+ * here; any other upstream error keeps the gateway's usual handling.
+ *
+ * All three cover the wait for response headers only. The bulkhead permit is released
+ * as soon as they arrive, so a body still being streamed (a large report export, a
+ * media download) no longer counts against the route; those transfers are bounded by
+ * the HTTP client's connection pool, not by this filter.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RouteResilienceGlobalFilter implements GlobalFilter, Ordered {
+
+    private static final Throwable UPSTREAM_SERVER_ERROR = new UpstreamServerError();
+
+    private final RouteResilienceRegistry registry;
+    private final ResilienceProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        RouteResilienceRegistry.RouteGuard guard = registry.forRoute(route.getId());
+        Bulkhead bulkhead = guard.getBulkhead();
+        CircuitBreaker circuitBreaker = guard.getCircuitBreaker();
+
+        if (!bulkhead.tryAcquirePermission()) {
+            return reject(exchange, route, "bulkhead_full", HttpStatus.SERVICE_UNAVAILABLE, Duration.ofSeconds(1),
+                    "Service is at capacity. Try again shortly.");
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.onComplete();
+            return reject(exchange, route, "circuit_open", HttpStatus.SERVICE_UNAVAILABLE,
+                    guard.getPolicy().getWaitInOpenState(), "Service is temporarily unavailable. Try again later.");
+        }
+
+        long start = circuitBreaker.getCurrentTimestamp();
+        return chain.filter(exchange)
+                .timeout(guard.getPolicy().getTimeout())
+                .doOnSuccess(ignored -> recordOutcome(exchange, circuitBreaker, start))
+                .doOnError(e -> circuitBreaker.onError(elapsed(circuitBreaker, start),
+                        circuitBreaker.getTimestampUnit(), e))
+                .doOnCancel(circuitBreaker::releasePermission)
+                .doFinally(signal -> bulkhead.onComplete())
+                .onErrorResume(TimeoutException.class, e -> reject(exchange, route, "timeout",
+                        HttpStatus.GATEWAY_TIMEOUT, null, "Service did not respond in time."));
+    }
+
+    private void recordOutcome(ServerWebExchange exchange, CircuitBreaker circuitBreaker, long start) {
+        // Runs once response headers are in; the body is streamed afterwards by NettyWriteResponseFilter
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        long duration = elapsed(circuitBreaker, start);
+        if (status != null && status.is5xxServerError()) {
+            circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), UPSTREAM_SERVER_ERROR);
+        } else {
+            circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+        }
+    }
+
+    private static long elapsed(CircuitBreaker circuitBreaker, long start) {
+        return circuitBreaker.getCurrentTimestamp() - start;
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, Route route, String reason, HttpStatus status,
+            Duration retryAfter, String message) {
+        meterRegistry.counter("gateway.resilience.rejected", "route", route.getId(), "reason", reason).increment();
+        log.debug("Rejected {} for route {}: {}", exchange.getRequest().getPath(), route.getId(), reason);
+
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.empty();
+        }
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        if (retryAfter != null) {
+            response.getHeaders().set("Retry-After", Long.toString(Math.max(1, retryAfter.toSeconds())));
+        }
+
+        ErrorResponse error = ErrorResponse.of(status.value(), status.getReasonPhrase(), message,
+                exchange.getRequest().getPath().value());
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(error);
+        } catch (JsonProcessingException e) {
+            body = ("{\"error\":\"" + status.getReasonPhrase() + "\"}").getBytes(StandardCharsets.UTF_8);
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    @Override
+    public int getOrder() {
+        // Inside NettyWriteResponseFilter, so the timeout and outcome cover the wait for response
+        // headers only; cache hits, coalesced followers and shed requests never reach this point
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER + 2;
+    }
+
+    /** Shared marker recorded for upstream 5xx responses; carries no stack trace. */
+    private static class UpstreamServerError extends RuntimeException {
+        UpstreamServerError() {
+            super("Upstream responded with a server error", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.devwonder.apigateway.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lazily creates the circuit breaker and bulkhead for each gateway route.
+ *
+ * Both live in the shared Resilience4j registries so their state, call and permit
+ * metrics are exported under the route id; state transitions are also counted and
+ * logged here since they are what an on-call engineer looks for first.
+ */
+@Slf4j
+@Component
+public class RouteResilienceRegistry {
+
+    private final ConcurrentHashMap<String, RouteGuard> guards = new ConcurrentHashMap<>();
+    private final ResilienceProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    public RouteResilienceRegistry(ResilienceProperties properties, CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public RouteGuard forRoute(String routeId) {
+        return guards.computeIfAbsent(routeId, this::create);
+    }
+
+    private RouteGuard create(String routeId) {
+        ResilienceProperties.Policy policy = properties.policyFor(routeId);
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(routeId, CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(policy.getSlidingWindowSize())
+                .minimumNumberOfCalls(policy.getMinimumNumberOfCalls())
+                .failureRateThreshold(policy.getFailureRateThreshold())
+                .slowCallRateThreshold(policy.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(policy.getSlowCallDuration())
+                .waitDurationInOpenState(policy.getWaitInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(policy.getPermittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build());
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("Circuit breaker for route {} moved {} -> {}",
+                    routeId, transition.getFromState(), transition.getToState());
+            meterRegistry.counter("gateway.circuitbreaker.transitions",
+                    "route", routeId,
+                    "from", transition.getFromState().name(),
+                    "to", transition.getToState().name()).increment();
+        });
+
+        // No waiting: a full bulkhead should shed load, not park more connections
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(routeId, BulkheadConfig.custom()
+                .maxConcurrentCalls(policy.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        return new RouteGuard(circuitBreaker, bulkhead, policy);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RouteGuard {
+        private final CircuitBreaker circuitBreaker;
+        private final Bulkhead bulkhead;
+        private final ResilienceProperties.Policy policy;
+    }
+}
@@ -0,0 +1,132 @@
+package com.devwonder.apigateway.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers tokens the delegate has already verified, keyed by a SHA-256 of the raw
+ * token, until the token's own {@code exp}. Access tokens are replayed on every
+ * request for their whole lifetime, so most requests skip signature verification.
+ *
+ * Revoked tokens are never served from the cache; they go back to the delegate so
+ * that whatever revocation handling sits there applies. Tokens without an expiry are
+ * not cached at all.
+ */
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    private final ReactiveJwtDecoder delegate;
+    private final TokenRevocationChecker revocationChecker;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Jwt> cache = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypassed;
+    private final Counter savedSeconds;
+    private final Timer verifyTimer;
+
+    /** Moving average of one delegate decode, used to estimate the time a hit saves. */
+    private volatile long averageVerifyNanos;
+
+    public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, TokenRevocationChecker revocationChecker,
+            int maxEntries, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.revocationChecker = revocationChecker;
+        this.maxEntries = maxEntries;
+        this.hits = meterRegistry.counter("gateway.jwt.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("gateway.jwt.cache.requests", "result", "miss");
+        this.bypassed = meterRegistry.counter("gateway.jwt.cache.requests", "result", "revoked");
+        this.savedSeconds = Counter.builder("gateway.jwt.cache.saved")
+                .description("Estimated signature verification time avoided by cache hits")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("gateway.jwt.verify")
+                .description("Time spent decoding and verifying tokens that missed the cache")
+                .register(meterRegistry);
+        Gauge.builder("gateway.jwt.cache.entries", cache, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            if (!cached.getExpiresAt().isAfter(Instant.now())) {
+                cache.remove(key, cached);
+            } else if (isRevoked(cached)) {
+                cache.remove(key, cached);
+                bypassed.increment();
+                return delegate.decode(token);
+            } else {
+                hits.increment();
+                savedSeconds.increment(averageVerifyNanos / 1e9);
+                return Mono.just(cached);
+            }
+        }
+
+        misses.increment();
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return delegate.decode(token).doOnNext(jwt -> {
+                long elapsed = System.nanoTime() - start;
+                verifyTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                long average = averageVerifyNanos;
+                averageVerifyNanos = average == 0 ? elapsed : average + (elapsed - average) / 16;
+                store(key, jwt);
+            });
+        });
+    }
+
+    private boolean isRevoked(Jwt jwt) {
+        Instant issuedAt = jwt.getIssuedAt();
+        return issuedAt != null && revocationChecker.isRevoked(jwt.getSubject(), issuedAt.toEpochMilli());
+    }
+
+    private void store(String key, Jwt jwt) {
+        if (jwt.getExpiresAt() == null || isRevoked(jwt)) {
+            return;
+        }
+        if (cache.size() >= maxEntries) {
+            evict();
+        }
+        cache.put(key, jwt);
+    }
+
+    private void evict() {
+        Instant now = Instant.now();
+        cache.values().removeIf(jwt -> !jwt.getExpiresAt().isAfter(now));
+
+        // Only live tokens left: drop an arbitrary tenth, they will simply be verified again
+        Iterator<String> keys = cache.keySet().iterator();
+        int toRemove = cache.size() - (maxEntries - maxEntries / 10);
+        while (toRemove-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.devwonder.apigateway.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over (subject, issued-at) pairs.
+ *
+ * Hashing walks the subject's chars directly and probes use double hashing, so
+ * {@link #mightContain} allocates nothing. Bits live in an {@link AtomicLongArray} so
+ * revocations arriving from pub/sub can be added while request threads read. There is
+ * no removal; the owner rebuilds a fresh filter when entries expire.
+ */
+public final class RevocationBloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public RevocationBloomFilter(int expectedEntries, double falsePositiveRate) {
+        int n = Math.max(1, expectedEntries);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (bits + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.words = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    public void put(String subject, long issuedAtMillis) {
+        long h1 = hash(subject, issuedAtMillis);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String subject, long issuedAtMillis) {
+        long h1 = hash(subject, issuedAtMillis);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String subject, long issuedAtMillis) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < subject.length(); i++) {
+            h = (h ^ subject.charAt(i)) * FNV_PRIME;
+        }
+        h = (h ^ issuedAtMillis) * FNV_PRIME;
+        return mix(h);
+    }
+
+    /** Murmur3 64-bit finaliser; spreads FNV's weak low bits across the word. */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
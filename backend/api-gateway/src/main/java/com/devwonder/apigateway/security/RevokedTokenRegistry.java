@@ -0,0 +1,218 @@
+package com.devwonder.apigateway.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gateway copy of auth-service's token blacklist.
+ *
+ * A Bloom filter answers the common "not revoked" case without allocating or
+ * touching Redis; only filter positives consult the exact set, which also rules out
+ * false positives. auth-service publishes each revocation as
+ * {@code <subject>:<issuedAtMillis>:<expiresAtMillis>}. Because a Bloom filter cannot
+ * forget, a periodic resync rescans the blacklist keys, drops expired entries and
+ * swaps in a freshly built filter; the same resync recovers messages missed while
+ * the subscription was down.
+ *
+ * Alongside single tokens it keeps per-subject watermarks ({@code <subject>:<millis>} on
+ * a second channel): every token of that subject issued before the watermark is
+ * revoked, which is how auth-service invalidates a whole account in one message.
+ */
+@Slf4j
+@Component
+public class RevokedTokenRegistry implements TokenRevocationChecker {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+
+    /** Token id ({@code subject:issuedAtMillis}) to expiry in epoch millis. */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile RevocationBloomFilter filter;
+    /** Subject to watermark in epoch millis; tokens issued earlier are revoked. */
+    private final Map<String, Long> watermarks = new ConcurrentHashMap<>();
+
+    @Value("${gateway.revocation.channel:auth:token-revocations}")
+    private String channel;
+
+    @Value("${gateway.revocation.key-prefix:auth:blacklist:}")
+    private String keyPrefix;
+
+    @Value("${gateway.revocation.resync-interval:5m}")
+    private Duration resyncInterval;
+
+    @Value("${gateway.revocation.expected-entries:10000}")
+    private int expectedEntries;
+
+    @Value("${gateway.revocation.watermark-channel:auth:token-watermarks}")
+    private String watermarkChannel;
+
+    @Value("${gateway.revocation.watermark-key-prefix:auth:token-watermark:}")
+    private String watermarkKeyPrefix;
+
+    @Value("${gateway.revocation.watermark-retention:8d}")
+    private Duration watermarkRetention;
+
+    private Disposable subscription;
+    private Disposable watermarkSubscription;
+    private Disposable resync;
+
+    public RevokedTokenRegistry(ReactiveStringRedisTemplate redisTemplate,
+            ReactiveRedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        Gauge.builder("gateway.jwt.revocations", revoked, Map::size)
+                .description("Revoked tokens known to this gateway instance")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        filter = new RevocationBloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+
+        subscription = listenerContainer.receive(ChannelTopic.of(channel))
+                .doOnError(e -> log.warn("Revocation subscription lost, retrying: {}", e.toString()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> onRevocation(message.getMessage()));
+
+        watermarkSubscription = listenerContainer.receive(ChannelTopic.of(watermarkChannel))
+                .doOnError(e -> log.warn("Watermark subscription lost, retrying: {}", e.toString()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(message -> onWatermark(message.getMessage()));
+
+        resync = Flux.interval(Duration.ZERO, resyncInterval)
+                .concatMap(tick -> resync()
+                        .onErrorResume(e -> {
+                            log.warn("Revocation resync failed, keeping current set: {}", e.toString());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @Override
+    public boolean isRevoked(String subject, long issuedAtMillis) {
+        if (subject == null) {
+            return false;
+        }
+        Long watermark = watermarks.get(subject);
+        if (watermark != null && issuedAtMillis < watermark) {
+            return true;
+        }
+        if (!filter.mightContain(subject, issuedAtMillis)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(subject + ":" + issuedAtMillis);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    private void onRevocation(String message) {
+        int expirySeparator = message.lastIndexOf(':');
+        try {
+            add(message.substring(0, expirySeparator), Long.parseLong(message.substring(expirySeparator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed revocation message '{}'", message);
+        }
+    }
+
+    private void onWatermark(String message) {
+        int separator = message.lastIndexOf(':');
+        try {
+            watermarks.merge(message.substring(0, separator), Long.parseLong(message.substring(separator + 1)), Math::max);
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed watermark message '{}'", message);
+        }
+    }
+
+    private void add(String tokenId, long expiresAtMillis) {
+        // Parse before recording so a malformed id never reaches the exact set
+        int separator = tokenId.lastIndexOf(':');
+        String subject = tokenId.substring(0, separator);
+        long issuedAt = Long.parseLong(tokenId.substring(separator + 1));
+        revoked.put(tokenId, expiresAtMillis);
+        filter.put(subject, issuedAt);
+    }
+
+    private void addScanned(String key, Duration ttl) {
+        try {
+            add(key.substring(keyPrefix.length()), System.currentTimeMillis() + ttl.toMillis());
+        } catch (RuntimeException e) {
+            log.debug("Skipping unrecognised blacklist key {}", key);
+        }
+    }
+
+    Mono<Void> resync() {
+        ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build();
+        return redisTemplate.scan(options)
+                .flatMap(key -> redisTemplate.getExpire(key)
+                        .filter(ttl -> !ttl.isNegative() && !ttl.isZero())
+                        .doOnNext(ttl -> addScanned(key, ttl)), 16)
+                .then(resyncWatermarks())
+                .then(Mono.fromRunnable(this::rebuild));
+    }
+
+    private Mono<Void> resyncWatermarks() {
+        ScanOptions options = ScanOptions.scanOptions().match(watermarkKeyPrefix + "*").count(1000).build();
+        return redisTemplate.scan(options)
+                .flatMap(key -> redisTemplate.opsForValue().get(key)
+                        .doOnNext(value -> {
+                            try {
+                                watermarks.merge(key.substring(watermarkKeyPrefix.length()), Long.parseLong(value), Math::max);
+                            } catch (RuntimeException e) {
+                                log.debug("Skipping unrecognised watermark key {}", key);
+                            }
+                        }), 16)
+                .then();
+    }
+
+    private void rebuild() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        // Once every token older than a watermark has expired the watermark rules out nothing
+        watermarks.values().removeIf(watermark -> watermark <= now - watermarkRetention.toMillis());
+
+        RevocationBloomFilter fresh = new RevocationBloomFilter(
+                Math.max(expectedEntries, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(tokenId -> putInto(fresh, tokenId));
+        filter = fresh;
+        // Revocations that raced with the copy above land in the old filter; replay them
+        revoked.keySet().forEach(tokenId -> putInto(fresh, tokenId));
+        log.debug("Rebuilt revocation filter with {} entries", revoked.size());
+    }
+
+    private static void putInto(RevocationBloomFilter target, String tokenId) {
+        int separator = tokenId.lastIndexOf(':');
+        target.put(tokenId.substring(0, separator), Long.parseLong(tokenId.substring(separator + 1)));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        if (watermarkSubscription != null) {
+            watermarkSubscription.dispose();
+        }
+        if (resync != null) {
+            resync.dispose();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.devwonder.apigateway.security;
+
+/**
+ * Answers whether auth-service has revoked a token. Tokens are identified the same
+ * way auth-service blacklists them: subject plus issued-at in epoch milliseconds.
+ */
+@FunctionalInterface
+public interface TokenRevocationChecker {
+
+    TokenRevocationChecker NONE = (subject, issuedAtMillis) -> false;
+
+    boolean isRevoked(String subject, long issuedAtMillis);
+}
@@ -0,0 +1,52 @@
+-- Atomic token bucket shared by every gateway replica.
+--
+-- KEYS[1]  bucket hash (fields: tokens, ts)
+-- ARGV[1]  bucket capacity (burst)
+-- ARGV[2]  refill rate in tokens per millisecond
+-- ARGV[3]  tokens requested; more than one asks for a local lease
+-- ARGV[4]  fraction of capacity that must remain for a lease larger than one token
+--
+-- Returns {granted, remaining, retry_after_ms}. Time comes from the Redis server so
+-- replicas with drifting clocks still agree on the refill.
+
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+local watermark = tonumber(ARGV[4])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+  tokens = capacity
+  ts = now
+end
+
+if now > ts then
+  tokens = math.min(capacity, tokens + (now - ts) * rate)
+  ts = now
+end
+
+local granted = 0
+if tokens >= 1 then
+  granted = 1
+  -- Only hand out a batch while the bucket is comfortably full, so clients near
+  -- their limit are always metered one request at a time.
+  if requested > 1 and tokens - requested >= capacity * watermark then
+    granted = requested
+  end
+  tokens = tokens - granted
+end
+
+local retry_after = 0
+if granted == 0 then
+  retry_after = math.ceil((1 - tokens) / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts))
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)
+
+return {granted, math.floor(tokens), retry_after}
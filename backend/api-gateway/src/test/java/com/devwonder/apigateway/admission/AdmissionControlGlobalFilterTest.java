@@ -0,0 +1,85 @@
+package com.devwonder.apigateway.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AdmissionControlGlobalFilterTest {
+
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    private final AdmissionController controller = mock(AdmissionController.class);
+    private final AdmissionProperties properties = new AdmissionProperties();
+    private AdmissionControlGlobalFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties.getRoles().put("ADMIN", PriorityClass.CRITICAL);
+        properties.getRoles().put("DEALER", PriorityClass.HIGH);
+        properties.getRoutes().put("report-service", PriorityClass.LOW);
+        filter = new AdmissionControlGlobalFilter(controller, properties, new ObjectMapper());
+    }
+
+    private static MockServerWebExchange exchange(String routeId, String rolesHeader) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/order/orders");
+        if (rolesHeader != null) {
+            request.header("X-User-Roles", rolesHeader);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(routeId).uri("http://localhost").predicate(e -> true).build());
+        return exchange;
+    }
+
+    private static Authentication user(String... authorities) {
+        return UsernamePasswordAuthenticationToken.authenticated("dealer.one", null,
+                AuthorityUtils.createAuthorityList(authorities));
+    }
+
+    @Test
+    void clientSuppliedRolesHeaderIsIgnored() {
+        filter.filter(exchange("order-service", "ADMIN"), CHAIN).block();
+
+        verify(controller).tryAcquire(PriorityClass.NORMAL);
+    }
+
+    @Test
+    void rolesComeFromTheAuthenticatedToken() {
+        filter.filter(exchange("order-service", "ADMIN"), CHAIN)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(user("ROLE_DEALER", "order:read")))
+                .block();
+
+        verify(controller).tryAcquire(PriorityClass.HIGH);
+    }
+
+    @Test
+    void bestRoleWins() {
+        filter.filter(exchange("order-service", null), CHAIN)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(user("ROLE_DEALER", "ROLE_ADMIN")))
+                .block();
+
+        verify(controller).tryAcquire(PriorityClass.CRITICAL);
+    }
+
+    @Test
+    void routeClassOverridesRoles() {
+        filter.filter(exchange("report-service", null), CHAIN)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(user("ROLE_ADMIN")))
+                .block();
+
+        verify(controller).tryAcquire(PriorityClass.LOW);
+    }
+}
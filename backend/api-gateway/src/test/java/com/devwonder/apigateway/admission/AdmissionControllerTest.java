@@ -0,0 +1,82 @@
+package com.devwonder.apigateway.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControllerTest {
+
+    private static final long FAST = 1_000_000;
+    private static final long SLOW = 20_000_000;
+
+    private final AdmissionController controller = new AdmissionController(limits());
+
+    private static Map<PriorityClass, GradientConcurrencyLimit> limits() {
+        Map<PriorityClass, GradientConcurrencyLimit> limits = new EnumMap<>(PriorityClass.class);
+        for (PriorityClass priority : PriorityClass.values()) {
+            limits.put(priority, new GradientConcurrencyLimit(AdmissionProperties.Limit.of(20, 4, 100)));
+        }
+        return limits;
+    }
+
+    /** Completes {@code count} calls of the class with the given round trip, each while the class is full. */
+    private void feed(PriorityClass priority, long rttNanos, int count) {
+        for (int i = 0; i < count; i++) {
+            controller.release(priority, rttNanos, controller.getLimit(priority));
+        }
+    }
+
+    @Test
+    void shedsAClassAtItsLimitWithoutTouchingOthers() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(controller.tryAcquire(PriorityClass.LOW)).isEqualTo(i + 1);
+        }
+
+        assertThat(controller.tryAcquire(PriorityClass.LOW)).isEqualTo(-1);
+        assertThat(controller.getShed(PriorityClass.LOW)).isEqualTo(1);
+        assertThat(controller.tryAcquire(PriorityClass.CRITICAL)).isEqualTo(1);
+        assertThat(controller.getShed(PriorityClass.CRITICAL)).isZero();
+
+        controller.release(PriorityClass.LOW);
+        assertThat(controller.tryAcquire(PriorityClass.LOW)).isEqualTo(20);
+    }
+
+    @Test
+    void slowUpstreamShrinksOnlyItsOwnClass() {
+        feed(PriorityClass.LOW, FAST, 20);
+        feed(PriorityClass.CRITICAL, FAST, 20);
+        int criticalBefore = controller.getLimit(PriorityClass.CRITICAL);
+
+        feed(PriorityClass.LOW, SLOW, 100);
+
+        assertThat(controller.getLimit(PriorityClass.LOW)).isEqualTo(4);
+        assertThat(controller.getLimit(PriorityClass.CRITICAL)).isEqualTo(criticalBefore);
+    }
+
+    @Test
+    void limitRecoversOnceLatencyComesBack() {
+        feed(PriorityClass.HIGH, FAST, 20);
+        feed(PriorityClass.HIGH, SLOW, 100);
+        int shrunk = controller.getLimit(PriorityClass.HIGH);
+
+        feed(PriorityClass.HIGH, FAST, 300);
+
+        assertThat(shrunk).isLessThan(20);
+        assertThat(controller.getLimit(PriorityClass.HIGH)).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    void idleSamplesDoNotMoveTheLimit() {
+        feed(PriorityClass.NORMAL, FAST, 20);
+        int before = controller.getLimit(PriorityClass.NORMAL);
+
+        for (int i = 0; i < 100; i++) {
+            controller.release(PriorityClass.NORMAL, SLOW, 1);
+        }
+
+        assertThat(controller.getLimit(PriorityClass.NORMAL)).isEqualTo(before);
+    }
+}
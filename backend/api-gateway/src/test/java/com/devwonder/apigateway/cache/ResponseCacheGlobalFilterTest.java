@@ -0,0 +1,142 @@
+package com.devwonder.apigateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ResponseCacheGlobalFilterTest {
+
+    private static final String JSON_BODY = "{\"id\":42}";
+    private static final String SMILE_BODY = ":)\n\u0001smile";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCacheProperties properties = properties();
+    private final ResponseCacheStore store = new ResponseCacheStore(properties, meterRegistry);
+    private final ResponseCacheGlobalFilter filter = new ResponseCacheGlobalFilter(store, properties, meterRegistry);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    /** Answers in whichever representation the request negotiates, like a service with the Smile converter. */
+    private final GatewayFilterChain upstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        boolean smile = ResponseCacheGlobalFilter.SMILE.equals(ResponseCacheGlobalFilter.negotiate(exchange.getRequest()));
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(smile ? ResponseCacheGlobalFilter.SMILE : MediaType.APPLICATION_JSON);
+        byte[] body = (smile ? SMILE_BODY : JSON_BODY).getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    };
+
+    private static ResponseCacheProperties properties() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        ResponseCacheProperties.Rule rule = new ResponseCacheProperties.Rule();
+        rule.setPath("/api/product/**");
+        rule.setTtl(Duration.ofMinutes(1));
+        properties.setRules(List.of(rule));
+        return properties;
+    }
+
+    private MockServerWebExchange get(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, upstream).block();
+        return exchange;
+    }
+
+    private MockServerWebExchange getJson(String uri) {
+        return get(MockServerHttpRequest.get(uri).accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void secondRequestIsServedFromTheCache() {
+        MockServerWebExchange first = getJson("/api/product/42?fields=id");
+        MockServerWebExchange second = getJson("/api/product/42?fields=id");
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo(JSON_BODY);
+        assertThat(second.getResponse().getHeaders().getETag()).isEqualTo(first.getResponse().getHeaders().getETag());
+        assertThat(second.getResponse().getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+    }
+
+    @Test
+    void matchingEtagOnAHitIsNotModified() {
+        String etag = getJson("/api/product/42").getResponse().getHeaders().getETag();
+
+        MockServerWebExchange revalidated = get(MockServerHttpRequest.get("/api/product/42")
+                .accept(MediaType.APPLICATION_JSON).ifNoneMatch(etag));
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(revalidated.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void unlistedQueryParametersAndUnruledPathsBypassTheCache() {
+        getJson("/api/product/42?sort=name");
+        getJson("/api/product/42?sort=name");
+        getJson("/api/order/7");
+        getJson("/api/order/7");
+
+        assertThat(upstreamCalls).hasValue(4);
+        assertThat(store.get("application/json /api/product/42?sort=name")).isNull();
+    }
+
+    @Test
+    void jsonAndSmileClientsGetSeparateEntries() {
+        getJson("/api/product/42");
+        MockServerWebExchange smile = get(MockServerHttpRequest.get("/api/product/42")
+                .accept(ResponseCacheGlobalFilter.SMILE));
+        MockServerWebExchange json = getJson("/api/product/42");
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(smile.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("MISS");
+        assertThat(smile.getResponse().getHeaders().getContentType()).isEqualTo(ResponseCacheGlobalFilter.SMILE);
+        assertThat(json.getResponse().getHeaders().getFirst("X-Cache")).isEqualTo("HIT");
+        assertThat(json.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(json.getResponse().getBodyAsString().block()).isEqualTo(JSON_BODY);
+    }
+
+    @Test
+    void negotiationFollowsQualityThenSpecificity() {
+        assertThat(negotiate("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(negotiate("application/x-jackson-smile, application/json;q=0.5"))
+                .isEqualTo(ResponseCacheGlobalFilter.SMILE);
+        assertThat(negotiate("*/*, application/x-jackson-smile")).isEqualTo(ResponseCacheGlobalFilter.SMILE);
+        assertThat(negotiate("text/html")).isNull();
+    }
+
+    private static MediaType negotiate(String accept) {
+        return ResponseCacheGlobalFilter.negotiate(
+                MockServerHttpRequest.get("/api/product/1").header(HttpHeaders.ACCEPT, accept).build());
+    }
+
+    @Test
+    void purgeDropsMatchingEntriesOnly() {
+        ResponseCachePurgeListener listener = new ResponseCachePurgeListener(
+                mock(ReactiveRedisMessageListenerContainer.class), store, properties, meterRegistry);
+        getJson("/api/product/42");
+        getJson("/api/product/categories");
+
+        listener.purge("/api/product/{id:\\d+}");
+        getJson("/api/product/42");
+        getJson("/api/product/categories");
+
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(meterRegistry.counter("gateway.cache.purged").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,142 @@
+package com.devwonder.apigateway.filter;
+
+import com.devwonder.apigateway.hedging.HedgeBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+
+class HedgingGatewayFilterFactoryTest {
+
+    private final AtomicInteger copies = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DisposableServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    /** Answers each copy of the request with {@code handler}, given its 1-based arrival number. */
+    private String start(BiFunction<Integer, HttpServerResponse, Mono<Void>> handler) {
+        server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .handle((HttpServerRequest request, HttpServerResponse response) ->
+                        handler.apply(copies.incrementAndGet(), response))
+                .bindNow();
+        return "http://localhost:" + server.port() + "/reports/overview";
+    }
+
+    private static Mono<Void> answer(HttpServerResponse response, int copy) {
+        return response.header("X-Copy", Integer.toString(copy)).sendString(Mono.just("ok")).then();
+    }
+
+    private static Mono<Void> hangUp(HttpServerResponse response) {
+        response.withConnection(Connection::dispose);
+        return Mono.never();
+    }
+
+    @SuppressWarnings("unchecked")
+    private GatewayFilter filter(HedgeBudget budget, Duration initialDelay) {
+        ObjectProvider<List<HttpHeadersFilter>> headersFilters = mock(ObjectProvider.class);
+        when(headersFilters.getIfAvailable(any())).thenReturn(List.of());
+        HedgingGatewayFilterFactory factory = new HedgingGatewayFilterFactory(
+                HttpClient.create().disableRetry(true), headersFilters, budget, meterRegistry);
+
+        HedgingGatewayFilterFactory.Config config = new HedgingGatewayFilterFactory.Config();
+        config.setInitialDelay(initialDelay);
+        return factory.apply(config);
+    }
+
+    private static MockServerWebExchange exchange(String url) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/reports/overview"));
+        exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, URI.create(url));
+        return exchange;
+    }
+
+    private static void releaseWinner(MockServerWebExchange exchange) {
+        Connection connection = exchange.getAttribute(CLIENT_RESPONSE_CONN_ATTR);
+        if (connection != null) {
+            connection.dispose();
+        }
+    }
+
+    private double hedging(String result) {
+        return meterRegistry.get("gateway.hedging.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void hedgeWinsOverASlowPrimaryAndClosesIt() throws InterruptedException {
+        CountDownLatch primaryClosed = new CountDownLatch(1);
+        String url = start((copy, response) -> copy == 1
+                ? Mono.delay(Duration.ofSeconds(10)).then(answer(response, copy)).doOnCancel(primaryClosed::countDown)
+                : answer(response, copy));
+        MockServerWebExchange exchange = exchange(url);
+
+        filter(new HedgeBudget(1.0, 10), Duration.ofMillis(50)).filter(exchange, e -> Mono.empty())
+                .block(Duration.ofSeconds(5));
+        releaseWinner(exchange);
+
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Copy")).isEqualTo("2");
+        assertThat(hedging("hedge_won")).isEqualTo(1);
+        assertThat(primaryClosed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failedPrimarySendsTheHedgeWithoutWaiting() {
+        String url = start((copy, response) -> copy == 1 ? hangUp(response) : answer(response, copy));
+        MockServerWebExchange exchange = exchange(url);
+
+        // The hedge delay alone would take longer than the block timeout
+        filter(new HedgeBudget(1.0, 10), Duration.ofSeconds(30)).filter(exchange, e -> Mono.empty())
+                .block(Duration.ofSeconds(5));
+        releaseWinner(exchange);
+
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Copy")).isEqualTo("2");
+        assertThat(hedging("hedge_won")).isEqualTo(1);
+    }
+
+    @Test
+    void failsWithThePrimaryErrorWhenNoHedgeIsAffordable() {
+        String url = start((copy, response) -> hangUp(response));
+        MockServerWebExchange exchange = exchange(url);
+
+        // A deposit of a thousandth of a hedge never pays for one
+        GatewayFilter filter = filter(new HedgeBudget(0.001, 1), Duration.ofMillis(50));
+        assertThatThrownBy(() -> filter.filter(exchange, e -> Mono.empty()).block(Duration.ofSeconds(5)))
+                .hasRootCauseInstanceOf(PrematureCloseException.class);
+        assertThat(copies).hasValue(1);
+        assertThat(hedging("budget_exhausted")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.devwonder.apigateway.filter;
+
+import com.devwonder.apigateway.ratelimit.LocalGcraRateLimiter;
+import com.devwonder.apigateway.ratelimit.RateLimitProperties;
+import com.devwonder.apigateway.ratelimit.RedisTokenBucketRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RateLimitingGlobalFilterTest {
+
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    private RateLimitProperties properties;
+    private RateLimitingGlobalFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setMode(RateLimitProperties.Mode.LOCAL);
+        properties.setDefaultPolicy(new RateLimitProperties.Policy(2, 0.001));
+        properties.getApiKeys().put("partner-key", new RateLimitProperties.Policy(5, 0.001));
+        filter = new RateLimitingGlobalFilter(mock(RedisTokenBucketRateLimiter.class),
+                new LocalGcraRateLimiter(1_000, 60_000), properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void unknownApiKeysShareTheCallersIpBucket() {
+        assertThat(send("guess-1")).isNull();
+        assertThat(send("guess-2")).isNull();
+        assertThat(send("guess-3")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void configuredApiKeyGetsItsOwnPolicy() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(send("partner-key")).isNull();
+        }
+        assertThat(send("partner-key")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        // The key's bucket is separate from the IP bucket it was sent from
+        assertThat(send(null)).isNull();
+    }
+
+    private HttpStatusCode send(String apiKey) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/products")
+                .header("X-Forwarded-For", "203.0.113.7");
+        if (apiKey != null) {
+            request.header("X-API-Key", apiKey);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, CHAIN).block();
+        return exchange.getResponse().getStatusCode();
+    }
+}
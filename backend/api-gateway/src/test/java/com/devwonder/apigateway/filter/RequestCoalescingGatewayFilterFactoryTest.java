@@ -0,0 +1,66 @@
+package com.devwonder.apigateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingGatewayFilterFactoryTest {
+
+    private static final String BODY = "{\"total\":42}";
+
+    private final RequestCoalescingGatewayFilterFactory factory =
+            new RequestCoalescingGatewayFilterFactory(new SimpleMeterRegistry());
+
+    @Test
+    void followerReplaysTheLeaderWithoutItsConnectionHeaders() throws Exception {
+        RequestCoalescingGatewayFilterFactory.Config config = new RequestCoalescingGatewayFilterFactory.Config();
+        config.setScope(RequestCoalescingGatewayFilterFactory.Scope.NONE);
+        GatewayFilter filter = factory.apply(config);
+
+        Sinks.Empty<Void> upstreamDone = Sinks.empty();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        GatewayFilterChain upstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            HttpHeaders headers = response.getHeaders();
+            headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+            headers.set(HttpHeaders.CONNECTION, "keep-alive, X-Upstream-Hop");
+            headers.set("Keep-Alive", "timeout=5");
+            headers.set("X-Upstream-Hop", "1");
+            headers.set("X-Report-Version", "7");
+            return upstreamDone.asMono().then(Mono.defer(() -> response.writeWith(
+                    Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))))));
+        };
+
+        MockServerWebExchange leader = MockServerWebExchange.from(MockServerHttpRequest.get("/reports/overview?from=1"));
+        MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get("/reports/overview?from=1"));
+        CompletableFuture<Void> leaderDone = filter.filter(leader, upstream).toFuture();
+        CompletableFuture<Void> followerDone = filter.filter(follower, upstream).toFuture();
+        upstreamDone.tryEmitEmpty();
+        leaderDone.get();
+        followerDone.get();
+
+        assertThat(upstreamCalls).hasValue(1);
+        HttpHeaders replayed = follower.getResponse().getHeaders();
+        assertThat(replayed).doesNotContainKeys(HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION,
+                "Keep-Alive", "X-Upstream-Hop");
+        assertThat(replayed.getFirst("X-Report-Version")).isEqualTo("7");
+        assertThat(replayed.getContentLength()).isEqualTo(BODY.length());
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo(BODY);
+    }
+}
@@ -0,0 +1,125 @@
+package com.devwonder.apigateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalGcraRateLimiterTest {
+
+    // 3 requests of burst, one more every 100 ms
+    private static final RateLimitProperties.Policy POLICY = new RateLimitProperties.Policy(3, 10.0);
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+
+    private LocalGcraRateLimiter limiter(int maxEntries) {
+        return new LocalGcraRateLimiter(maxEntries, 60_000, now::get);
+    }
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void allowsTheFullBurstThenRejects() {
+        LocalGcraRateLimiter limiter = limiter(100);
+
+        assertThat(limiter.tryAcquire("k", POLICY).getRemaining()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("k", POLICY).getRemaining()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("k", POLICY).getRemaining()).isZero();
+        assertThat(limiter.tryAcquire("k", POLICY).isAllowed()).isFalse();
+    }
+
+    @Test
+    void retryAfterIsTheTimeUntilTheNextEmission() {
+        LocalGcraRateLimiter limiter = limiter(100);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("k", POLICY);
+        }
+
+        assertThat(limiter.tryAcquire("k", POLICY).getRetryAfterMillis()).isEqualTo(100);
+        advanceMillis(40);
+        assertThat(limiter.tryAcquire("k", POLICY).getRetryAfterMillis()).isEqualTo(60);
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate() {
+        LocalGcraRateLimiter limiter = limiter(100);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("k", POLICY);
+        }
+
+        advanceMillis(100);
+        assertThat(limiter.tryAcquire("k", POLICY).isAllowed()).isTrue();
+        assertThat(limiter.tryAcquire("k", POLICY).isAllowed()).isFalse();
+
+        // An idle key refills to the burst size and no further
+        advanceMillis(10_000);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("k", POLICY).isAllowed()).isTrue();
+        }
+        assertThat(limiter.tryAcquire("k", POLICY).isAllowed()).isFalse();
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        LocalGcraRateLimiter limiter = limiter(100);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a", POLICY);
+        }
+
+        assertThat(limiter.tryAcquire("a", POLICY).isAllowed()).isFalse();
+        assertThat(limiter.tryAcquire("b", POLICY).isAllowed()).isTrue();
+    }
+
+    @Test
+    void sweepDropsRefilledKeysAtTheCap() {
+        LocalGcraRateLimiter limiter = limiter(2);
+        limiter.tryAcquire("a", POLICY);
+        limiter.tryAcquire("b", POLICY);
+
+        advanceMillis(200);
+        limiter.tryAcquire("c", POLICY);
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.evictions()).isZero();
+    }
+
+    @Test
+    void evictsLiveKeysOnlyWhenNoneHaveRefilled() {
+        LocalGcraRateLimiter limiter = limiter(10);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("key-" + i, POLICY);
+        }
+
+        limiter.tryAcquire("key-10", POLICY);
+        assertThat(limiter.size()).isEqualTo(10);
+        assertThat(limiter.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsTheKeysClosestToRefillingFirst() {
+        LocalGcraRateLimiter limiter = limiter(10);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("heavy", POLICY);
+        }
+        for (int i = 0; i < 9; i++) {
+            limiter.tryAcquire("light-" + i, POLICY);
+        }
+
+        // At the cap: the new key must not cost the caller that spent its whole burst
+        limiter.tryAcquire("new", POLICY);
+        assertThat(limiter.size()).isLessThanOrEqualTo(10);
+        assertThat(limiter.tryAcquire("heavy", POLICY).isAllowed()).isFalse();
+    }
+
+    @Test
+    void rejectsAPolicyThatNeverRefills() {
+        LocalGcraRateLimiter limiter = limiter(10);
+
+        assertThatThrownBy(() -> limiter.tryAcquire("k", new RateLimitProperties.Policy(3, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,40 @@
+package com.devwonder.apigateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitPropertiesTest {
+
+    @Test
+    void defaultsAreValid() {
+        assertThatCode(() -> new RateLimitProperties().validate()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void zeroRefillFailsStartup() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put("report-service", new RateLimitProperties.Policy(50, 0));
+
+        assertThatThrownBy(properties::validate)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("routes.report-service.refill-per-second");
+    }
+
+    @Test
+    void zeroCapacityFailsStartup() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoles().put("DEALER", new RateLimitProperties.Policy(0, 5));
+
+        assertThatThrownBy(properties::validate).hasMessageContaining("roles.DEALER.capacity");
+    }
+
+    @Test
+    void apiKeyIsNotEchoedInTheError() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getApiKeys().put("secret-key-value", new RateLimitProperties.Policy(10, -1));
+
+        assertThatThrownBy(properties::validate).hasMessageNotContaining("secret-key-value");
+    }
+}
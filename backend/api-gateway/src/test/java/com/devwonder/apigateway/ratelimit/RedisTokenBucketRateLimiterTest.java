@@ -0,0 +1,66 @@
+package com.devwonder.apigateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class RedisTokenBucketRateLimiterTest {
+
+    private static final RateLimitProperties.Policy POLICY = new RateLimitProperties.Policy(100, 10.0);
+
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final RedisScript<List<Long>> script = mock(RedisScript.class);
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private RedisTokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties.getNearCache().setMaxEntries(2);
+        properties.getNearCache().setLeaseSize(10);
+        properties.getNearCache().setLeaseTtl(Duration.ofMinutes(1));
+        // Redis grants the whole lease: 10 tokens, 90 left in the bucket
+        doReturn(Flux.just(List.of(10L, 90L, 0L))).when(redisTemplate).execute(eq(script), anyList(), anyList());
+        limiter = new RedisTokenBucketRateLimiter(redisTemplate, script, properties,
+                new LocalGcraRateLimiter(100, 60_000), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void spendsLeasedTokensWithoutCallingRedis() {
+        assertThat(limiter.tryAcquire("a", POLICY).block().isAllowed()).isTrue();
+        for (int i = 0; i < 9; i++) {
+            assertThat(limiter.tryAcquire("a", POLICY).block().isAllowed()).isTrue();
+        }
+
+        verify(redisTemplate, times(1)).execute(eq(script), anyList(), anyList());
+    }
+
+    @Test
+    void fullLeaseTableKeepsLiveLeases() {
+        limiter.tryAcquire("a", POLICY).block();
+        limiter.tryAcquire("b", POLICY).block();
+        // No room and nothing expired: c goes without a lease instead of wiping a's and b's
+        limiter.tryAcquire("c", POLICY).block();
+
+        limiter.tryAcquire("a", POLICY).block();
+        limiter.tryAcquire("b", POLICY).block();
+        verify(redisTemplate, times(3)).execute(eq(script), anyList(), anyList());
+
+        limiter.tryAcquire("c", POLICY).block();
+        verify(redisTemplate, times(4)).execute(eq(script), anyList(), anyList());
+    }
+}
@@ -0,0 +1,108 @@
+package com.devwonder.apigateway.ratelimit;
+
+import com.devwonder.apigateway.config.RateLimitConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@code scripts/token_bucket.lua} against a real Redis server.
+ */
+class TokenBucketScriptTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static ReactiveStringRedisTemplate redisTemplate;
+    private static RedisScript<List<Long>> script;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        script = new RateLimitConfig().tokenBucketScript();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute(connection -> connection.serverCommands().flushAll()).blockLast();
+    }
+
+    /** Returns {granted, remaining, retryAfterMillis}; {@code ratePerMilli} is tokens per millisecond. */
+    private static List<Long> take(String key, long capacity, double ratePerMilli, int requested, double watermark) {
+        return redisTemplate.execute(script, List.of(key),
+                List.of(Long.toString(capacity), Double.toString(ratePerMilli),
+                        Integer.toString(requested), Double.toString(watermark)))
+                .blockFirst();
+    }
+
+    @Test
+    void newBucketStartsFull() {
+        assertThat(take("fresh", 10, 0.001, 1, 0.5)).containsExactly(1L, 9L, 0L);
+    }
+
+    @Test
+    void leasesABatchOnlyWhileAboveTheWatermark() {
+        // Refill is negligible: one token every 1000 s
+        assertThat(take("lease", 10, 0.000001, 5, 0.5).get(0)).isEqualTo(5);
+        // 5 left; another batch would drop below half of capacity, so only one token
+        assertThat(take("lease", 10, 0.000001, 5, 0.5)).containsExactly(1L, 4L, 0L);
+    }
+
+    @Test
+    void emptyBucketRejectsWithTimeUntilTheNextToken() {
+        // One token per second
+        assertThat(take("empty", 2, 0.001, 1, 0.5).get(0)).isEqualTo(1);
+        assertThat(take("empty", 2, 0.001, 1, 0.5).get(0)).isEqualTo(1);
+
+        List<Long> rejected = take("empty", 2, 0.001, 1, 0.5);
+        assertThat(rejected.get(0)).isZero();
+        assertThat(rejected.get(2)).isBetween(1L, 1000L);
+    }
+
+    @Test
+    void refillsWithElapsedServerTime() throws InterruptedException {
+        // One token every 200 ms
+        take("refill", 1, 0.005, 1, 0.5);
+        assertThat(take("refill", 1, 0.005, 1, 0.5).get(0)).isZero();
+
+        Thread.sleep(250);
+        assertThat(take("refill", 1, 0.005, 1, 0.5).get(0)).isEqualTo(1);
+    }
+
+    @Test
+    void bucketExpiresOnceItWouldBeFullAgain() {
+        take("ttl", 10, 0.001, 1, 0.5);
+
+        Duration ttl = redisTemplate.getExpire("ttl").block();
+        // capacity / rate = 10 s to refill, plus a second of slack
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(11));
+    }
+}
@@ -0,0 +1,159 @@
+package com.devwonder.apigateway.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteResilienceGlobalFilterTest {
+
+    private static final String ROUTE = "report-service";
+
+    private final ResilienceProperties properties = new ResilienceProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private RouteResilienceRegistry registry;
+    private RouteResilienceGlobalFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceProperties.Policy policy = new ResilienceProperties.Policy();
+        policy.setMaxConcurrentCalls(1);
+        policy.setTimeout(Duration.ofMillis(100));
+        policy.setSlidingWindowSize(2);
+        policy.setMinimumNumberOfCalls(2);
+        properties.getRoutes().put(ROUTE, policy);
+        registry = new RouteResilienceRegistry(properties, CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(), meterRegistry);
+        filter = new RouteResilienceGlobalFilter(registry, properties, new ObjectMapper().findAndRegisterModules(),
+                meterRegistry);
+    }
+
+    private static MockServerWebExchange exchange(String routeId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/report/dashboard"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(routeId).uri("http://localhost").predicate(e -> true).build());
+        return exchange;
+    }
+
+    private GatewayFilterChain upstream(HttpStatus status) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(status);
+            return Mono.empty();
+        };
+    }
+
+    private RouteResilienceRegistry.RouteGuard guard() {
+        return registry.forRoute(ROUTE);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.counter("gateway.resilience.rejected", "route", ROUTE, "reason", reason).count();
+    }
+
+    @Test
+    void successfulCallIsRecordedAndReleasesItsPermit() {
+        filter.filter(exchange(ROUTE), upstream(HttpStatus.OK)).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(guard().getCircuitBreaker().getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+        // Released once the headers are in, not held for the body
+        assertThat(guard().getBulkhead().getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void fullBulkheadShedsWithAStructuredError() {
+        guard().getBulkhead().tryAcquirePermission();
+        MockServerWebExchange exchange = exchange(ROUTE);
+
+        filter.filter(exchange, upstream(HttpStatus.OK)).block();
+
+        assertThat(upstreamCalls).hasValue(0);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(exchange.getResponse().getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(exchange.getResponse().getBodyAsString().block())
+                .contains("\"status\":503", "\"path\":\"/api/report/dashboard\"");
+        assertThat(rejected("bulkhead_full")).isEqualTo(1);
+    }
+
+    @Test
+    void openBreakerFailsFastAndReturnsTheBulkheadPermit() {
+        guard().getCircuitBreaker().transitionToOpenState();
+        MockServerWebExchange exchange = exchange(ROUTE);
+
+        filter.filter(exchange, upstream(HttpStatus.OK)).block();
+
+        assertThat(upstreamCalls).hasValue(0);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(exchange.getResponse().getHeaders().getFirst("Retry-After")).isEqualTo("30");
+        assertThat(guard().getBulkhead().getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+        assertThat(rejected("circuit_open")).isEqualTo(1);
+    }
+
+    @Test
+    void slowUpstreamTimesOutAsAFailure() {
+        MockServerWebExchange exchange = exchange(ROUTE);
+
+        filter.filter(exchange, ignored -> Mono.never()).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(guard().getCircuitBreaker().getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+        assertThat(guard().getBulkhead().getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+        assertThat(rejected("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void upstreamServerErrorsOpenTheBreaker() {
+        filter.filter(exchange(ROUTE), upstream(HttpStatus.BAD_GATEWAY)).block();
+        filter.filter(exchange(ROUTE), upstream(HttpStatus.INTERNAL_SERVER_ERROR)).block();
+
+        assertThat(guard().getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(meterRegistry.counter("gateway.circuitbreaker.transitions",
+                "route", ROUTE, "from", "CLOSED", "to", "OPEN").count()).isEqualTo(1);
+    }
+
+    @Test
+    void clientErrorsDoNotCountAgainstTheRoute() {
+        filter.filter(exchange(ROUTE), upstream(HttpStatus.NOT_FOUND)).block();
+        filter.filter(exchange(ROUTE), upstream(HttpStatus.BAD_REQUEST)).block();
+
+        assertThat(guard().getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void routesDoNotShareABulkhead() {
+        guard().getBulkhead().tryAcquirePermission();
+        MockServerWebExchange login = exchange("auth-service");
+
+        filter.filter(login, upstream(HttpStatus.OK)).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(login.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void disabledFilterPassesEverythingThrough() {
+        properties.setEnabled(false);
+        guard().getBulkhead().tryAcquirePermission();
+
+        filter.filter(exchange(ROUTE), upstream(HttpStatus.OK)).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+    }
+}
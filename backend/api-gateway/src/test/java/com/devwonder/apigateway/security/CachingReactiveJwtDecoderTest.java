@@ -0,0 +1,157 @@
+package com.devwonder.apigateway.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingReactiveJwtDecoderTest {
+
+    private static final Instant ISSUED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, Jwt> tokens = new HashMap<>();
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final Set<String> revokedSubjects = ConcurrentHashMap.newKeySet();
+
+    private CachingReactiveJwtDecoder decoder(int maxEntries) {
+        return new CachingReactiveJwtDecoder(token -> {
+            verifications.incrementAndGet();
+            return Mono.just(tokens.get(token));
+        }, (subject, issuedAtMillis) -> revokedSubjects.contains(subject), maxEntries, meterRegistry);
+    }
+
+    private String token(String subject, Instant expiresAt) {
+        String value = "token-" + subject;
+        Jwt.Builder jwt = Jwt.withTokenValue(value).header("alg", "RS256").subject(subject).issuedAt(ISSUED_AT);
+        if (expiresAt != null) {
+            jwt.expiresAt(expiresAt);
+        }
+        tokens.put(value, jwt.build());
+        return value;
+    }
+
+    private static Instant inOneHour() {
+        return Instant.now().plusSeconds(3600);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("gateway.jwt.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        CachingReactiveJwtDecoder decoder = decoder(100);
+        String token = token("alice", inOneHour());
+
+        Jwt first = decoder.decode(token).block();
+        Jwt second = decoder.decode(token).block();
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void expiredEntryIsVerifiedAgain() {
+        CachingReactiveJwtDecoder decoder = decoder(100);
+        String token = token("bob", Instant.now().minusSeconds(1));
+
+        decoder.decode(token).block();
+        decoder.decode(token).block();
+
+        assertThat(verifications).hasValue(2);
+        assertThat(requests("hit")).isZero();
+    }
+
+    @Test
+    void revokedTokenBypassesAndLeavesTheCache() {
+        CachingReactiveJwtDecoder decoder = decoder(100);
+        String token = token("carol", inOneHour());
+        decoder.decode(token).block();
+
+        revokedSubjects.add("carol");
+        decoder.decode(token).block();
+        decoder.decode(token).block();
+
+        assertThat(verifications).hasValue(3);
+        assertThat(requests("revoked")).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.jwt.cache.entries").gauge().value()).isZero();
+    }
+
+    @Test
+    void tokenWithoutExpiryIsNotCached() {
+        CachingReactiveJwtDecoder decoder = decoder(100);
+        String token = token("dave", null);
+
+        decoder.decode(token).block();
+        decoder.decode(token).block();
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void staysWithinItsSizeBound() {
+        CachingReactiveJwtDecoder decoder = decoder(10);
+        for (int i = 0; i < 25; i++) {
+            decoder.decode(token("user" + i, inOneHour())).block();
+        }
+
+        assertThat(meterRegistry.get("gateway.jwt.cache.entries").gauge().value()).isLessThanOrEqualTo(10);
+        // The most recent token was stored after the eviction made room
+        verifications.set(0);
+        decoder.decode("token-user24").block();
+        assertThat(verifications).hasValue(0);
+    }
+
+    @Test
+    void cachedTokenIssuedBeforeAWatermarkIsRejected() {
+        Map<String, Long> watermarks = new ConcurrentHashMap<>();
+        TokenRevocationChecker checker = (subject, issuedAtMillis) -> {
+            Long watermark = watermarks.get(subject);
+            return watermark != null && issuedAtMillis < watermark;
+        };
+        // Stands in for the verifying decoder, whose revocation validator asks the same checker
+        CachingReactiveJwtDecoder decoder = new CachingReactiveJwtDecoder(token -> {
+            Jwt jwt = tokens.get(token);
+            return checker.isRevoked(jwt.getSubject(), jwt.getIssuedAt().toEpochMilli())
+                    ? Mono.error(new BadJwtException("Token has been revoked"))
+                    : Mono.just(jwt);
+        }, checker, 100, meterRegistry);
+        String token = token("erin", inOneHour());
+        decoder.decode(token).block();
+
+        // Password reset one second after the token was issued
+        watermarks.put("erin", ISSUED_AT.toEpochMilli() + 1000);
+
+        assertThatThrownBy(() -> decoder.decode(token).block()).isInstanceOf(BadJwtException.class);
+        assertThat(requests("revoked")).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.jwt.cache.entries").gauge().value()).isZero();
+    }
+
+    @Test
+    void tokenIssuedAtTheWatermarkStaysValid() {
+        Map<String, Long> watermarks = new ConcurrentHashMap<>(Map.of("frank", ISSUED_AT.toEpochMilli()));
+        CachingReactiveJwtDecoder decoder = new CachingReactiveJwtDecoder(token -> Mono.just(tokens.get(token)),
+                (subject, issuedAtMillis) -> issuedAtMillis < watermarks.getOrDefault(subject, Long.MIN_VALUE),
+                100, meterRegistry);
+        String token = token("frank", inOneHour());
+
+        decoder.decode(token).block();
+        decoder.decode(token).block();
+
+        assertThat(requests("hit")).isEqualTo(1);
+    }
+}
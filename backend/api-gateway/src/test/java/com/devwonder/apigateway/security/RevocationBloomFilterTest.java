@@ -0,0 +1,45 @@
+package com.devwonder.apigateway.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationBloomFilterTest {
+
+    @Test
+    void neverMissesAnAddedEntry() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("user" + i, 1_700_000_000_000L + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain("user" + i, 1_700_000_000_000L + i)).isTrue();
+        }
+    }
+
+    @Test
+    void sizedForTheRequestedFalsePositiveRate() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i, 1_700_000_000_000L);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            // Same subjects, other issue times: only the timestamp tells them apart
+            if (filter.mightContain("user" + (i % 10_000), 1_700_000_000_001L + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(0, 0.01);
+
+        assertThat(filter.mightContain("anyone", 0L)).isFalse();
+    }
+}
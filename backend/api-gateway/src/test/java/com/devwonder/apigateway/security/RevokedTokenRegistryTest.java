@@ -0,0 +1,159 @@
+package com.devwonder.apigateway.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RevokedTokenRegistryTest {
+
+    private static final String CHANNEL = "auth:token-revocations";
+    private static final String WATERMARK_CHANNEL = "auth:token-watermarks";
+
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    private final ReactiveRedisMessageListenerContainer listenerContainer = mock(ReactiveRedisMessageListenerContainer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Sinks.Many<ReactiveSubscription.Message<String, String>> revocations =
+            Sinks.many().multicast().directBestEffort();
+    private final Sinks.Many<ReactiveSubscription.Message<String, String>> watermarkMessages =
+            Sinks.many().multicast().directBestEffort();
+    /** Holds back the resync that start() schedules until a test runs one itself. */
+    private final AtomicBoolean scanEnabled = new AtomicBoolean();
+
+    private RevokedTokenRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(revocations.asFlux()).when(listenerContainer).receive(ChannelTopic.of(CHANNEL));
+        doReturn(watermarkMessages.asFlux()).when(listenerContainer).receive(ChannelTopic.of(WATERMARK_CHANNEL));
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> Flux.never());
+
+        registry = new RevokedTokenRegistry(redisTemplate, listenerContainer, meterRegistry);
+        ReflectionTestUtils.setField(registry, "channel", CHANNEL);
+        ReflectionTestUtils.setField(registry, "keyPrefix", "auth:blacklist:");
+        ReflectionTestUtils.setField(registry, "resyncInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(registry, "expectedEntries", 1_000);
+        ReflectionTestUtils.setField(registry, "watermarkChannel", WATERMARK_CHANNEL);
+        ReflectionTestUtils.setField(registry, "watermarkKeyPrefix", "auth:token-watermark:");
+        ReflectionTestUtils.setField(registry, "watermarkRetention", Duration.ofDays(8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stop();
+    }
+
+    private void publish(Sinks.Many<ReactiveSubscription.Message<String, String>> sink, String channel, String message) {
+        sink.tryEmitNext(new ReactiveSubscription.ChannelMessage<>(channel, message));
+    }
+
+    private static long inOneHour() {
+        return System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+    }
+
+    @Test
+    void publishedRevocationRejectsOnlyThatToken() {
+        registry.start();
+        publish(revocations, CHANNEL, "alice:1000:" + inOneHour());
+
+        assertThat(registry.isRevoked("alice", 1000)).isTrue();
+        assertThat(registry.isRevoked("alice", 2000)).isFalse();
+        assertThat(registry.isRevoked("bob", 1000)).isFalse();
+    }
+
+    @Test
+    void filterPositivesAreConfirmedAgainstTheExactSet() {
+        // A one-entry filter saturates after a few hundred revocations and then matches almost anything
+        ReflectionTestUtils.setField(registry, "expectedEntries", 1);
+        registry.start();
+        for (int i = 0; i < 500; i++) {
+            publish(revocations, CHANNEL, "user" + i + ":1000:" + inOneHour());
+        }
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(registry.isRevoked("user" + i, 1000)).isTrue();
+            assertThat(registry.isRevoked("user" + i, 2000)).isFalse();
+        }
+    }
+
+    @Test
+    void expiredRevocationIsNotEnforced() {
+        registry.start();
+        publish(revocations, CHANNEL, "carol:1000:" + (System.currentTimeMillis() - 1));
+
+        assertThat(registry.isRevoked("carol", 1000)).isFalse();
+    }
+
+    @Test
+    void watermarkRevokesEarlierTokensOfTheSubject() {
+        registry.start();
+        long watermark = System.currentTimeMillis();
+        publish(watermarkMessages, WATERMARK_CHANNEL, "dave:" + watermark);
+
+        assertThat(registry.isRevoked("dave", watermark - 1)).isTrue();
+        assertThat(registry.isRevoked("dave", watermark)).isFalse();
+        assertThat(registry.isRevoked("erin", watermark - 1)).isFalse();
+    }
+
+    @Test
+    void malformedMessagesAreIgnored() {
+        registry.start();
+        publish(revocations, CHANNEL, "no-separators");
+        publish(revocations, CHANNEL, "frank:not-a-time:" + inOneHour());
+        publish(revocations, CHANNEL, "frank:1000:" + inOneHour());
+
+        assertThat(registry.isRevoked("frank", 1000)).isTrue();
+        assertThat(meterRegistry.get("gateway.jwt.revocations").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void resyncLoadsRedisStateAndDropsExpiredEntries() {
+        long watermark = System.currentTimeMillis();
+        @SuppressWarnings("unchecked")
+        ReactiveValueOperations<String, String> values = mock(ReactiveValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.get("auth:token-watermark:henry")).thenReturn(Mono.just(Long.toString(watermark)));
+        when(redisTemplate.getExpire(anyString())).thenReturn(Mono.just(Duration.ofMinutes(10)));
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            if (!scanEnabled.get()) {
+                return Flux.never();
+            }
+            String pattern = invocation.<ScanOptions>getArgument(0).getPattern();
+            return pattern.startsWith("auth:blacklist:")
+                    ? Flux.just("auth:blacklist:grace:1000", "auth:blacklist:unparseable")
+                    : Flux.just("auth:token-watermark:henry");
+        });
+        registry.start();
+        publish(revocations, CHANNEL, "ivan:1000:" + (System.currentTimeMillis() - 1));
+        publish(revocations, CHANNEL, "judy:1000:" + inOneHour());
+
+        scanEnabled.set(true);
+        registry.resync().block();
+
+        assertThat(registry.isRevoked("grace", 1000)).isTrue();
+        assertThat(registry.isRevoked("judy", 1000)).isTrue();
+        assertThat(registry.isRevoked("henry", watermark - 1)).isTrue();
+        // The expired entry and the unparseable key are gone from the rebuilt set
+        assertThat(meterRegistry.get("gateway.jwt.revocations").gauge().value()).isEqualTo(2);
+    }
+}
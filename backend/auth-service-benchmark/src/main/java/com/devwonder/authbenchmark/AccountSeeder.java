@@ -0,0 +1,64 @@
+package com.devwonder.authbenchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates the DEALER accounts the load runs log in as, through the inter-service account endpoint.
+ * Accounts that already exist (a re-run against {@code --target}) are reused as they are.
+ */
+public class AccountSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountSeeder.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static final String PASSWORD = "bench-password-1";
+
+    private final BenchmarkOptions options;
+    private final String baseUrl;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    public AccountSeeder(BenchmarkOptions options, String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+    }
+
+    public List<String> seed() throws IOException, InterruptedException {
+        log.info("Creating {} benchmark accounts (BCrypt cost {}, this takes a while at high costs)",
+                options.accounts(), options.bcryptCost());
+        List<String> usernames = new ArrayList<>(options.accounts());
+        for (int i = 0; i < options.accounts(); i++) {
+            String username = String.format("bench-dealer-%05d", i);
+            byte[] body = MAPPER.writeValueAsBytes(Map.of(
+                    "username", username,
+                    "password", PASSWORD,
+                    "roleNames", Set.of("DEALER")));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth-service/accounts"))
+                    .header("X-API-Key", options.apiKey())
+                    .header("Content-Type", "application/json")
+                    .timeout(options.requestTimeout())
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            // 409: left over from an earlier run against the same instance
+            if (response.statusCode() / 100 != 2 && response.statusCode() != 409) {
+                throw new IllegalStateException("Creating " + username + " failed with HTTP "
+                        + response.statusCode() + ": " + response.body());
+            }
+            usernames.add(username);
+        }
+        return usernames;
+    }
+}
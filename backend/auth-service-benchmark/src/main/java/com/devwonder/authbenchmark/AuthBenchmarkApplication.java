@@ -0,0 +1,66 @@
+package com.devwonder.authbenchmark;
+
+import com.devwonder.benchmark.LatencyStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Entry point. Starts embedded Postgres and Redis, launches auth-service against them (or uses {@code --target}),
+ * creates the benchmark accounts, runs login / refresh / logout sessions and prints latency percentiles and
+ * throughput per step.
+ */
+public final class AuthBenchmarkApplication {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthBenchmarkApplication.class);
+
+    private AuthBenchmarkApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkOptions options = BenchmarkOptions.parse(args);
+
+        try (EmbeddedInfrastructure infrastructure = new EmbeddedInfrastructure()) {
+            // An external --target brings its own database and Redis
+            if (options.target() == null || options.infraOnly()) {
+                infrastructure.start();
+            }
+
+            if (options.infraOnly()) {
+                log.info("Infrastructure only - start auth-service with {}",
+                        String.join(" ", AuthServiceProcess.infrastructureArgs(options, infrastructure)));
+                Thread.currentThread().join();
+                return;
+            }
+
+            try (AuthServiceProcess authService = new AuthServiceProcess(options, infrastructure)) {
+                String baseUrl = options.target() != null ? options.target() : authService.start();
+                List<String> usernames = new AccountSeeder(options, baseUrl).seed();
+                try (SessionLoadDriver driver = new SessionLoadDriver(options, baseUrl, usernames)) {
+                    printResults(options, driver.run(), driver.cooldownWaits());
+                }
+            }
+        }
+        System.exit(0);
+    }
+
+    private static void printResults(BenchmarkOptions options, Map<AuthStep, LatencyStats> results, long cooldownWaits) {
+        System.out.printf(Locale.ROOT, "%nworkers=%d duration=%ds accounts=%d bcrypt-cost=%d algorithm=%s throttle=%s%n",
+                options.concurrency(), options.duration().toSeconds(), options.accounts(), options.bcryptCost(),
+                options.signingAlgorithm(), options.throttle());
+        System.out.printf(Locale.ROOT, "%-10s %10s %8s %10s %9s %9s %9s %9s%n",
+                "step", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        results.forEach((step, stats) -> System.out.printf(Locale.ROOT,
+                "%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                step.getName(), stats.successes(), stats.errors(), stats.throughputPerSecond(),
+                stats.percentileMillis(50), stats.percentileMillis(90), stats.percentileMillis(99), stats.maxMillis()));
+        if (cooldownWaits > 0) {
+            System.out.printf(Locale.ROOT,
+                    "%n%d sessions waited for an account to become reusable; raise --accounts if that is a large share%n",
+                    cooldownWaits);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.devwonder.authbenchmark;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the packaged auth-service jar in a child JVM against the embedded Postgres and Redis.
+ * Config server and Kafka are switched off; login, refresh and logout of non-admin accounts touch neither.
+ */
+public class AuthServiceProcess implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthServiceProcess.class);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private final BenchmarkOptions options;
+    private final EmbeddedInfrastructure infrastructure;
+    private Process process;
+
+    public AuthServiceProcess(BenchmarkOptions options, EmbeddedInfrastructure infrastructure) {
+        this.options = options;
+        this.infrastructure = infrastructure;
+    }
+
+    /** Spring Boot arguments that point auth-service at the embedded servers. */
+    static List<String> infrastructureArgs(BenchmarkOptions options, EmbeddedInfrastructure infrastructure) {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.cloud.config.enabled=false");
+        args.add("--spring.datasource.url=" + infrastructure.jdbcUrl());
+        args.add("--spring.datasource.username=" + infrastructure.databaseUser());
+        args.add("--spring.datasource.password=postgres");
+        args.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+        args.add("--spring.data.redis.host=localhost");
+        args.add("--spring.data.redis.port=" + infrastructure.redisPort());
+        args.add("--spring.kafka.bootstrap-servers=localhost:9");
+        args.add("--spring.kafka.admin.auto-create=false");
+        args.add("--auth.password.bcrypt-cost=" + options.bcryptCost());
+        args.add("--auth.signing-keys.algorithm=" + options.signingAlgorithm());
+        args.add("--auth.signing-keys.secret=benchmark-key-ring-secret");
+        args.add("--auth.login-throttle.enabled=" + options.throttle());
+        args.add("--auth.api.key=" + options.apiKey());
+        return args;
+    }
+
+    public String start() throws IOException, InterruptedException {
+        Path jar = options.authJar();
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("auth-service jar not found at " + jar.toAbsolutePath()
+                    + " - run 'mvn -DskipTests package' in auth-service or pass --auth-jar / --target");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=" + options.authPort());
+        command.addAll(infrastructureArgs(options, infrastructure));
+        command.add("--management.endpoints.web.exposure.include=health");
+        command.add("--logging.level.com.devwonder.authservice=INFO");
+        command.addAll(options.authArgs());
+
+        Path logFile = Path.of("target", "auth-service.log");
+        Files.createDirectories(logFile.getParent());
+
+        log.info("Starting auth-service on port {} (log: {})", options.authPort(), logFile.toAbsolutePath());
+        process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+
+        String baseUrl = "http://localhost:" + options.authPort();
+        awaitHealthy(baseUrl);
+        return baseUrl;
+    }
+
+    private void awaitHealthy(String baseUrl) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("auth-service exited during startup with code " + process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    log.info("auth-service is up at {}", baseUrl);
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("auth-service did not become healthy within " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (process != null && process.isAlive()) {
+            process.destroy();
+            if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.devwonder.authbenchmark;
+
+/**
+ * The requests of one benchmark session, in the order a client makes them.
+ */
+public enum AuthStep {
+    LOGIN("login", "/auth/login"),
+    REFRESH("refresh", "/auth/refresh"),
+    LOGOUT("logout", "/auth/logout");
+
+    private final String name;
+    private final String path;
+
+    AuthStep(String name, String path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,69 @@
+package com.devwonder.authbenchmark;
+
+import com.devwonder.benchmark.LoadOptions;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Command line options, given as {@code --name=value}. {@code --auth-arg} may be repeated.
+ */
+public final class BenchmarkOptions extends LoadOptions {
+
+    private BenchmarkOptions(String[] args) {
+        super(args, "auth-arg");
+    }
+
+    public static BenchmarkOptions parse(String[] args) {
+        return new BenchmarkOptions(args);
+    }
+
+    /** auth-service jar the harness launches when no {@code --target} is given. */
+    public Path authJar() {
+        return Path.of(value("auth-jar", "../auth-service/target/auth-service-0.0.1-SNAPSHOT.jar"));
+    }
+
+    public int authPort() {
+        return intValue("auth-port", 18081);
+    }
+
+    public List<String> authArgs() {
+        return passThroughArgs();
+    }
+
+    /** Start Postgres and Redis, print how to reach them and block - for profiling an auth-service started by hand. */
+    public boolean infraOnly() {
+        return flag("infra-only");
+    }
+
+    /** Must match the target's {@code auth.api.key}; used only to create the benchmark accounts. */
+    public String apiKey() {
+        return value("api-key", "INTER_SERVICE_KEY");
+    }
+
+    public int bcryptCost() {
+        return intValue("bcrypt-cost", 10);
+    }
+
+    /** {@code RS256} or {@code ES256}. */
+    public String signingAlgorithm() {
+        return value("signing-algorithm", "RS256");
+    }
+
+    /**
+     * Keep login throttling on. Off by default: every request comes from one address,
+     * so the per-IP limit would turn the run into a 429 benchmark.
+     */
+    public boolean throttle() {
+        return flag("throttle");
+    }
+
+    /**
+     * Accounts to create and cycle through. Tokens are identified by subject and issue second,
+     * so each account can complete at most one session per second; keep this well above
+     * {@code concurrency * sessions per second per worker}.
+     */
+    public int accounts() {
+        return intValue("accounts", 500);
+    }
+}
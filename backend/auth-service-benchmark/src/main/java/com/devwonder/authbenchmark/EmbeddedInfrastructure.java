@@ -0,0 +1,64 @@
+package com.devwonder.authbenchmark;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * Throwaway Postgres and Redis on free local ports. Both are the real servers, not emulations, so
+ * Hibernate, the signing key advisory lock and the Redis Lua scripts all run as they do in production.
+ */
+public class EmbeddedInfrastructure implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddedInfrastructure.class);
+
+    private static final String DATABASE = "postgres";
+    private static final String USER = "postgres";
+
+    private EmbeddedPostgres postgres;
+    private RedisServer redis;
+    private int redisPort;
+
+    public void start() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        redisPort = freePort();
+        redis = new RedisServer(redisPort);
+        redis.start();
+        log.info("Embedded Postgres on port {}, Redis on port {}", postgres.getPort(), redisPort);
+    }
+
+    public String jdbcUrl() {
+        return "jdbc:postgresql://localhost:" + postgres.getPort() + "/" + DATABASE;
+    }
+
+    public String databaseUser() {
+        return USER;
+    }
+
+    public int redisPort() {
+        return redisPort;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (redis != null) {
+                redis.stop();
+            }
+        } finally {
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+}
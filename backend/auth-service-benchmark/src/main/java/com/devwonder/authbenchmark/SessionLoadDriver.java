@@ -0,0 +1,196 @@
+package com.devwonder.authbenchmark;
+
+import com.devwonder.benchmark.LatencyRecorder;
+import com.devwonder.benchmark.LatencyStats;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop sessions: each worker logs in, refreshes with the refresh token and logs out with the new
+ * access token, then starts over with its next account. Latency is recorded per step; a failed step ends
+ * the session and counts as an error for that step only.
+ *
+ * A token is identified by subject and issue second, so an account is never reused within the second its
+ * previous session's tokens were issued in; otherwise the new login's tokens would already be blacklisted.
+ * Time spent waiting for that is not measured but counted, see {@link #cooldownWaits()}.
+ */
+public class SessionLoadDriver implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionLoadDriver.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final BenchmarkOptions options;
+    private final String baseUrl;
+    private final ExecutorService clientExecutor;
+    private final HttpClient client;
+    private final List<String> usernames;
+    /** Epoch millis at which each account's last session ended, by index into {@link #usernames}. */
+    private final long[] lastSessionEnd;
+    private final AtomicLong cooldownWaits = new AtomicLong();
+
+    public SessionLoadDriver(BenchmarkOptions options, String baseUrl, List<String> usernames) {
+        if (usernames.size() < options.concurrency()) {
+            throw new IllegalArgumentException("Need at least one account per worker: --accounts="
+                    + usernames.size() + " --concurrency=" + options.concurrency());
+        }
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.usernames = usernames;
+        this.lastSessionEnd = new long[usernames.size()];
+        this.clientExecutor = Executors.newFixedThreadPool(options.concurrency());
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(clientExecutor)
+                .build();
+    }
+
+    public Map<AuthStep, LatencyStats> run() throws InterruptedException {
+        log.info("Warming up for {}s", options.warmup().toSeconds());
+        drive(options.warmup());
+        cooldownWaits.set(0);
+
+        log.info("Measuring for {}s with {} workers over {} accounts",
+                options.duration().toSeconds(), options.concurrency(), usernames.size());
+        return drive(options.duration());
+    }
+
+    /** Sessions that had to wait for their account's previous tokens to age by a second. */
+    public long cooldownWaits() {
+        return cooldownWaits.get();
+    }
+
+    private Map<AuthStep, LatencyStats> drive(Duration duration) throws InterruptedException {
+        int workers = options.concurrency();
+        Map<AuthStep, List<LatencyRecorder>> recorders = new EnumMap<>(AuthStep.class);
+        for (AuthStep step : AuthStep.values()) {
+            recorders.put(step, new ArrayList<>(workers));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        CountDownLatch done = new CountDownLatch(workers);
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        for (int i = 0; i < workers; i++) {
+            int worker = i;
+            Map<AuthStep, LatencyRecorder> own = new EnumMap<>(AuthStep.class);
+            for (AuthStep step : AuthStep.values()) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                recorders.get(step).add(recorder);
+                own.put(step, recorder);
+            }
+            pool.execute(() -> {
+                try {
+                    // Workers own disjoint accounts: worker, worker + workers, worker + 2 * workers, ...
+                    int account = worker;
+                    while (System.nanoTime() < deadline) {
+                        awaitCooldown(account);
+                        session(usernames.get(account), own);
+                        lastSessionEnd[account] = System.currentTimeMillis();
+                        account += workers;
+                        if (account >= usernames.size()) {
+                            account = worker;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        try {
+            done.await();
+            long elapsed = System.nanoTime() - start;
+            Map<AuthStep, LatencyStats> results = new EnumMap<>(AuthStep.class);
+            recorders.forEach((step, stepRecorders) -> results.put(step, LatencyRecorder.merge(stepRecorders, elapsed)));
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void awaitCooldown(int account) throws InterruptedException {
+        long reusableAt = (lastSessionEnd[account] / 1000 + 1) * 1000;
+        long wait = reusableAt - System.currentTimeMillis();
+        if (wait > 0) {
+            cooldownWaits.incrementAndGet();
+            Thread.sleep(wait);
+        }
+    }
+
+    private void session(String username, Map<AuthStep, LatencyRecorder> recorders) throws InterruptedException {
+        JsonNode login = call(AuthStep.LOGIN, recorders,
+                json(Map.of("username", username, "password", AccountSeeder.PASSWORD)), null);
+        if (login == null) {
+            return;
+        }
+        JsonNode refresh = call(AuthStep.REFRESH, recorders,
+                json(Map.of("token", login.path("refreshToken").asText())), null);
+        if (refresh == null) {
+            return;
+        }
+        call(AuthStep.LOGOUT, recorders, "", refresh.path("accessToken").asText());
+    }
+
+    /** Sends one step and returns the response's {@code data}, or {@code null} after recording an error. */
+    private JsonNode call(AuthStep step, Map<AuthStep, LatencyRecorder> recorders, String body, String bearer)
+            throws InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + step.getPath()))
+                .header("X-Gateway-Request", "true")
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .timeout(options.requestTimeout())
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+
+        LatencyRecorder recorder = recorders.get(step);
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long latency = System.nanoTime() - sent;
+            if (response.statusCode() != 200) {
+                recorder.recordError();
+                return null;
+            }
+            recorder.record(latency);
+            return MAPPER.readTree(response.body()).path("data");
+        } catch (IOException e) {
+            recorder.recordError();
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        clientExecutor.shutdownNow();
+    }
+
+    private static String json(Map<String, String> fields) {
+        try {
+            return MAPPER.writeValueAsString(fields);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.devwonder.authservice.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end cost of {@link AuthJwtService}: claim maps, jjwt serialization, the key
+ * ring lookup and the signature itself. Compare with {@code SignatureAlgorithmBenchmark}
+ * to see how much of a login or refresh is raw crypto and how much is jjwt.
+ *
+ * {@code generateTokenPair} is what a login signs, {@code generateAccessToken} what a
+ * refresh signs, and {@code parseRefreshToken} the verification a refresh or logout
+ * starts with.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthJwtServiceBenchmark {
+
+    private static final String USERNAME = "dealer.hanoi";
+
+    @Param({ "RS256", "ES256" })
+    private String algorithm;
+
+    private AuthJwtService jwtService;
+    private Map<String, Object> claims;
+    private String refreshToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = BenchmarkFixtures.jwtService(algorithm);
+        claims = new HashMap<>();
+        claims.put("roles", Set.of("DEALER"));
+        claims.put("userId", 1042L);
+        refreshToken = jwtService.generateRefreshToken(USERNAME, claims);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateToken(USERNAME, claims);
+    }
+
+    @Benchmark
+    public String[] generateTokenPair() {
+        return new String[] {
+                jwtService.generateToken(USERNAME, claims),
+                jwtService.generateRefreshToken(USERNAME, claims)
+        };
+    }
+
+    @Benchmark
+    public boolean parseRefreshToken() {
+        return jwtService.isRefreshTokenValid(jwtService.parse(refreshToken));
+    }
+}
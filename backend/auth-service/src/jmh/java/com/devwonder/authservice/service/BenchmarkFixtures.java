@@ -0,0 +1,108 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.authservice.entity.SigningKey;
+import com.devwonder.authservice.repository.SigningKeyRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds the real auth-service beans without a Spring context or a database, so the
+ * benchmarks measure the production code paths and nothing else.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /** An {@link AuthJwtService} whose key ring holds one freshly generated key. */
+    static AuthJwtService jwtService(String algorithm) {
+        JwksService jwksService = new JwksService(new InMemorySigningKeyRepository(),
+                new TransactionTemplate(new NoOpTransactionManager()));
+        setField(jwksService, "algorithmName", algorithm);
+        setField(jwksService, "wrappingSecret", "benchmark-key-ring-secret");
+        jwksService.init();
+        return new AuthJwtService(jwksService);
+    }
+
+    /** Stands in for Spring's {@code @Value} injection. */
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static final class InMemorySigningKeyRepository extends SigningKeyRepository {
+
+        private final List<SigningKey> keys = new ArrayList<>();
+
+        InMemorySigningKeyRepository() {
+            super(null);
+        }
+
+        @Override
+        public void lockForRotation() {
+        }
+
+        @Override
+        public List<SigningKey> findPublished(Instant now) {
+            return keys.stream()
+                    .filter(key -> key.getRetiresAt() == null || key.getRetiresAt().isAfter(now))
+                    .sorted(Comparator.comparing(SigningKey::getActivatesAt))
+                    .toList();
+        }
+
+        @Override
+        public Optional<SigningKey> findNewest() {
+            return keys.stream().max(Comparator.comparing(SigningKey::getActivatesAt));
+        }
+
+        @Override
+        public void insert(SigningKey key) {
+            keys.add(key);
+        }
+
+        @Override
+        public void retireAllExcept(String kid, Instant retiresAt) {
+            keys.stream()
+                    .filter(key -> key.getRetiresAt() == null && !key.getKid().equals(kid))
+                    .forEach(key -> key.setRetiresAt(retiresAt));
+        }
+
+        @Override
+        public int deleteRetiredBefore(Instant cutoff) {
+            int before = keys.size();
+            keys.removeIf(key -> key.getRetiresAt() != null && key.getRetiresAt().isBefore(cutoff));
+            return before - keys.size();
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.devwonder.authservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sign and verify cost of the JWS algorithms we could issue access tokens with.
+ *
+ * Signing happens once per login or refresh in auth-service; verification happens on
+ * every authenticated request (gateway, plus services that validate locally), so
+ * {@code verify} is the number that matters most. The input is the signing input of
+ * a typical access token. Ed25519 is measured for comparison only: jjwt 0.11 cannot
+ * issue EdDSA tokens and the gateway decoder cannot verify them, so it is not a
+ * {@code SigningAlgorithm} option yet.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SignatureAlgorithmBenchmark {
+
+    private static final String HEADER = "{\"kid\":\"mjFU7E5VRq6VI5ArJ5KBgcI9gmBFm0hfTQXCB0CzpB8\",\"alg\":\"RS256\"}";
+    private static final String PAYLOAD = "{\"roles\":[\"DEALER\"],\"userId\":1042,\"userType\":\"DEALER\","
+            + "\"token_type\":\"access\",\"sub\":\"dealer.hanoi\",\"iat\":1760745600,\"exp\":1760747400}";
+
+    @Param({ "RS256", "ES256", "Ed25519" })
+    private String algorithm;
+
+    private byte[] signingInput;
+    private byte[] signature;
+    private KeyPair keyPair;
+    private Signature signer;
+    private Signature verifier;
+
+    @Setup(Level.Trial)
+    public void setUp() throws GeneralSecurityException {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        signingInput = (encoder.encodeToString(HEADER.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(PAYLOAD.getBytes(StandardCharsets.UTF_8))).getBytes(StandardCharsets.US_ASCII);
+
+        String jcaSignature;
+        KeyPairGenerator generator;
+        switch (algorithm) {
+            case "RS256" -> {
+                generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                jcaSignature = "SHA256withRSA";
+            }
+            case "ES256" -> {
+                generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                jcaSignature = "SHA256withECDSA";
+            }
+            case "Ed25519" -> {
+                generator = KeyPairGenerator.getInstance("Ed25519");
+                jcaSignature = "Ed25519";
+            }
+            default -> throw new IllegalArgumentException(algorithm);
+        }
+        keyPair = generator.generateKeyPair();
+        signer = Signature.getInstance(jcaSignature);
+        verifier = Signature.getInstance(jcaSignature);
+        signature = sign();
+    }
+
+    @Benchmark
+    public byte[] sign() throws GeneralSecurityException {
+        signer.initSign(keyPair.getPrivate());
+        signer.update(signingInput);
+        return signer.sign();
+    }
+
+    @Benchmark
+    public boolean verify() throws GeneralSecurityException {
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(signingInput);
+        return verifier.verify(signature);
+    }
+}
@@ -0,0 +1,119 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.common.config.RedisConfig;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+/**
+ * Revocation checks as refresh and logout run them: a Redis {@code EXISTS} per token
+ * through {@link TokenBlacklistService}, against the in-memory
+ * {@link TokenWatermarkService} lookup.
+ *
+ * Uses an embedded Redis on a free local port unless {@code -p redis=host:port}
+ * points at a real one, so the numbers are mostly loopback round trips; against a
+ * networked Redis the blacklist checks grow by the network latency and the watermark
+ * check does not.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenBlacklistServiceBenchmark {
+
+    private static final String EMBEDDED = "embedded";
+
+    @Param({ EMBEDDED })
+    private String redis;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private TokenBlacklistService blacklistService;
+    private TokenWatermarkService watermarkService;
+    private ParsedToken liveToken;
+    private ParsedToken revokedToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String host = "localhost";
+        int port;
+        if (EMBEDDED.equals(redis)) {
+            port = freePort();
+            redisServer = new RedisServer(port);
+            redisServer.start();
+        } else {
+            int separator = redis.lastIndexOf(':');
+            host = redis.substring(0, separator);
+            port = Integer.parseInt(redis.substring(separator + 1));
+        }
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        AuthJwtService jwtService = BenchmarkFixtures.jwtService("RS256");
+        blacklistService = new TokenBlacklistService(new RedisConfig().redisTemplate(connectionFactory),
+                stringRedisTemplate, jwtService);
+        BenchmarkFixtures.setField(blacklistService, "revocationChannel", "auth:token-revocations");
+        watermarkService = new TokenWatermarkService(stringRedisTemplate);
+
+        Map<String, Object> claims = Map.of("roles", Set.of("DEALER"), "userId", 1042L);
+        revokedToken = jwtService.parse(jwtService.generateRefreshToken("dealer.revoked", claims));
+        liveToken = jwtService.parse(jwtService.generateRefreshToken("dealer.live", claims));
+        blacklistService.blacklistToken(revokedToken);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        connectionFactory.destroy();
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    /** The common case: a live token that is not on the blacklist. */
+    @Benchmark
+    public boolean blacklistMiss() {
+        return blacklistService.isTokenBlacklisted(liveToken);
+    }
+
+    @Benchmark
+    public boolean blacklistHit() {
+        return blacklistService.isTokenBlacklisted(revokedToken);
+    }
+
+    @Benchmark
+    public boolean watermarkCheck() {
+        return watermarkService.isRevoked(liveToken);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
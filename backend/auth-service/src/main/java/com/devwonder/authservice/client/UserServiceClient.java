@@ -1,5 +1,6 @@
 package com.devwonder.authservice.client;
 
+import com.devwonder.authservice.dto.AdminLoginSettingsResponse;
 import com.devwonder.common.dto.BaseResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -10,14 +11,8 @@ import org.springframework.web.bind.annotation.RequestHeader;
 @FeignClient(name = "user-service", url = "http://user-service:8082")
 public interface UserServiceClient {
 
-    @GetMapping("/auth-lookup/admin/{accountId}/require-login-email-confirmation")
-    ResponseEntity<BaseResponse<Boolean>> getAdminRequireLoginEmailConfirmation(
-            @PathVariable Long accountId,
-            @RequestHeader("X-API-Key") String apiKey
-    );
-
-    @GetMapping("/auth-lookup/admin/{accountId}/email")
-    ResponseEntity<BaseResponse<String>> getAdminEmail(
+    @GetMapping("/auth-lookup/admin/{accountId}/login-settings")
+    ResponseEntity<BaseResponse<AdminLoginSettingsResponse>> getAdminLoginSettings(
             @PathVariable Long accountId,
             @RequestHeader("X-API-Key") String apiKey
     );
@@ -0,0 +1,27 @@
+package com.devwonder.authservice.config;
+
+import com.devwonder.authservice.service.AdminLoginSettingsCache;
+import com.devwonder.authservice.service.TokenWatermarkService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisListenerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+            AdminLoginSettingsCache adminLoginSettingsCache,
+            TokenWatermarkService tokenWatermarkService,
+            @Value("${auth.admin-login-settings.invalidation-channel:auth:admin-login-settings:invalidate}") String channel,
+            @Value("${auth.token-watermark.channel:auth:token-watermarks}") String watermarkChannel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(adminLoginSettingsCache, new ChannelTopic(channel));
+        container.addMessageListener(tokenWatermarkService, new ChannelTopic(watermarkChannel));
+        return container;
+    }
+}
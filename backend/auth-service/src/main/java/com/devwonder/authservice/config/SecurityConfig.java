@@ -1,12 +1,26 @@
 package com.devwonder.authservice.config;
 
 import com.devwonder.common.config.BaseSecurityConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
 
 @Configuration
 public class SecurityConfig extends BaseSecurityConfig {
 
+    // Raising it takes effect for existing accounts at their next login (see AuthService)
+    @Value("${auth.password.bcrypt-cost:10}")
+    private int bcryptCost;
+
+    @Override
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder(bcryptCost);
+    }
+
     @Override
     protected void configureServiceEndpoints(AuthorizeHttpRequestsConfigurer<org.springframework.security.config.annotation.web.builders.HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
         auth
@@ -19,5 +33,4 @@ public class SecurityConfig extends BaseSecurityConfig {
             // All auth endpoints - ONLY accessible via API Gateway
             .requestMatchers("/auth/**").access(gatewayHeaderRequired());
     }
-    
 }
\ No newline at end of file
@@ -36,10 +36,13 @@ public class AuthController {
         @ApiResponse(responseCode = "400", description = "Invalid request payload"),
         @ApiResponse(responseCode = "401", description = "Invalid username or password"),
         @ApiResponse(responseCode = "403", description = "Account is disabled"),
-        @ApiResponse(responseCode = "500", description = "Internal server error")
+        @ApiResponse(responseCode = "429", description = "Too many login attempts for this username or client"),
+        @ApiResponse(responseCode = "500", description = "Internal server error"),
+        @ApiResponse(responseCode = "503", description = "Password hashing is saturated, retry later")
     })
-    public ResponseEntity<BaseResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
-        LoginResponse response = authService.authenticateUser(loginRequest);
+    public ResponseEntity<BaseResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest,
+                                                             HttpServletRequest request) {
+        LoginResponse response = authService.authenticateUser(loginRequest, request);
         return ResponseEntity.ok(BaseResponse.success("Login successful", response));
     }
 
@@ -0,0 +1,20 @@
+package com.devwonder.authservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Admin data from user-service needed to complete an admin login.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminLoginSettingsResponse {
+
+    private String email;
+
+    private boolean requireLoginEmailConfirmation;
+}
@@ -0,0 +1,40 @@
+package com.devwonder.authservice.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One JWT signing key as stored in {@code signing_keys}.
+ *
+ * Deliberately not a JPA entity: the schema is managed with {@code create-drop}, and
+ * the key ring must survive restarts or every issued token would become unverifiable.
+ * {@code SigningKeyRepository} creates and maintains the table itself.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningKey {
+
+    private String kid;
+
+    private String algorithm;
+
+    /** X.509 SubjectPublicKeyInfo, base64. */
+    private String publicKey;
+
+    /** PKCS#8, base64; AES-GCM wrapped when a key ring secret is configured. */
+    private String privateKey;
+
+    private Instant createdAt;
+
+    /** From this instant on the key signs new tokens, until a newer key activates. */
+    private Instant activatesAt;
+
+    /** When the key leaves the JWKS; {@code null} while it is the newest key. */
+    private Instant retiresAt;
+}
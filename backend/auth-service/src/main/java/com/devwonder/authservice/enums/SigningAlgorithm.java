@@ -0,0 +1,60 @@
+package com.devwonder.authservice.enums;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+
+/**
+ * JWS algorithms auth-service can sign with, selected by {@code auth.signing-keys.algorithm}.
+ *
+ * Only algorithms every verifier understands are listed: the gateway's Spring Security
+ * decoder and the common {@code JwksCache} both handle RSA and EC keys.
+ */
+public enum SigningAlgorithm {
+    RS256("RSA", SignatureAlgorithm.RS256),
+    ES256("EC", SignatureAlgorithm.ES256);
+
+    private static final int RSA_KEY_SIZE = 2048;
+    private static final String EC_CURVE = "secp256r1";
+
+    private final String keyAlgorithm;
+    private final SignatureAlgorithm jwsAlgorithm;
+
+    SigningAlgorithm(String keyAlgorithm, SignatureAlgorithm jwsAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+        this.jwsAlgorithm = jwsAlgorithm;
+    }
+
+    /** JCA key algorithm, also the JWK {@code kty}. */
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public SignatureAlgorithm getJwsAlgorithm() {
+        return jwsAlgorithm;
+    }
+
+    public KeyPair generateKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance(keyAlgorithm);
+        if (this == ES256) {
+            generator.initialize(new ECGenParameterSpec(EC_CURVE));
+        } else {
+            generator.initialize(RSA_KEY_SIZE);
+        }
+        return generator.generateKeyPair();
+    }
+
+    public static SigningAlgorithm fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return RS256;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported signing algorithm: " + value);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.devwonder.authservice.repository;
 
 import com.devwonder.authservice.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,8 +13,20 @@ import java.util.Optional;
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
+    /**
+     * Account and its roles in one query, for paths that put roles into tokens.
+     */
     @Query("SELECT a FROM Account a LEFT JOIN FETCH a.roles WHERE a.username = :username")
-    Optional<Account> findByUsername(@Param("username") String username);
+    Optional<Account> findByUsernameWithRoles(@Param("username") String username);
+
+    /**
+     * Swaps in a new hash only if the stored one is still {@code currentPassword}, so a
+     * password changed since it was read is never overwritten. Returns the rows updated.
+     */
+    @Modifying
+    @Query("UPDATE Account a SET a.password = :newPassword WHERE a.id = :id AND a.password = :currentPassword")
+    int replacePassword(@Param("id") Long id, @Param("currentPassword") String currentPassword,
+                        @Param("newPassword") String newPassword);
 
     @Query("SELECT a FROM Account a WHERE a.username = :username")
     Optional<Account> findByUsernameSimple(@Param("username") String username);
@@ -0,0 +1,85 @@
+package com.devwonder.authservice.repository;
+
+import com.devwonder.authservice.entity.SigningKey;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to the persistent JWT key ring, shared by every auth-service replica.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SigningKeyRepository {
+
+    /** Arbitrary application-wide id for the Postgres advisory lock guarding rotation. */
+    private static final long ROTATION_LOCK_ID = 0x4A574B53L; // "JWKS"
+
+    private static final RowMapper<SigningKey> ROW_MAPPER = (rs, rowNum) -> SigningKey.builder()
+            .kid(rs.getString("kid"))
+            .algorithm(rs.getString("algorithm"))
+            .publicKey(rs.getString("public_key"))
+            .privateKey(rs.getString("private_key"))
+            .createdAt(rs.getTimestamp("created_at").toInstant())
+            .activatesAt(rs.getTimestamp("activates_at").toInstant())
+            .retiresAt(rs.getTimestamp("retires_at") != null ? rs.getTimestamp("retires_at").toInstant() : null)
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void createTableIfMissing() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS signing_keys (
+                    kid          VARCHAR(64) PRIMARY KEY,
+                    algorithm    VARCHAR(16) NOT NULL,
+                    public_key   TEXT        NOT NULL,
+                    private_key  TEXT        NOT NULL,
+                    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+                    activates_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                    retires_at   TIMESTAMP WITH TIME ZONE
+                )""");
+    }
+
+    /** Blocks other replicas' rotation until the surrounding transaction ends. */
+    public void lockForRotation() {
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(" + ROTATION_LOCK_ID + ")");
+    }
+
+    /** Keys still published at {@code now}, oldest activation first. */
+    public List<SigningKey> findPublished(Instant now) {
+        return jdbcTemplate.query(
+                "SELECT * FROM signing_keys WHERE retires_at IS NULL OR retires_at > ? ORDER BY activates_at",
+                ROW_MAPPER, Timestamp.from(now));
+    }
+
+    public Optional<SigningKey> findNewest() {
+        return jdbcTemplate.query("SELECT * FROM signing_keys ORDER BY activates_at DESC LIMIT 1", ROW_MAPPER)
+                .stream().findFirst();
+    }
+
+    public void insert(SigningKey key) {
+        jdbcTemplate.update("""
+                INSERT INTO signing_keys (kid, algorithm, public_key, private_key, created_at, activates_at, retires_at)
+                VALUES (?, ?, ?, ?, ?, ?, NULL)""",
+                key.getKid(), key.getAlgorithm(), key.getPublicKey(), key.getPrivateKey(),
+                Timestamp.from(key.getCreatedAt()), Timestamp.from(key.getActivatesAt()));
+    }
+
+    /** Schedules every other not-yet-retired key to leave the JWKS at {@code retiresAt}. */
+    public void retireAllExcept(String kid, Instant retiresAt) {
+        jdbcTemplate.update("UPDATE signing_keys SET retires_at = ? WHERE retires_at IS NULL AND kid <> ?",
+                Timestamp.from(retiresAt), kid);
+    }
+
+    public int deleteRetiredBefore(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM signing_keys WHERE retires_at < ?", Timestamp.from(cutoff));
+    }
+}
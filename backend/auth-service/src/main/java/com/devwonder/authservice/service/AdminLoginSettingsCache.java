@@ -0,0 +1,96 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.authservice.client.UserServiceClient;
+import com.devwonder.authservice.dto.AdminLoginSettingsResponse;
+import com.devwonder.common.dto.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admin login settings (email, login confirmation flag) kept in memory so an admin
+ * login normally makes no call to user-service.
+ *
+ * user-service publishes the account id on the invalidation channel whenever either
+ * value changes; the TTL only bounds staleness if such a message is lost. A fetch that
+ * overlaps an invalidation is returned but not cached, so it cannot reinstate the old
+ * value.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminLoginSettingsCache implements MessageListener {
+
+    private final UserServiceClient userServiceClient;
+
+    @Value("${auth.api.key:INTER_SERVICE_KEY}")
+    private String authApiKey;
+
+    @Value("${auth.admin-login-settings.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${auth.admin-login-settings.max-entries:1000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<Long, CachedSettings> cache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Settings for the admin, or {@code null} if user-service has no admin profile
+     * for the account. Errors from user-service propagate to the caller.
+     */
+    public AdminLoginSettingsResponse get(Long accountId) {
+        CachedSettings cached = cache.get(accountId);
+        if (cached != null && cached.expiresAtNanos - System.nanoTime() > 0) {
+            return cached.settings;
+        }
+
+        long generation = invalidations.get();
+        ResponseEntity<BaseResponse<AdminLoginSettingsResponse>> response =
+                userServiceClient.getAdminLoginSettings(accountId, authApiKey);
+        AdminLoginSettingsResponse settings = response.getBody() != null ? response.getBody().getData() : null;
+
+        if (settings != null && invalidations.get() == generation) {
+            if (cache.size() >= maxEntries) {
+                cache.clear(); // Admin accounts are few; reaching this means something is off
+            }
+            cache.put(accountId, new CachedSettings(settings, System.nanoTime() + ttl.toNanos()));
+        }
+        return settings;
+    }
+
+    public void invalidate(Long accountId) {
+        invalidations.incrementAndGet();
+        cache.remove(accountId);
+        log.debug("Invalidated admin login settings for accountId: {}", accountId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+        try {
+            invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed admin login settings invalidation: {}", body);
+        }
+    }
+
+    private static class CachedSettings {
+        private final AdminLoginSettingsResponse settings;
+        private final long expiresAtNanos;
+
+        private CachedSettings(AdminLoginSettingsResponse settings, long expiresAtNanos) {
+            this.settings = settings;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
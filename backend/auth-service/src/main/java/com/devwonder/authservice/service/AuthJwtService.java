@@ -1,11 +1,16 @@
 package com.devwonder.authservice.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,6 +22,23 @@ public class AuthJwtService {
 
     private final JwksService jwksService;
 
+    // Tokens stay verifiable across rotations: the key is looked up by the header's kid
+    private final SigningKeyResolver signingKeyResolver = new SigningKeyResolverAdapter() {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            Key key = jwksService.getPublicKey(header.getKeyId());
+            if (key == null) {
+                throw new SignatureException("Unknown signing key: " + header.getKeyId());
+            }
+            return key;
+        }
+    };
+
+    // Thread-safe and immutable; building one per call was pure overhead
+    private final JwtParser jwtParser = Jwts.parserBuilder()
+            .setSigningKeyResolver(signingKeyResolver)
+            .build();
+
     // Time constants
     private static final long SECONDS_IN_MINUTE = 60;
     private static final long MINUTES_IN_HOUR = 60;
@@ -55,13 +77,11 @@ public class AuthJwtService {
         Date now = new Date();
         Date expirationDate = new Date(now.getTime() + expiration);
 
-        return Jwts.builder()
+        return jwksService.signWithActiveKey(Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(now)
-                .setExpiration(expirationDate)
-                .setHeaderParam("kid", jwksService.getKeyId())
-                .signWith(jwksService.getPrivateKey(), SignatureAlgorithm.RS256)
+                .setExpiration(expirationDate))
                 .compact();
     }
 
@@ -79,6 +99,14 @@ public class AuthJwtService {
         return REFRESH_TOKEN_EXPIRATION / MILLISECONDS_IN_SECOND;
     }
 
+    /**
+     * Verify the token once and expose all of its claims. Throws the usual jjwt
+     * exceptions for bad signatures, malformed or expired tokens.
+     */
+    public ParsedToken parse(String token) {
+        return new ParsedToken(token, extractAllClaims(token));
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -97,11 +125,7 @@ public class AuthJwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(jwksService.getPublicKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     public Boolean isTokenExpired(String token) {
@@ -109,8 +133,8 @@ public class AuthJwtService {
     }
 
     public Boolean validateToken(String token, String username) {
-        final String tokenUsername = extractUsername(token);
-        return (tokenUsername.equals(username) && !isTokenExpired(token));
+        ParsedToken parsed = parse(token);
+        return (parsed.getUsername().equals(username) && !parsed.isExpired());
     }
 
     /**
@@ -119,8 +143,8 @@ public class AuthJwtService {
      */
     public Boolean isTokenValid(String token, String username, boolean allowExpired) {
         try {
-            final String tokenUsername = extractUsername(token);
-            if (!tokenUsername.equals(username)) {
+            ParsedToken parsed = parse(token);
+            if (!parsed.getUsername().equals(username)) {
                 return false;
             }
             
@@ -129,7 +153,7 @@ public class AuthJwtService {
                 return true;
             } else {
                 // Normal validation including expiration check
-                return !isTokenExpired(token);
+                return !parsed.isExpired();
             }
         } catch (Exception e) {
             // Invalid token format or signature
@@ -161,7 +185,7 @@ public class AuthJwtService {
         }
 
         // Check if expired
-        if (isTokenExpired(token)) {
+        if (claims.getExpiration().before(new Date())) {
             throw new RuntimeException("Confirmation token has expired");
         }
 
@@ -193,7 +217,7 @@ public class AuthJwtService {
         }
 
         // Check if expired
-        if (isTokenExpired(token)) {
+        if (claims.getExpiration().before(new Date())) {
             throw new RuntimeException("Password reset token has expired");
         }
 
@@ -205,24 +229,18 @@ public class AuthJwtService {
      */
     public Boolean isRefreshTokenValid(String token, String username) {
         try {
-            // Check if token is refresh token
-            String tokenType = extractTokenType(token);
-            if (!"refresh".equals(tokenType)) {
-                return false;
-            }
-
-            // Check username matches
-            final String tokenUsername = extractUsername(token);
-            if (!tokenUsername.equals(username)) {
-                return false;
-            }
-
-            // Refresh token MUST NOT be expired
-            return !isTokenExpired(token);
-            
+            ParsedToken parsed = parse(token);
+            return parsed.getUsername().equals(username) && isRefreshTokenValid(parsed);
         } catch (Exception e) {
             // Invalid token format or signature
             return false;
         }
     }
+
+    /**
+     * Refresh-token check on an already verified token: right type and not expired
+     */
+    public boolean isRefreshTokenValid(ParsedToken token) {
+        return "refresh".equals(token.getTokenType()) && !token.isExpired();
+    }
 }
\ No newline at end of file
@@ -4,18 +4,18 @@ import com.devwonder.authservice.dto.*;
 import com.devwonder.authservice.entity.Account;
 import com.devwonder.authservice.entity.Role;
 import com.devwonder.authservice.repository.AccountRepository;
-import com.devwonder.authservice.repository.RoleRepository;
 import com.devwonder.common.exception.AuthenticationException;
 import com.devwonder.common.exception.ResourceAlreadyExistsException;
+import com.devwonder.common.exception.ThrottledException;
 import com.devwonder.common.exception.TokenExpiredException;
 import com.devwonder.common.exception.TokenBlacklistedException;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.time.Instant;
@@ -31,24 +31,54 @@ import java.util.stream.Collectors;
 public class AuthService {
 
     private final AccountRepository accountRepository;
-    private final RoleRepository roleRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RoleCache roleCache;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginThrottleService loginThrottleService;
     public final AuthJwtService jwtService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final TokenWatermarkService tokenWatermarkService;
     private final AuthEventService authEventService;
     private final com.devwonder.authservice.client.UserServiceClient userServiceClient;
+    private final AdminLoginSettingsCache adminLoginSettingsCache;
+    private final TransactionTemplate transactionTemplate;
 
     @org.springframework.beans.factory.annotation.Value("${auth.api.key:INTER_SERVICE_KEY}")
     private String authApiKey;
 
-    @Transactional(readOnly = true)
-    public LoginResponse authenticateUser(LoginRequest loginRequest) {
-        Account account = accountRepository.findByUsername(loginRequest.getUsername())
-                .orElseThrow(() -> new AuthenticationException("Invalid username or password"));
+    @org.springframework.beans.factory.annotation.Value("${auth.login-throttle.trusted-proxies:1}")
+    private int trustedProxies;
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), account.getPassword())) {
+    /**
+     * Not transactional as a whole: BCrypt can queue behind other logins on the hashing
+     * pool, and a pooled JDBC connection must not wait with it. The account is read in
+     * one short transaction and an upgraded hash written in another.
+     */
+    public LoginResponse authenticateUser(LoginRequest loginRequest, HttpServletRequest request) {
+        // Throttle before any hash is computed
+        loginThrottleService.checkAttempt(loginRequest.getUsername(), extractClientIp(request));
+
+        Account account = transactionTemplate.execute(
+                        status -> accountRepository.findByUsernameWithRoles(loginRequest.getUsername()))
+                .orElseThrow(() -> {
+                    loginThrottleService.recordFailure(loginRequest.getUsername());
+                    return new AuthenticationException("Invalid username or password");
+                });
+
+        if (!passwordHashingService.matches(loginRequest.getPassword(), account.getPassword())) {
+            loginThrottleService.recordFailure(loginRequest.getUsername());
             throw new AuthenticationException("Invalid username or password");
         }
+        loginThrottleService.recordSuccess(loginRequest.getUsername());
+
+        // Upgrade hashes made with an older BCrypt cost while the plain password is at hand
+        if (passwordHashingService.needsRehash(account.getPassword())) {
+            String rehashed = passwordHashingService.encode(loginRequest.getPassword());
+            Integer updated = transactionTemplate.execute(status ->
+                    accountRepository.replacePassword(account.getId(), account.getPassword(), rehashed));
+            if (updated != null && updated > 0) {
+                log.info("Rehashed password for account {} with the current BCrypt cost", account.getUsername());
+            }
+        }
         log.info("Account {} has {} roles: {}", account.getUsername(),
                 account.getRoles().size(),
                 account.getRoles().stream().map(Role::getName).toList());
@@ -82,15 +112,14 @@ public class AuthService {
         Boolean requireLoginEmailConfirmation = null;  // null cho non-ADMIN
         if (roles.contains("ADMIN")) {
             try {
-                email = userServiceClient
-                    .getAdminEmail(account.getId(), authApiKey)
-                    .getBody()
-                    .getData();
-
-                requireLoginEmailConfirmation = userServiceClient
-                    .getAdminRequireLoginEmailConfirmation(account.getId(), authApiKey)
-                    .getBody()
-                    .getData();
+                // Usually served from memory; one user-service call on a miss
+                AdminLoginSettingsResponse settings = adminLoginSettingsCache.get(account.getId());
+                if (settings != null) {
+                    email = settings.getEmail();
+                    requireLoginEmailConfirmation = settings.isRequireLoginEmailConfirmation();
+                } else {
+                    requireLoginEmailConfirmation = false;
+                }
             } catch (Exception e) {
                 log.warn("Failed to fetch admin info for accountId {}: {}", account.getId(), e.getMessage());
                 requireLoginEmailConfirmation = false;  // Fallback to false nếu lỗi
@@ -120,23 +149,24 @@ public class AuthService {
                 throw new AuthenticationException("No authorization token provided");
             }
             
-            // Validate token format and extract username
-            String username = jwtService.extractUsername(token);
+            // Verify the token once; everything below reads its claims
+            ParsedToken parsed = jwtService.parse(token);
+            String username = parsed.getUsername();
             
             // Check if token is already expired
-            if (jwtService.isTokenExpired(token)) {
+            if (parsed.isExpired()) {
                 log.warn("Attempt to logout with expired token for user: {}", username);
                 throw new TokenExpiredException("Token is already expired");
             }
             
             // Check if token is already blacklisted
-            if (tokenBlacklistService.isTokenBlacklisted(token)) {
+            if (tokenBlacklistService.isTokenBlacklisted(parsed)) {
                 log.warn("Attempt to logout with already blacklisted token for user: {}", username);
                 throw new TokenBlacklistedException("Token is already invalid");
             }
             
             // Add token to blacklist
-            tokenBlacklistService.blacklistToken(token);
+            tokenBlacklistService.blacklistToken(parsed);
             
             log.info("User {} logged out successfully", username);
             
@@ -151,6 +181,26 @@ public class AuthService {
         }
     }
 
+    private String extractClientIp(HttpServletRequest request) {
+        return clientIp(request.getHeader("X-Forwarded-For"), request.getRemoteAddr(), trustedProxies);
+    }
+
+    /**
+     * Client address for throttling. Each proxy appends the peer it saw to
+     * X-Forwarded-For, so with {@code trustedProxies} of our own in front of this
+     * service (the gateway, plus e.g. a load balancer before it) the entry that many
+     * places from the end is the one the outermost trusted proxy wrote. Anything before
+     * it came from the client and could be forged.
+     */
+    static String clientIp(String forwardedFor, String remoteAddr, int trustedProxies) {
+        if (!StringUtils.hasText(forwardedFor) || trustedProxies < 1) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        // Fewer entries than proxies: the request skipped a hop, so take the earliest one we have
+        return hops[Math.max(0, hops.length - trustedProxies)].trim();
+    }
+
     /**
      * Extract JWT token from Authorization header
      */
@@ -166,21 +216,27 @@ public class AuthService {
     public RefreshTokenResponse refreshToken(RefreshTokenRequest refreshRequest) {
         String refreshToken = refreshRequest.getToken();
         
-        // Extract username from refresh token
-        String username = jwtService.extractUsername(refreshToken);
+        // Verify the refresh token once and extract username
+        ParsedToken parsed = jwtService.parse(refreshToken);
+        String username = parsed.getUsername();
         
         // Check if refresh token is blacklisted
-        if (tokenBlacklistService.isTokenBlacklisted(refreshToken)) {
+        if (tokenBlacklistService.isTokenBlacklisted(parsed)) {
+            throw new TokenBlacklistedException("Refresh token has been invalidated");
+        }
+
+        // Issued before the account's last password reset or deletion
+        if (tokenWatermarkService.isRevoked(parsed)) {
             throw new TokenBlacklistedException("Refresh token has been invalidated");
         }
         
-        // Validate refresh token specifically (must be valid and not expired)
-        if (!jwtService.isRefreshTokenValid(refreshToken, username)) {
+        // Validate refresh token specifically (must be refresh type and not expired)
+        if (!jwtService.isRefreshTokenValid(parsed)) {
             throw new AuthenticationException("Invalid or expired refresh token");
         }
         
         // Get user account to refresh roles and data
-        Account account = accountRepository.findByUsername(username)
+        Account account = accountRepository.findByUsernameWithRoles(username)
             .orElseThrow(() -> new AuthenticationException("User account not found"));
         
         
@@ -215,16 +271,15 @@ public class AuthService {
             throw new ResourceAlreadyExistsException("Account with username " + request.getUsername() + " already exists");
         }
         
-        // Get roles from database
+        // Resolve roles from the in-memory role table
         Set<Role> roles = request.getRoleNames().stream()
-                .map(roleName -> roleRepository.findByName(roleName)
-                    .orElseThrow(() -> new RuntimeException("Role not found: " + roleName)))
+                .map(roleCache::getRequired)
                 .collect(Collectors.toSet());
         
         // Create new account
         Account account = Account.builder()
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .roles(roles)
                 .build();
         
@@ -259,14 +314,15 @@ public class AuthService {
     public void deleteAccount(Long accountId) {
         log.info("Deleting account with ID: {}", accountId);
 
-        // Check if account exists
-        if (!accountRepository.existsById(accountId)) {
-            log.warn("Account not found with ID: {}", accountId);
-            throw new RuntimeException("Account not found with ID: " + accountId);
-        }
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> {
+                    log.warn("Account not found with ID: {}", accountId);
+                    return new RuntimeException("Account not found with ID: " + accountId);
+                });
 
-        // Delete account (hard delete)
-        accountRepository.deleteById(accountId);
+        // Delete account (hard delete) and invalidate every token it still holds
+        accountRepository.delete(account);
+        tokenWatermarkService.revokeAllTokens(account.getUsername());
         log.info("Successfully deleted account with ID: {}", accountId);
     }
 
@@ -283,7 +339,7 @@ public class AuthService {
         return accountIds;
     }
 
-    @Transactional
+    /** Not transactional: the three hashes run outside, the new one is written in a short transaction. */
     public ChangePasswordResponse changePassword(HttpServletRequest request, ChangePasswordRequest changePasswordRequest) {
         log.info("Processing change password request");
 
@@ -304,24 +360,23 @@ public class AuthService {
         }
 
         // Get account from database
-        Account account = accountRepository.findByUsername(username)
+        Account account = transactionTemplate.execute(status -> accountRepository.findByUsernameSimple(username))
                 .orElseThrow(() -> new AuthenticationException("User account not found"));
 
         // Verify current password
-        if (!passwordEncoder.matches(changePasswordRequest.getCurrentPassword(), account.getPassword())) {
+        if (!passwordHashingService.matches(changePasswordRequest.getCurrentPassword(), account.getPassword())) {
             log.warn("Current password is incorrect for user: {}", username);
             throw new AuthenticationException("Current password is incorrect");
         }
 
         // Check if new password is the same as current password
-        if (passwordEncoder.matches(changePasswordRequest.getNewPassword(), account.getPassword())) {
+        if (passwordHashingService.matches(changePasswordRequest.getNewPassword(), account.getPassword())) {
             log.warn("New password is the same as current password for user: {}", username);
             throw new AuthenticationException("New password must be different from current password");
         }
 
         // Update password
-        account.setPassword(passwordEncoder.encode(changePasswordRequest.getNewPassword()));
-        accountRepository.save(account);
+        replacePassword(account, passwordHashingService.encode(changePasswordRequest.getNewPassword()));
 
         log.info("Password changed successfully for user: {}", username);
 
@@ -337,7 +392,7 @@ public class AuthService {
         log.info("Processing send login confirmation request for username: {}", request.getUsername());
 
         // Get account from database
-        Account account = accountRepository.findByUsername(request.getUsername())
+        Account account = accountRepository.findByUsernameWithRoles(request.getUsername())
                 .orElseThrow(() -> new AuthenticationException("User account not found"));
 
         Set<String> roles = account.getRoles().stream()
@@ -450,7 +505,7 @@ public class AuthService {
         );
     }
 
-    @Transactional
+    /** Not transactional: the hash runs outside, the new one is written in a short transaction. */
     public ResetPasswordResponse resetPassword(ResetPasswordRequest request) {
         log.info("Processing password reset request");
 
@@ -466,14 +521,14 @@ public class AuthService {
             }
 
             // Get account
-            Account account = accountRepository.findById(accountId)
+            Account account = transactionTemplate.execute(status -> accountRepository.findById(accountId))
                     .orElseThrow(() -> new AuthenticationException("Account not found"));
 
             // Update password
-            account.setPassword(passwordEncoder.encode(request.getNewPassword()));
-            accountRepository.save(account);
+            replacePassword(account, passwordHashingService.encode(request.getNewPassword()));
 
-            // Blacklist all existing tokens for this user (optional security measure)
+            // Invalidate every token issued before the reset
+            tokenWatermarkService.revokeAllTokens(account.getUsername());
             log.info("Password reset successfully for accountId: {}", accountId);
 
             return new ResetPasswordResponse(
@@ -481,12 +536,24 @@ public class AuthService {
                     email
             );
 
+        } catch (ThrottledException e) {
+            // Back-pressure from the hashing pool; the client should retry, not see a bad token
+            throw e;
         } catch (Exception e) {
             log.error("Password reset failed: {}", e.getMessage());
             throw new AuthenticationException("Password reset failed: " + e.getMessage());
         }
     }
 
+    /** Writes a hash computed outside any transaction, unless the password changed since it was read. */
+    private void replacePassword(Account account, String newHash) {
+        Integer updated = transactionTemplate.execute(status ->
+                accountRepository.replacePassword(account.getId(), account.getPassword(), newHash));
+        if (updated == null || updated == 0) {
+            throw new AuthenticationException("Password was changed by another request, please retry");
+        }
+    }
+
     public String maskEmail(String email) {
         if (email == null || !email.contains("@")) {
             return "***";
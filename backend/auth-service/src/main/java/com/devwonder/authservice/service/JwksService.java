@@ -1,93 +1,351 @@
 package com.devwonder.authservice.service;
 
+import com.devwonder.authservice.entity.SigningKey;
+import com.devwonder.authservice.enums.SigningAlgorithm;
+import com.devwonder.authservice.repository.SigningKeyRepository;
+import io.jsonwebtoken.JwtBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.*;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
 import java.util.*;
-import java.security.spec.RSAPublicKeySpec;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 import jakarta.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Owns the JWT key ring shared by all auth-service replicas.
+ *
+ * Keys live in {@code signing_keys}. One replica at a time (Postgres advisory lock)
+ * inserts a successor once the newest key is older than {@code rotation-interval};
+ * the successor is published immediately but only signs after {@code publish-ahead},
+ * so every replica and every JWKS consumer has seen it before the first token carrying
+ * its kid appears. Superseded keys stay in the JWKS for {@code verify-grace} (at least
+ * the longest token lifetime) and are then deleted.
+ *
+ * Each replica reloads the ring every {@code check-interval-ms} and picks the signing
+ * key by activation time, so all replicas switch over together without talking to
+ * each other. Changing {@code algorithm} is just an early rotation: the next check
+ * adds a key of the new type while tokens signed with the old one keep verifying.
+ */
 @Service
 public class JwksService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwksService.class);
 
-    // RSA key configuration constants
-    private static final int RSA_KEY_SIZE = 2048;
-    private static final String RSA_ALGORITHM = "RSA";
-    private static final String JWT_ALGORITHM = "RS256";
-    private static final String KEY_TYPE = "RSA";
+    // JWK constants
     private static final String KEY_USE = "sig";
+    private static final String EC_CURVE = "P-256";
+    private static final int EC_COORDINATE_BYTES = 32;
+
+    // Private key wrapping
+    private static final String WRAP_PREFIX = "v1:";
+    private static final String WRAP_CIPHER = "AES/GCM/NoPadding";
+    private static final int WRAP_IV_BYTES = 12;
+    private static final int WRAP_TAG_BITS = 128;
 
     // Array manipulation constants
     private static final int LEADING_ZERO_BYTE = 0;
     private static final int MINIMUM_ARRAY_LENGTH = 1;
 
-    private KeyPair keyPair;
-    private String keyId;
+    private final SigningKeyRepository signingKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${auth.signing-keys.algorithm:RS256}")
+    private String algorithmName;
+
+    private SigningAlgorithm algorithm;
+
+    @Value("${auth.signing-keys.rotation-interval:30d}")
+    private Duration rotationInterval;
+
+    @Value("${auth.signing-keys.publish-ahead:15m}")
+    private Duration publishAhead;
+
+    @Value("${auth.signing-keys.verify-grace:8d}")
+    private Duration verifyGrace;
+
+    @Value("${auth.signing-keys.secret:}")
+    private String wrappingSecret;
+
+    @Value("${auth.signing-keys.allow-unencrypted:false}")
+    private boolean allowUnencrypted;
+
+    private SecretKeySpec wrappingKey;
+
+    /** Published keys, oldest activation first; replaced wholesale on reload. */
+    private volatile List<RingKey> ring = List.of();
+
+    public JwksService(SigningKeyRepository signingKeyRepository, TransactionTemplate transactionTemplate) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
 
     @PostConstruct
     public void init() {
-        generateKeyPair();
+        algorithm = SigningAlgorithm.fromString(algorithmName);
+        if (wrappingSecret != null && !wrappingSecret.isBlank()) {
+            wrappingKey = deriveWrappingKey(wrappingSecret);
+        } else if (allowUnencrypted) {
+            logger.warn("auth.signing-keys.secret is not set; signing keys are stored unencrypted");
+        } else {
+            // Anyone who can read signing_keys could mint tokens with a plain PKCS#8 key
+            throw new IllegalStateException("auth.signing-keys.secret must be set to encrypt signing keys at rest "
+                    + "(auth.signing-keys.allow-unencrypted=true is meant for local development only)");
+        }
+        rotateIfDue();
+        reload();
     }
 
-    private void generateKeyPair() {
+    @Scheduled(fixedDelayString = "${auth.signing-keys.check-interval-ms:300000}",
+            initialDelayString = "${auth.signing-keys.check-interval-ms:300000}")
+    public void refresh() {
         try {
-            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(RSA_ALGORITHM);
-            keyPairGenerator.initialize(RSA_KEY_SIZE);
-            this.keyPair = keyPairGenerator.generateKeyPair();
-            this.keyId = UUID.randomUUID().toString();
-            logger.info("Generated new RSA key pair with ID: {}", keyId);
-        } catch (NoSuchAlgorithmException e) {
-            logger.error("Failed to generate RSA key pair", e);
-            throw new RuntimeException("Failed to generate RSA key pair", e);
+            rotateIfDue();
+        } catch (RuntimeException e) {
+            logger.error("Signing key rotation failed; will retry on next check", e);
+        }
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            logger.error("Signing key reload failed; keeping {} cached keys", ring.size(), e);
         }
     }
 
+    private void rotateIfDue() {
+        transactionTemplate.executeWithoutResult(status -> {
+            signingKeyRepository.lockForRotation();
+            Instant now = Instant.now();
+            Optional<SigningKey> newest = signingKeyRepository.findNewest();
+
+            if (newest.isEmpty()) {
+                // Nothing can hold an older kid yet, so the first key may sign at once
+                SigningKey key = generateKey(now, now);
+                signingKeyRepository.insert(key);
+                logger.info("Created initial signing key {}", key.getKid());
+                return;
+            }
+            boolean algorithmChanged = !algorithm.name().equals(newest.get().getAlgorithm());
+            if (!algorithmChanged && newest.get().getActivatesAt().plus(rotationInterval).isAfter(now)) {
+                return;
+            }
+
+            Instant activatesAt = now.plus(publishAhead);
+            SigningKey key = generateKey(now, activatesAt);
+            signingKeyRepository.insert(key);
+            signingKeyRepository.retireAllExcept(key.getKid(), activatesAt.plus(verifyGrace));
+            int purged = signingKeyRepository.deleteRetiredBefore(now);
+            logger.info("Rotated signing key: {} ({}) signs from {}, purged {} expired keys",
+                    key.getKid(), algorithm, activatesAt, purged);
+        });
+    }
+
+    private void reload() {
+        List<RingKey> loaded = new ArrayList<>();
+        for (SigningKey stored : signingKeyRepository.findPublished(Instant.now())) {
+            try {
+                loaded.add(toRingKey(stored));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                logger.error("Skipping unreadable signing key {}", stored.getKid(), e);
+            }
+        }
+        if (loaded.isEmpty()) {
+            throw new IllegalStateException("No usable signing keys in key ring");
+        }
+        ring = List.copyOf(loaded);
+        logger.debug("Loaded {} signing keys", loaded.size());
+    }
+
     public Map<String, Object> getJwks() {
-        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
-        
-        Map<String, Object> key = new HashMap<>();
-        key.put("kty", KEY_TYPE);
-        key.put("use", KEY_USE);
-        key.put("kid", keyId);
-        key.put("alg", JWT_ALGORITHM);
-        key.put("n", encodeToBase64URL(publicKey.getModulus()));
-        key.put("e", encodeToBase64URL(publicKey.getPublicExponent()));
+        List<Map<String, Object>> keys = new ArrayList<>();
+        for (RingKey ringKey : ring) {
+            Map<String, Object> key = new HashMap<>(publicJwkMembers(ringKey.publicKey));
+            key.put("use", KEY_USE);
+            key.put("kid", ringKey.kid);
+            key.put("alg", ringKey.algorithm.name());
+            keys.add(key);
+        }
 
         Map<String, Object> jwks = new HashMap<>();
-        jwks.put("keys", Collections.singletonList(key));
+        jwks.put("keys", keys);
 
         return jwks;
     }
 
-    public PrivateKey getPrivateKey() {
-        return keyPair.getPrivate();
+    /** Signs with the active key, reading kid and key from the same ring entry. */
+    public JwtBuilder signWithActiveKey(JwtBuilder builder) {
+        RingKey active = activeKey();
+        return builder.setHeaderParam("kid", active.kid)
+                .signWith(active.privateKey, active.algorithm.getJwsAlgorithm());
+    }
+
+    /**
+     * Verification key for a token's {@code kid}, or {@code null} when it is unknown
+     * or has already been retired.
+     */
+    public PublicKey getPublicKey(String kid) {
+        for (RingKey ringKey : ring) {
+            if (ringKey.kid.equals(kid)) {
+                return ringKey.publicKey;
+            }
+        }
+        return null;
+    }
+
+    /** Newest key whose activation time has passed; falls back to the oldest published key. */
+    private RingKey activeKey() {
+        List<RingKey> current = ring;
+        Instant now = Instant.now();
+        for (int i = current.size() - 1; i >= 0; i--) {
+            if (!current.get(i).activatesAt.isAfter(now)) {
+                return current.get(i);
+            }
+        }
+        return current.get(0);
+    }
+
+    private SigningKey generateKey(Instant createdAt, Instant activatesAt) {
+        try {
+            KeyPair keyPair = algorithm.generateKeyPair();
+
+            return SigningKey.builder()
+                    .kid(thumbprint(keyPair.getPublic()))
+                    .algorithm(algorithm.name())
+                    .publicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                    .privateKey(wrap(keyPair.getPrivate().getEncoded()))
+                    .createdAt(createdAt)
+                    .activatesAt(activatesAt)
+                    .build();
+        } catch (GeneralSecurityException e) {
+            logger.error("Failed to generate {} key pair", algorithm, e);
+            throw new IllegalStateException("Failed to generate " + algorithm + " key pair", e);
+        }
+    }
+
+    private RingKey toRingKey(SigningKey stored) throws GeneralSecurityException {
+        SigningAlgorithm keyAlgorithm = SigningAlgorithm.valueOf(stored.getAlgorithm());
+        KeyFactory keyFactory = KeyFactory.getInstance(keyAlgorithm.getKeyAlgorithm());
+        PublicKey publicKey = keyFactory.generatePublic(
+                new X509EncodedKeySpec(Base64.getDecoder().decode(stored.getPublicKey())));
+        PrivateKey privateKey = keyFactory.generatePrivate(
+                new PKCS8EncodedKeySpec(unwrap(stored.getPrivateKey())));
+        return new RingKey(stored.getKid(), keyAlgorithm, stored.getActivatesAt(), privateKey, publicKey);
+    }
+
+    /** Required public members of the key's JWK (RFC 7518 section 6), in lexicographic order. */
+    private Map<String, Object> publicJwkMembers(PublicKey publicKey) {
+        Map<String, Object> members = new TreeMap<>();
+        if (publicKey instanceof ECPublicKey ecKey) {
+            members.put("crv", EC_CURVE);
+            members.put("kty", "EC");
+            members.put("x", encodeCoordinate(ecKey.getW().getAffineX()));
+            members.put("y", encodeCoordinate(ecKey.getW().getAffineY()));
+        } else {
+            RSAPublicKey rsaKey = (RSAPublicKey) publicKey;
+            members.put("e", encodeToBase64URL(rsaKey.getPublicExponent()));
+            members.put("kty", "RSA");
+            members.put("n", encodeToBase64URL(rsaKey.getModulus()));
+        }
+        return members;
+    }
+
+    /** RFC 7638 JWK thumbprint, so the kid is derived from the key itself. */
+    private String thumbprint(PublicKey publicKey) throws NoSuchAlgorithmException {
+        StringJoiner canonical = new StringJoiner(",", "{", "}");
+        publicJwkMembers(publicKey).forEach((name, value) -> canonical.add("\"" + name + "\":\"" + value + "\""));
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private String wrap(byte[] pkcs8) throws GeneralSecurityException {
+        if (wrappingKey == null) {
+            return Base64.getEncoder().encodeToString(pkcs8);
+        }
+        byte[] iv = new byte[WRAP_IV_BYTES];
+        secureRandom.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(WRAP_CIPHER);
+        cipher.init(Cipher.ENCRYPT_MODE, wrappingKey, new GCMParameterSpec(WRAP_TAG_BITS, iv));
+        byte[] sealed = cipher.doFinal(pkcs8);
+
+        byte[] out = new byte[iv.length + sealed.length];
+        System.arraycopy(iv, 0, out, 0, iv.length);
+        System.arraycopy(sealed, 0, out, iv.length, sealed.length);
+        return WRAP_PREFIX + Base64.getEncoder().encodeToString(out);
     }
 
-    public PublicKey getPublicKey() {
-        return keyPair.getPublic();
+    private byte[] unwrap(String stored) throws GeneralSecurityException {
+        if (!stored.startsWith(WRAP_PREFIX)) {
+            return Base64.getDecoder().decode(stored);
+        }
+        if (wrappingKey == null) {
+            throw new GeneralSecurityException("Key is encrypted but auth.signing-keys.secret is not set");
+        }
+        byte[] in = Base64.getDecoder().decode(stored.substring(WRAP_PREFIX.length()));
+        Cipher cipher = Cipher.getInstance(WRAP_CIPHER);
+        cipher.init(Cipher.DECRYPT_MODE, wrappingKey, new GCMParameterSpec(WRAP_TAG_BITS, in, 0, WRAP_IV_BYTES));
+        return cipher.doFinal(in, WRAP_IV_BYTES, in.length - WRAP_IV_BYTES);
     }
 
-    public String getKeyId() {
-        return keyId;
+    private static SecretKeySpec deriveWrappingKey(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(digest, "AES");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
     }
 
     private String encodeToBase64URL(BigInteger bigInteger) {
         byte[] bytes = bigInteger.toByteArray();
-        
+
         // Remove leading zero byte if present (for positive numbers)
         if (bytes.length > MINIMUM_ARRAY_LENGTH && bytes[0] == LEADING_ZERO_BYTE) {
             byte[] tmp = new byte[bytes.length - 1];
             System.arraycopy(bytes, 1, tmp, 0, tmp.length);
             bytes = tmp;
         }
-        
+
         return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
-}
\ No newline at end of file
+
+    /** EC coordinates are fixed-length in JWKs, unlike RSA integers. */
+    private String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[EC_COORDINATE_BYTES];
+        int length = Math.min(bytes.length, EC_COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, fixed, EC_COORDINATE_BYTES - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static class RingKey {
+        private final String kid;
+        private final SigningAlgorithm algorithm;
+        private final Instant activatesAt;
+        private final PrivateKey privateKey;
+        private final PublicKey publicKey;
+
+        private RingKey(String kid, SigningAlgorithm algorithm, Instant activatesAt, PrivateKey privateKey,
+                PublicKey publicKey) {
+            this.kid = kid;
+            this.algorithm = algorithm;
+            this.activatesAt = activatesAt;
+            this.privateKey = privateKey;
+            this.publicKey = publicKey;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.common.exception.ThrottledException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cheap Redis checks that run before any password hash is computed.
+ *
+ * Two fixed windows shared by all replicas: login attempts per client IP, and failed
+ * logins per username. Either limit refuses the attempt with 429. Redis being down
+ * disables throttling rather than logins.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoginThrottleService {
+
+    private static final String IP_KEY_PREFIX = "auth:login-throttle:ip:";
+    private static final String USERNAME_KEY_PREFIX = "auth:login-throttle:user:";
+
+    // INCR, starting the window on the first hit; atomic so a key can never lose its TTL
+    private static final RedisScript<Long> INCREMENT_IN_WINDOW = RedisScript.of(
+            "local n = redis.call('INCR', KEYS[1]) "
+                    + "if n == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end "
+                    + "return n", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${auth.login-throttle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.login-throttle.ip-max-attempts:30}")
+    private long ipMaxAttempts;
+
+    @Value("${auth.login-throttle.ip-window:1m}")
+    private Duration ipWindow;
+
+    @Value("${auth.login-throttle.username-max-failures:5}")
+    private long usernameMaxFailures;
+
+    @Value("${auth.login-throttle.username-window:15m}")
+    private Duration usernameWindow;
+
+    /**
+     * Count this attempt against the client IP and refuse it if either the IP or the
+     * username is over its limit.
+     */
+    public void checkAttempt(String username, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            String ipKey = IP_KEY_PREFIX + clientIp;
+            if (incrementInWindow(ipKey, ipWindow) > ipMaxAttempts) {
+                log.warn("Login throttled for IP {}", clientIp);
+                throw throttled(ipKey, ipWindow);
+            }
+
+            String usernameKey = USERNAME_KEY_PREFIX + username;
+            String failures = stringRedisTemplate.opsForValue().get(usernameKey);
+            if (failures != null && Long.parseLong(failures) >= usernameMaxFailures) {
+                log.warn("Login throttled for username {} after {} failures", username, failures);
+                throw throttled(usernameKey, usernameWindow);
+            }
+        } catch (ThrottledException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Login throttle check skipped: {}", e.getMessage());
+        }
+    }
+
+    public void recordFailure(String username) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            incrementInWindow(USERNAME_KEY_PREFIX + username, usernameWindow);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record login failure: {}", e.getMessage());
+        }
+    }
+
+    public void recordSuccess(String username) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(USERNAME_KEY_PREFIX + username);
+        } catch (RuntimeException e) {
+            log.warn("Failed to reset login failures: {}", e.getMessage());
+        }
+    }
+
+    private long incrementInWindow(String key, Duration window) {
+        Long count = stringRedisTemplate.execute(INCREMENT_IN_WINDOW, List.of(key),
+                String.valueOf(window.toMillis()));
+        return count != null ? count : 0;
+    }
+
+    private ThrottledException throttled(String key, Duration window) {
+        Long ttl = stringRedisTemplate.getExpire(key, TimeUnit.SECONDS);
+        long retryAfter = ttl != null && ttl > 0 ? ttl : window.toSeconds();
+        return new ThrottledException("Too many login attempts, please try again later", retryAfter);
+    }
+}
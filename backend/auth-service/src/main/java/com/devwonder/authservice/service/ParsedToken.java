@@ -0,0 +1,58 @@
+package com.devwonder.authservice.service;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * A JWS whose signature has already been verified, with its claims at hand.
+ *
+ * Obtain one from {@link AuthJwtService#parse(String)} and pass it along instead of
+ * the raw token, so a request that needs several claims pays for one verification.
+ */
+public final class ParsedToken {
+
+    private final String token;
+    private final Claims claims;
+
+    ParsedToken(String token, Claims claims) {
+        this.token = token;
+        this.claims = claims;
+    }
+
+    /** The compact serialization this was parsed from. */
+    public String getToken() {
+        return token;
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    public String getUsername() {
+        return claims.getSubject();
+    }
+
+    public Date getIssuedAt() {
+        return claims.getIssuedAt();
+    }
+
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    public String getTokenType() {
+        return claims.get("token_type", String.class);
+    }
+
+    public boolean isExpired() {
+        return claims.getExpiration().before(new Date());
+    }
+
+    /**
+     * Identifier used for blacklisting: username and issue time.
+     */
+    public String getTokenId() {
+        return getUsername() + ":" + getIssuedAt().getTime();
+    }
+}
@@ -0,0 +1,51 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.authservice.entity.Role;
+import com.devwonder.authservice.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the roles table, loaded once the application (and DataLoader's
+ * seeding) is ready. The table holds a handful of rows that only change with a
+ * deployment, so lookups by name never go to the database; a name missing from the
+ * snapshot triggers one reload in case a role was added since.
+ *
+ * The cached {@link Role}s are detached. They are only used as association targets,
+ * which needs nothing but their id; do not navigate {@code Role.accounts}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoleCache {
+
+    private final RoleRepository roleRepository;
+
+    private volatile Map<String, Role> rolesByName = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rolesByName = roleRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity()));
+        log.info("Cached {} roles: {}", rolesByName.size(), rolesByName.keySet());
+    }
+
+    public Role getRequired(String name) {
+        Role role = rolesByName.get(name);
+        if (role == null) {
+            load();
+            role = rolesByName.get(name);
+        }
+        if (role == null) {
+            throw new RuntimeException("Role not found: " + name);
+        }
+        return role;
+    }
+}
@@ -1,9 +1,10 @@
 package com.devwonder.authservice.service;
 
-import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -15,8 +16,13 @@ import java.util.Date;
 public class TokenBlacklistService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final AuthJwtService jwtService;
 
+    // Gateways keep an in-memory copy of the blacklist fed by this channel
+    @Value("${auth.revocation.channel:auth:token-revocations}")
+    private String revocationChannel;
+
     // Blacklist configuration constants
     private static final String BLACKLIST_KEY_PREFIX = "auth:blacklist:";
     private static final long MILLISECONDS_IN_SECOND = 1000;
@@ -25,13 +31,18 @@ public class TokenBlacklistService {
      * Add token to blacklist until its expiration time
      */
     public void blacklistToken(String token) {
-        String tokenId = extractTokenId(token);
-        Date expiration = jwtService.extractExpiration(token);
+        blacklistToken(jwtService.parse(token));
+    }
+
+    public void blacklistToken(ParsedToken token) {
+        String tokenId = token.getTokenId();
+        Date expiration = token.getExpiration();
         long ttlSeconds = (expiration.getTime() - System.currentTimeMillis()) / MILLISECONDS_IN_SECOND;
         
         if (ttlSeconds > 0) {
             String key = BLACKLIST_KEY_PREFIX + tokenId;
             redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofSeconds(ttlSeconds));
+            publishRevocation(tokenId, expiration.getTime());
             log.info("Token blacklisted successfully with TTL: {} seconds", ttlSeconds);
         }
     }
@@ -40,18 +51,24 @@ public class TokenBlacklistService {
      * Check if token is blacklisted
      */
     public boolean isTokenBlacklisted(String token) {
-        String tokenId = extractTokenId(token);
-        String key = BLACKLIST_KEY_PREFIX + tokenId;
+        return isTokenBlacklisted(jwtService.parse(token));
+    }
+
+    public boolean isTokenBlacklisted(ParsedToken token) {
+        String key = BLACKLIST_KEY_PREFIX + token.getTokenId();
         return redisTemplate.hasKey(key);
     }
     
     /**
-     * Extract a unique identifier from token for blacklisting
-     * Using a combination of username and issued time as identifier
+     * Notify gateways of a revocation as {@code <tokenId>:<expiresAtMillis>}.
+     * The Redis key is the source of truth, so a failed publish is only logged;
+     * gateways pick the key up on their next resync.
      */
-    private String extractTokenId(String token) {
-        String username = jwtService.extractUsername(token);
-        Date issuedAt = jwtService.extractClaim(token, Claims::getIssuedAt);
-        return username + ":" + issuedAt.getTime();
+    private void publishRevocation(String tokenId, long expiresAtMillis) {
+        try {
+            stringRedisTemplate.convertAndSend(revocationChannel, tokenId + ":" + expiresAtMillis);
+        } catch (Exception e) {
+            log.warn("Failed to publish token revocation: {}", e.getMessage());
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.common.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-account revocation watermark: every token of the account issued before the
+ * watermark is invalid, however many there are.
+ *
+ * Stored in Redis as {@code auth:token-watermark:<username>} = epoch millis, with a TTL
+ * of the longest token lifetime (after that no older token can be valid anyway), and
+ * announced on a channel as {@code <username>:<millis>} so gateways and other
+ * auth-service replicas update their in-memory copy; a periodic rescan repairs missed
+ * messages. Checking a token is then one map lookup and one comparison.
+ *
+ * Token {@code iat} has whole-second precision, so the watermark is truncated to the
+ * second: tokens issued in the same second as the bump stay valid, which keeps a login
+ * made right after a password reset from being revoked by it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenWatermarkService implements MessageListener {
+
+    private static final long MILLISECONDS_IN_SECOND = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${auth.token-watermark.key-prefix:auth:token-watermark:}")
+    private String keyPrefix;
+
+    @Value("${auth.token-watermark.channel:auth:token-watermarks}")
+    private String channel;
+
+    @Value("${auth.token-watermark.ttl:8d}")
+    private Duration ttl;
+
+    /** Username to watermark in epoch millis. */
+    private final Map<String, Long> watermarks = new ConcurrentHashMap<>();
+
+    /**
+     * Invalidate every token issued to the account so far. Inside a transaction this
+     * happens after commit, so a rolled-back reset or deletion revokes nothing.
+     */
+    public void revokeAllTokens(String username) {
+        TransactionUtil.afterCommit(() -> bump(username));
+    }
+
+    public boolean isRevoked(ParsedToken token) {
+        Long watermark = watermarks.get(token.getUsername());
+        return watermark != null && token.getIssuedAt().getTime() < watermark;
+    }
+
+    private void bump(String username) {
+        long watermark = System.currentTimeMillis() / MILLISECONDS_IN_SECOND * MILLISECONDS_IN_SECOND;
+        watermarks.merge(username, watermark, Math::max);
+        try {
+            stringRedisTemplate.opsForValue().set(keyPrefix + username, String.valueOf(watermark), ttl);
+            stringRedisTemplate.convertAndSend(channel, username + ":" + watermark);
+            log.info("Revoked all tokens of {} issued before {}", username, watermark);
+        } catch (Exception e) {
+            // Only this replica knows; other replicas and gateways will not until Redis recovers
+            log.error("Failed to store token watermark for {}: {}", username, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        try {
+            watermarks.merge(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)), Math::max);
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed token watermark message '{}'", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auth.token-watermark.resync-interval-ms:300000}",
+            initialDelayString = "${auth.token-watermark.resync-interval-ms:300000}")
+    public void resync() {
+        try {
+            long oldestLiveIssue = System.currentTimeMillis() - ttl.toMillis();
+            ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build();
+            try (Cursor<String> keys = stringRedisTemplate.scan(options)) {
+                while (keys.hasNext()) {
+                    String key = keys.next();
+                    String value = stringRedisTemplate.opsForValue().get(key);
+                    if (value != null) {
+                        watermarks.merge(key.substring(keyPrefix.length()), Long.parseLong(value), Math::max);
+                    }
+                }
+            }
+            // Past the TTL every token older than the watermark has expired on its own
+            watermarks.values().removeIf(watermark -> watermark < oldestLiveIssue);
+        } catch (Exception e) {
+            log.warn("Token watermark resync failed, keeping {} entries: {}", watermarks.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.devwonder.authservice.enums;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SigningAlgorithmTest {
+
+    @Test
+    void defaultsToRs256() {
+        assertThat(SigningAlgorithm.fromString(null)).isEqualTo(SigningAlgorithm.RS256);
+        assertThat(SigningAlgorithm.fromString(" ")).isEqualTo(SigningAlgorithm.RS256);
+    }
+
+    @Test
+    void nameIsCaseInsensitive() {
+        assertThat(SigningAlgorithm.fromString(" es256 ")).isEqualTo(SigningAlgorithm.ES256);
+    }
+
+    @Test
+    void algorithmsVerifiersCannotHandleAreRejected() {
+        assertThatThrownBy(() -> SigningAlgorithm.fromString("EdDSA"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported signing algorithm: EdDSA");
+    }
+
+    @Test
+    void generatesKeysOfTheMatchingType() throws Exception {
+        KeyPair rsa = SigningAlgorithm.RS256.generateKeyPair();
+        KeyPair ec = SigningAlgorithm.ES256.generateKeyPair();
+
+        assertThat(rsa.getPublic()).isInstanceOfSatisfying(RSAPublicKey.class,
+                key -> assertThat(key.getModulus().bitLength()).isEqualTo(2048));
+        assertThat(ec.getPublic()).isInstanceOfSatisfying(ECPublicKey.class,
+                key -> assertThat(key.getParams().getCurve().getField().getFieldSize()).isEqualTo(256));
+    }
+}
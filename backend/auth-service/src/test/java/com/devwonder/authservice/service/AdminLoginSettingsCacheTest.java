@@ -0,0 +1,103 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.authservice.client.UserServiceClient;
+import com.devwonder.authservice.dto.AdminLoginSettingsResponse;
+import com.devwonder.common.dto.BaseResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminLoginSettingsCacheTest {
+
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private final AdminLoginSettingsCache cache = new AdminLoginSettingsCache(userServiceClient);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "authApiKey", "key");
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(cache, "maxEntries", 1000);
+    }
+
+    @Test
+    void repeatedLoginsAreServedFromMemory() {
+        when(userServiceClient.getAdminLoginSettings(eq(1L), anyString())).thenReturn(settings("admin@example.com", true));
+
+        cache.get(1L);
+        AdminLoginSettingsResponse settings = cache.get(1L);
+
+        assertThat(settings.getEmail()).isEqualTo("admin@example.com");
+        verify(userServiceClient, times(1)).getAdminLoginSettings(eq(1L), anyString());
+    }
+
+    @Test
+    void invalidationMessageMakesTheNextLoginSeeTheChange() {
+        when(userServiceClient.getAdminLoginSettings(eq(1L), anyString()))
+                .thenReturn(settings("admin@example.com", true), settings("admin@example.com", false));
+        cache.get(1L);
+
+        cache.onMessage(message("1"), null);
+
+        assertThat(cache.get(1L).isRequireLoginEmailConfirmation()).isFalse();
+        verify(userServiceClient, times(2)).getAdminLoginSettings(eq(1L), anyString());
+    }
+
+    @Test
+    void invalidationOfAnotherAccountKeepsTheEntry() {
+        when(userServiceClient.getAdminLoginSettings(eq(1L), anyString())).thenReturn(settings("admin@example.com", true));
+        cache.get(1L);
+
+        cache.onMessage(message("2"), null);
+        cache.onMessage(message("not-an-id"), null);
+        cache.get(1L);
+
+        verify(userServiceClient, times(1)).getAdminLoginSettings(eq(1L), anyString());
+    }
+
+    @Test
+    void fetchOverlappingAnInvalidationIsNotCached() {
+        when(userServiceClient.getAdminLoginSettings(eq(1L), anyString())).thenAnswer(invocation -> {
+            // The row changes while the old value is on its way back
+            cache.invalidate(1L);
+            return settings("old@example.com", true);
+        });
+
+        assertThat(cache.get(1L).getEmail()).isEqualTo("old@example.com");
+        cache.get(1L);
+
+        verify(userServiceClient, times(2)).getAdminLoginSettings(eq(1L), anyString());
+    }
+
+    @Test
+    void expiredEntryIsFetchedAgain() {
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ZERO);
+        when(userServiceClient.getAdminLoginSettings(eq(1L), anyString())).thenReturn(settings("admin@example.com", true));
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(userServiceClient, times(2)).getAdminLoginSettings(eq(1L), anyString());
+    }
+
+    private static ResponseEntity<BaseResponse<AdminLoginSettingsResponse>> settings(String email, boolean confirm) {
+        return ResponseEntity.ok(BaseResponse.success(new AdminLoginSettingsResponse(email, confirm)));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("auth:admin-login-settings:invalidate".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
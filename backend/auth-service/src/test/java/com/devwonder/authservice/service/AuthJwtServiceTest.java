@@ -0,0 +1,86 @@
+package com.devwonder.authservice.service;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthJwtServiceTest {
+
+    private static final String KID = "test-kid";
+
+    private final JwksService jwksService = mock(JwksService.class);
+    private final AuthJwtService jwtService = new AuthJwtService(jwksService);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        when(jwksService.signWithActiveKey(any())).thenAnswer(invocation -> invocation.<JwtBuilder>getArgument(0)
+                .setHeaderParam("kid", KID)
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256));
+        // Every signature verification resolves the key once
+        when(jwksService.getPublicKey(KID)).thenReturn(keyPair.getPublic());
+    }
+
+    @Test
+    void parseVerifiesOnceAndExposesEveryClaim() {
+        String token = jwtService.generateRefreshToken("dealer.one", Map.of("userId", 7L));
+
+        ParsedToken parsed = jwtService.parse(token);
+        parsed.getUsername();
+        parsed.getTokenType();
+        parsed.getExpiration();
+        parsed.getTokenId();
+        jwtService.isRefreshTokenValid(parsed);
+
+        verify(jwksService, times(1)).getPublicKey(KID);
+        assertThat(parsed.getToken()).isEqualTo(token);
+        assertThat(parsed.getUsername()).isEqualTo("dealer.one");
+        assertThat(parsed.getTokenType()).isEqualTo("refresh");
+        assertThat(parsed.getClaims().get("userId", Long.class)).isEqualTo(7L);
+        assertThat(parsed.getTokenId()).isEqualTo("dealer.one:" + parsed.getIssuedAt().getTime());
+        assertThat(parsed.isExpired()).isFalse();
+    }
+
+    @Test
+    void refreshCheckWantsARefreshToken() {
+        assertThat(jwtService.isRefreshTokenValid(jwtService.parse(jwtService.generateRefreshToken("dealer.one", Map.of()))))
+                .isTrue();
+        assertThat(jwtService.isRefreshTokenValid(jwtService.parse(jwtService.generateToken("dealer.one"))))
+                .isFalse();
+    }
+
+    @Test
+    void tokenFromAnUnknownKeyIsRejected() {
+        String token = jwtService.generateToken("dealer.one");
+        when(jwksService.getPublicKey(KID)).thenReturn(null);
+
+        assertThatThrownBy(() -> jwtService.parse(token))
+                .isInstanceOf(SignatureException.class)
+                .hasMessageContaining(KID);
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = jwtService.generateToken("dealer.one");
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + jwtService.generateToken("admin").split("\\.")[1] + "." + parts[2];
+
+        assertThatThrownBy(() -> jwtService.parse(forged)).isInstanceOf(SignatureException.class);
+    }
+}
@@ -0,0 +1,214 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.authservice.client.UserServiceClient;
+import com.devwonder.authservice.dto.AccountCreateRequest;
+import com.devwonder.authservice.dto.ChangePasswordRequest;
+import com.devwonder.authservice.dto.RefreshTokenRequest;
+import com.devwonder.authservice.dto.ResetPasswordRequest;
+import com.devwonder.authservice.entity.Account;
+import com.devwonder.authservice.entity.Role;
+import com.devwonder.authservice.repository.AccountRepository;
+import com.devwonder.common.exception.AuthenticationException;
+import com.devwonder.common.exception.ThrottledException;
+import com.devwonder.common.exception.TokenBlacklistedException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final RoleCache roleCache = mock(RoleCache.class);
+    private final PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+    private final AuthJwtService jwtService = mock(AuthJwtService.class);
+    private final TokenBlacklistService tokenBlacklistService = mock(TokenBlacklistService.class);
+    private final TokenWatermarkService tokenWatermarkService = mock(TokenWatermarkService.class);
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+
+    private final AuthService authService = new AuthService(accountRepository, roleCache,
+            passwordHashingService, mock(LoginThrottleService.class), jwtService, tokenBlacklistService,
+            tokenWatermarkService, mock(AuthEventService.class), mock(UserServiceClient.class),
+            mock(AdminLoginSettingsCache.class), new TransactionTemplate(transactionManager));
+
+    private final Account account = Account.builder().id(7L).username("dealer.one").password("old-hash").build();
+
+    @Test
+    void clientIpIsTheEntryWrittenByTheOutermostTrustedProxy() {
+        assertThat(AuthService.clientIp("203.0.113.9", "10.0.0.2", 1)).isEqualTo("203.0.113.9");
+        // Load balancer saw the client, gateway saw the load balancer
+        assertThat(AuthService.clientIp("203.0.113.9, 10.0.0.5", "10.0.0.2", 2)).isEqualTo("203.0.113.9");
+        // Whatever the client put in front is ignored
+        assertThat(AuthService.clientIp("1.2.3.4, 203.0.113.9, 10.0.0.5", "10.0.0.2", 2)).isEqualTo("203.0.113.9");
+        assertThat(AuthService.clientIp("203.0.113.9", "10.0.0.2", 2)).isEqualTo("203.0.113.9");
+        assertThat(AuthService.clientIp(null, "10.0.0.2", 1)).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    void changePasswordHashesOutsideAnyTransaction() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer access");
+        when(jwtService.extractUsername("access")).thenReturn("dealer.one");
+        when(accountRepository.findByUsernameSimple("dealer.one")).thenReturn(Optional.of(account));
+        when(passwordHashingService.matches(any(), anyString())).thenAnswer(invocation -> {
+            assertThat(transactionManager.open).isZero();
+            return "current".contentEquals((CharSequence) invocation.getArgument(0));
+        });
+        when(passwordHashingService.encode("next-secret")).thenAnswer(invocation -> {
+            assertThat(transactionManager.open).isZero();
+            return "new-hash";
+        });
+        when(accountRepository.replacePassword(7L, "old-hash", "new-hash")).thenReturn(1);
+
+        authService.changePassword(request, new ChangePasswordRequest("current", "next-secret", "next-secret"));
+
+        verify(accountRepository).replacePassword(7L, "old-hash", "new-hash");
+        assertThat(transactionManager.begun).isEqualTo(2);
+    }
+
+    @Test
+    void changePasswordRefusesToOverwriteAConcurrentChange() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer access");
+        when(jwtService.extractUsername("access")).thenReturn("dealer.one");
+        when(accountRepository.findByUsernameSimple("dealer.one")).thenReturn(Optional.of(account));
+        when(passwordHashingService.matches("current", "old-hash")).thenReturn(true);
+        when(passwordHashingService.encode("next-secret")).thenReturn("new-hash");
+
+        assertThatThrownBy(() -> authService.changePassword(request,
+                new ChangePasswordRequest("current", "next-secret", "next-secret")))
+                .isInstanceOf(AuthenticationException.class);
+    }
+
+    @Test
+    void resetPasswordPassesHashingBackPressureThrough() {
+        Claims claims = mock(Claims.class);
+        when(claims.get("accountId", Long.class)).thenReturn(7L);
+        when(jwtService.validatePasswordResetToken("reset")).thenReturn(claims);
+        when(accountRepository.findById(7L)).thenReturn(Optional.of(account));
+        when(passwordHashingService.encode("next-secret")).thenThrow(
+                new ThrottledException(HttpStatus.SERVICE_UNAVAILABLE, "busy", 1));
+
+        assertThatThrownBy(() -> authService.resetPassword(new ResetPasswordRequest("reset", "next-secret", "next-secret")))
+                .isInstanceOfSatisfying(ThrottledException.class,
+                        e -> assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        verify(tokenWatermarkService, never()).revokeAllTokens(anyString());
+    }
+
+    @Test
+    void resetPasswordRevokesTokensAfterTheWrite() {
+        Claims claims = mock(Claims.class);
+        when(claims.get("accountId", Long.class)).thenReturn(7L);
+        when(jwtService.validatePasswordResetToken("reset")).thenReturn(claims);
+        when(accountRepository.findById(7L)).thenReturn(Optional.of(account));
+        when(passwordHashingService.encode("next-secret")).thenReturn("new-hash");
+        when(accountRepository.replacePassword(7L, "old-hash", "new-hash")).thenReturn(1);
+
+        authService.resetPassword(new ResetPasswordRequest("reset", "next-secret", "next-secret"));
+
+        verify(tokenWatermarkService).revokeAllTokens("dealer.one");
+    }
+
+    @Test
+    void logoutVerifiesTheTokenOnce() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer access");
+        ParsedToken parsed = new ParsedToken("access", Jwts.claims().setSubject("dealer.one")
+                .setIssuedAt(new Date()).setExpiration(new Date(System.currentTimeMillis() + 60000)));
+        when(jwtService.parse("access")).thenReturn(parsed);
+
+        authService.logoutUser(request);
+
+        verify(jwtService, times(1)).parse("access");
+        verify(tokenBlacklistService).blacklistToken(parsed);
+        verify(tokenBlacklistService, never()).blacklistToken(anyString());
+        verify(tokenBlacklistService, never()).isTokenBlacklisted(anyString());
+    }
+
+    @Test
+    void refreshLoadsAccountAndRolesWithOneQuery() {
+        ParsedToken parsed = new ParsedToken("refresh",
+                Jwts.claims().setSubject("dealer.one").setIssuedAt(new Date()));
+        when(jwtService.parse("refresh")).thenReturn(parsed);
+        when(jwtService.isRefreshTokenValid(parsed)).thenReturn(true);
+        account.setRoles(Set.of(Role.builder().id(2L).name("DEALER").build()));
+        when(accountRepository.findByUsernameWithRoles("dealer.one")).thenReturn(Optional.of(account));
+
+        assertThat(authService.refreshToken(new RefreshTokenRequest("refresh")).getRoles()).containsExactly("DEALER");
+
+        verify(accountRepository).findByUsernameWithRoles("dealer.one");
+        verifyNoMoreInteractions(accountRepository);
+    }
+
+    @Test
+    void createAccountResolvesRolesFromTheCache() {
+        Role dealer = Role.builder().id(2L).name("DEALER").build();
+        when(roleCache.getRequired("DEALER")).thenReturn(dealer);
+        when(passwordHashingService.encode("password123")).thenReturn("hash");
+        when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        authService.createAccount(new AccountCreateRequest("dealer.two", "password123", Set.of("DEALER")));
+
+        verify(accountRepository).save(argThat(saved -> saved.getRoles().contains(dealer)));
+    }
+
+    @Test
+    void refreshTokenIssuedBeforeTheWatermarkIsRejected() {
+        ParsedToken parsed = new ParsedToken("refresh",
+                Jwts.claims().setSubject("dealer.one").setIssuedAt(new Date()));
+        when(jwtService.parse("refresh")).thenReturn(parsed);
+        when(tokenWatermarkService.isRevoked(parsed)).thenReturn(true);
+        when(jwtService.isRefreshTokenValid(parsed)).thenReturn(true);
+
+        assertThatThrownBy(() -> authService.refreshToken(new RefreshTokenRequest("refresh")))
+                .isInstanceOf(TokenBlacklistedException.class);
+        verify(jwtService, never()).generateToken(anyString(), anyMap());
+    }
+
+    /** Counts transactions so a test can tell whether work ran inside one. */
+    private static final class CountingTransactionManager implements PlatformTransactionManager {
+
+        private int open;
+        private int begun;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            open++;
+            begun++;
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            open--;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            open--;
+        }
+    }
+}
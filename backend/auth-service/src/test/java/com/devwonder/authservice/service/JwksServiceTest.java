@@ -0,0 +1,321 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.authservice.entity.SigningKey;
+import com.devwonder.authservice.repository.SigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwksServiceTest {
+
+    private static final String SECRET = "test-key-ring-secret";
+
+    private final TrackingTransactionManager transactionManager = new TrackingTransactionManager();
+    private final InMemorySigningKeyRepository repository = new InMemorySigningKeyRepository(transactionManager);
+
+    @Test
+    void firstKeyIsCreatedUnderTheRotationLockAndSignsAtOnce() {
+        JwksService jwks = start(SECRET);
+
+        assertThat(repository.calls).startsWith("lock", "findNewest", "insert");
+        assertThat(repository.lockedOutsideTransaction).isFalse();
+        assertThat(repository.keys).hasSize(1);
+        assertThat(signingKid(jwks)).isEqualTo(repository.keys.get(0).getKid());
+    }
+
+    @Test
+    void dueRotationPublishesTheSuccessorAheadAndRetiresThePredecessor() {
+        start(SECRET);
+        SigningKey current = repository.keys.get(0);
+        current.setActivatesAt(Instant.now().minus(Duration.ofDays(31)));
+        repository.calls.clear();
+
+        JwksService jwks = start(SECRET);
+
+        assertThat(repository.calls).startsWith("lock", "findNewest", "insert", "retireAllExcept", "deleteRetiredBefore");
+        assertThat(repository.lockedOutsideTransaction).isFalse();
+        SigningKey successor = repository.newest();
+        assertThat(successor.getKid()).isNotEqualTo(current.getKid());
+        assertThat(successor.getActivatesAt()).isAfter(Instant.now().plus(Duration.ofMinutes(14)));
+        assertThat(current.getRetiresAt()).isEqualTo(successor.getActivatesAt().plus(Duration.ofDays(8)));
+
+        // Both are published, but the predecessor keeps signing until the successor activates
+        assertThat(jwksKids(jwks)).containsExactlyInAnyOrder(current.getKid(), successor.getKid());
+        assertThat(signingKid(jwks)).isEqualTo(current.getKid());
+    }
+
+    @Test
+    void rotationIsSkippedWhileTheNewestKeyIsFresh() {
+        start(SECRET);
+        repository.calls.clear();
+
+        start(SECRET);
+
+        assertThat(repository.calls).startsWith("lock", "findNewest").doesNotContain("insert");
+        assertThat(repository.keys).hasSize(1);
+    }
+
+    @Test
+    void retiredKeysLeaveTheJwksAndArePurgedAtTheNextRotation() {
+        start(SECRET);
+        SigningKey first = repository.keys.get(0);
+        first.setActivatesAt(Instant.now().minus(Duration.ofDays(62)));
+        start(SECRET);
+        SigningKey second = repository.newest();
+
+        // A rotation interval and the grace period later
+        first.setRetiresAt(Instant.now().minus(Duration.ofDays(1)));
+        second.setActivatesAt(Instant.now().minus(Duration.ofDays(31)));
+        JwksService jwks = start(SECRET);
+
+        assertThat(repository.keys).extracting(SigningKey::getKid).doesNotContain(first.getKid());
+        assertThat(jwks.getPublicKey(first.getKid())).isNull();
+        assertThat(jwks.getPublicKey(second.getKid())).isNotNull();
+        assertThat(second.getRetiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void privateKeysAreWrappedAndOnlyReadableWithTheSameSecret() {
+        start(SECRET);
+        assertThat(repository.keys.get(0).getPrivateKey()).startsWith("v1:");
+
+        assertThat(start(SECRET).getJwks()).isNotEmpty();
+        assertThatThrownBy(() -> start("another-secret"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No usable signing keys");
+    }
+
+    @Test
+    void startupFailsWithoutASecret() {
+        assertThatThrownBy(() -> start(""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("auth.signing-keys.secret");
+        assertThat(repository.keys).isEmpty();
+    }
+
+    @Test
+    void unencryptedKeysNeedAnExplicitOptIn() {
+        JwksService jwks = service("");
+        ReflectionTestUtils.setField(jwks, "allowUnencrypted", true);
+        jwks.init();
+
+        assertThat(repository.keys.get(0).getPrivateKey()).doesNotStartWith("v1:");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RS256", "ES256"})
+    void tokensVerifyAgainstThePublishedKey(String algorithm) {
+        JwksService jwks = service(SECRET);
+        ReflectionTestUtils.setField(jwks, "algorithmName", algorithm);
+        jwks.init();
+
+        String token = jwks.signWithActiveKey(Jwts.builder().setSubject("dealer.one")).compact();
+        String kid = signingKid(jwks);
+
+        assertThat(Jwts.parserBuilder().setSigningKey(jwks.getPublicKey(kid)).build()
+                .parseClaimsJws(token).getBody().getSubject()).isEqualTo("dealer.one");
+        assertThat(Jwts.parserBuilder().setSigningKey(jwks.getPublicKey(kid)).build()
+                .parseClaimsJws(token).getHeader().getAlgorithm()).isEqualTo(algorithm);
+        assertThat(jwk(jwks, kid)).containsEntry("alg", algorithm).containsEntry("use", "sig");
+    }
+
+    @Test
+    void jwksEntriesCarryTheMembersOfTheirKeyType() {
+        JwksService rsa = start(SECRET);
+        String rsaKid = signingKid(rsa);
+        assertThat(jwk(rsa, rsaKid)).containsEntry("kty", "RSA").containsKeys("n", "e").doesNotContainKey("crv");
+
+        repository.keys.clear();
+        JwksService ec = service(SECRET);
+        ReflectionTestUtils.setField(ec, "algorithmName", "ES256");
+        ec.init();
+        Map<String, Object> ecJwk = jwk(ec, signingKid(ec));
+        assertThat(ecJwk).containsEntry("kty", "EC").containsEntry("crv", "P-256").doesNotContainKey("n");
+        // P-256 coordinates are 32 bytes, left-padded, so always 43 base64url characters
+        assertThat((String) ecJwk.get("x")).hasSize(43);
+        assertThat((String) ecJwk.get("y")).hasSize(43);
+    }
+
+    @Test
+    void kidIsTheJwkThumbprint() throws Exception {
+        JwksService jwks = start(SECRET);
+        String kid = signingKid(jwks);
+
+        Map<String, Object> required = new TreeMap<>(jwk(jwks, kid));
+        required.keySet().retainAll(List.of("e", "kty", "n"));
+        StringJoiner canonical = new StringJoiner(",", "{", "}");
+        required.forEach((name, value) -> canonical.add("\"" + name + "\":\"" + value + "\""));
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+
+        assertThat(kid).isEqualTo(Base64.getUrlEncoder().withoutPadding().encodeToString(digest));
+    }
+
+    @Test
+    void changingTheAlgorithmRotatesEarlyAndKeepsOldTokensVerifiable() {
+        JwksService rsa = start(SECRET);
+        String rsaKid = signingKid(rsa);
+        repository.calls.clear();
+
+        JwksService jwks = service(SECRET);
+        ReflectionTestUtils.setField(jwks, "algorithmName", "ES256");
+        jwks.init();
+
+        // The RS256 key is fresh, yet an ES256 successor is published ahead of time
+        assertThat(repository.calls).contains("insert");
+        assertThat(repository.newest().getAlgorithm()).isEqualTo("ES256");
+        assertThat(jwksKids(jwks)).contains(rsaKid, repository.newest().getKid());
+        assertThat(signingKid(jwks)).isEqualTo(rsaKid);
+    }
+
+    @Test
+    void unknownAlgorithmFailsStartup() {
+        JwksService jwks = service(SECRET);
+        ReflectionTestUtils.setField(jwks, "algorithmName", "HS256");
+
+        assertThatThrownBy(jwks::init)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("HS256");
+    }
+
+    private JwksService start(String secret) {
+        JwksService jwks = service(secret);
+        jwks.init();
+        return jwks;
+    }
+
+    private JwksService service(String secret) {
+        JwksService jwks = new JwksService(repository, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(jwks, "algorithmName", "ES256");
+        ReflectionTestUtils.setField(jwks, "rotationInterval", Duration.ofDays(30));
+        ReflectionTestUtils.setField(jwks, "publishAhead", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(jwks, "verifyGrace", Duration.ofDays(8));
+        ReflectionTestUtils.setField(jwks, "wrappingSecret", secret);
+        return jwks;
+    }
+
+    private static String signingKid(JwksService jwks) {
+        String token = jwks.signWithActiveKey(Jwts.builder().setSubject("dealer.one")).compact();
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))),
+                StandardCharsets.UTF_8);
+        return header.replaceAll(".*\"kid\":\"([^\"]+)\".*", "$1");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> jwksKids(JwksService jwks) {
+        return ((List<Map<String, Object>>) jwks.getJwks().get("keys")).stream()
+                .map(key -> (String) key.get("kid"))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> jwk(JwksService jwks, String kid) {
+        return ((List<Map<String, Object>>) jwks.getJwks().get("keys")).stream()
+                .filter(key -> kid.equals(key.get("kid")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static final class InMemorySigningKeyRepository extends SigningKeyRepository {
+
+        private final TrackingTransactionManager transactionManager;
+        private final List<SigningKey> keys = new ArrayList<>();
+        private final List<String> calls = new ArrayList<>();
+        private boolean lockedOutsideTransaction;
+
+        InMemorySigningKeyRepository(TrackingTransactionManager transactionManager) {
+            super(null);
+            this.transactionManager = transactionManager;
+        }
+
+        SigningKey newest() {
+            return keys.stream().max(Comparator.comparing(SigningKey::getActivatesAt)).orElseThrow();
+        }
+
+        @Override
+        public void lockForRotation() {
+            calls.add("lock");
+            // pg_advisory_xact_lock is released at commit, so it only serializes rotation inside one
+            lockedOutsideTransaction |= !transactionManager.open;
+        }
+
+        @Override
+        public List<SigningKey> findPublished(Instant now) {
+            return keys.stream()
+                    .filter(key -> key.getRetiresAt() == null || key.getRetiresAt().isAfter(now))
+                    .sorted(Comparator.comparing(SigningKey::getActivatesAt))
+                    .toList();
+        }
+
+        @Override
+        public Optional<SigningKey> findNewest() {
+            calls.add("findNewest");
+            return keys.stream().max(Comparator.comparing(SigningKey::getActivatesAt));
+        }
+
+        @Override
+        public void insert(SigningKey key) {
+            calls.add("insert");
+            keys.add(key);
+        }
+
+        @Override
+        public void retireAllExcept(String kid, Instant retiresAt) {
+            calls.add("retireAllExcept");
+            keys.stream()
+                    .filter(key -> key.getRetiresAt() == null && !key.getKid().equals(kid))
+                    .forEach(key -> key.setRetiresAt(retiresAt));
+        }
+
+        @Override
+        public int deleteRetiredBefore(Instant cutoff) {
+            calls.add("deleteRetiredBefore");
+            int before = keys.size();
+            keys.removeIf(key -> key.getRetiresAt() != null && key.getRetiresAt().isBefore(cutoff));
+            return before - keys.size();
+        }
+    }
+
+    private static final class TrackingTransactionManager implements PlatformTransactionManager {
+
+        private boolean open;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            open = true;
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            open = false;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            open = false;
+        }
+    }
+}
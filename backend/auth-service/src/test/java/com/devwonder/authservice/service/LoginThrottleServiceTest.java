@@ -0,0 +1,102 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.common.exception.ThrottledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LoginThrottleServiceTest {
+
+    private static final String IP_KEY = "auth:login-throttle:ip:203.0.113.9";
+    private static final String USER_KEY = "auth:login-throttle:user:dealer.one";
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final LoginThrottleService throttle = new LoginThrottleService(redis);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(throttle, "enabled", true);
+        ReflectionTestUtils.setField(throttle, "ipMaxAttempts", 30L);
+        ReflectionTestUtils.setField(throttle, "ipWindow", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(throttle, "usernameMaxFailures", 5L);
+        ReflectionTestUtils.setField(throttle, "usernameWindow", Duration.ofMinutes(15));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void attemptsFromIp(long count) {
+        when(redis.execute(any(RedisScript.class), eq(List.of(IP_KEY)), anyString())).thenReturn(count);
+    }
+
+    @Test
+    void allowsAttemptsUnderBothLimits() {
+        attemptsFromIp(30);
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.get(USER_KEY)).thenReturn("4");
+
+        assertThatCode(() -> throttle.checkAttempt("dealer.one", "203.0.113.9")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void refusesAnIpOverItsLimitUntilTheWindowEnds() {
+        attemptsFromIp(31);
+        when(redis.getExpire(IP_KEY, TimeUnit.SECONDS)).thenReturn(42L);
+
+        assertThatThrownBy(() -> throttle.checkAttempt("dealer.one", "203.0.113.9"))
+                .isInstanceOfSatisfying(ThrottledException.class, e -> {
+                    assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(42);
+                });
+    }
+
+    @Test
+    void refusesAUsernameAfterTooManyFailures() {
+        attemptsFromIp(1);
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.get(USER_KEY)).thenReturn("5");
+        when(redis.getExpire(USER_KEY, TimeUnit.SECONDS)).thenReturn(-1L);
+
+        assertThatThrownBy(() -> throttle.checkAttempt("dealer.one", "203.0.113.9"))
+                .isInstanceOfSatisfying(ThrottledException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(Duration.ofMinutes(15).toSeconds()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisOutageDisablesThrottlingNotLogins() {
+        when(redis.execute(any(RedisScript.class), any(List.class), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatCode(() -> throttle.checkAttempt("dealer.one", "203.0.113.9")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void disabledThrottleNeverTouchesRedis() {
+        ReflectionTestUtils.setField(throttle, "enabled", false);
+
+        throttle.checkAttempt("dealer.one", "203.0.113.9");
+        throttle.recordFailure("dealer.one");
+
+        verifyNoInteractions(redis);
+    }
+}
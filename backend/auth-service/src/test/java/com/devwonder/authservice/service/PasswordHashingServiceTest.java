@@ -0,0 +1,98 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.common.exception.ThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService service;
+
+    /** Encodes by prefixing, after waiting for {@link #release}. */
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hashing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    private double queueSize() {
+        return meterRegistry.get("auth.password.hash.queue.size").gauge().value();
+    }
+
+    @Test
+    void refusesWithServiceUnavailableOncePoolAndQueueAreFull() throws Exception {
+        service = new PasswordHashingService(blockingEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5), 10);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("a"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("b"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queueSize() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> service.encode("c"))
+                .isInstanceOfSatisfying(ThrottledException.class, e -> {
+                    assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(e.getRetryAfterSeconds()).isPositive();
+                });
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:b");
+    }
+
+    @Test
+    void givesUpOnAHashThatWaitsPastTheTimeout() {
+        service = new PasswordHashingService(blockingEncoder, meterRegistry, 1, 4, Duration.ofMillis(100), 10);
+
+        assertThatThrownBy(() -> service.encode("a"))
+                .isInstanceOfSatisfying(ThrottledException.class,
+                        e -> assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onlyHashesWithAnotherCostNeedRehashing() {
+        service = new PasswordHashingService(blockingEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5), 10);
+
+        assertThat(service.needsRehash("$2a$08$abcdefghijklmnopqrstuv")).isTrue();
+        assertThat(service.needsRehash("$2a$10$abcdefghijklmnopqrstuv")).isFalse();
+        assertThat(service.needsRehash("{noop}plain")).isFalse();
+        assertThat(service.needsRehash(null)).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package com.devwonder.authservice.service;
+
+import com.devwonder.authservice.entity.Role;
+import com.devwonder.authservice.repository.RoleRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoleCacheTest {
+
+    private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final RoleCache roleCache = new RoleCache(roleRepository);
+
+    @Test
+    void lookupsAfterStartupStayInMemory() {
+        when(roleRepository.findAll()).thenReturn(List.of(role(1L, "ADMIN"), role(2L, "DEALER")));
+        roleCache.load();
+
+        assertThat(roleCache.getRequired("DEALER").getId()).isEqualTo(2L);
+        assertThat(roleCache.getRequired("ADMIN").getId()).isEqualTo(1L);
+        assertThat(roleCache.getRequired("DEALER").getId()).isEqualTo(2L);
+
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void unknownNameReloadsOnce() {
+        when(roleRepository.findAll())
+                .thenReturn(List.of(role(1L, "ADMIN")))
+                .thenReturn(List.of(role(1L, "ADMIN"), role(3L, "WAREHOUSE")));
+        roleCache.load();
+
+        assertThat(roleCache.getRequired("WAREHOUSE").getId()).isEqualTo(3L);
+        assertThat(roleCache.getRequired("WAREHOUSE").getId()).isEqualTo(3L);
+
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    @Test
+    void missingRoleFails() {
+        when(roleRepository.findAll()).thenReturn(List.of(role(1L, "ADMIN")));
+        roleCache.load();
+
+        assertThatThrownBy(() -> roleCache.getRequired("GHOST")).hasMessage("Role not found: GHOST");
+    }
+
+    private static Role role(Long id, String name) {
+        return Role.builder().id(id).name(name).build();
+    }
+}
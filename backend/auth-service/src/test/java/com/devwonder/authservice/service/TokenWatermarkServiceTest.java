@@ -0,0 +1,116 @@
+package com.devwonder.authservice.service;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenWatermarkServiceTest {
+
+    private static final String CHANNEL = "auth:token-watermarks";
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final TokenWatermarkService watermarks = new TokenWatermarkService(stringRedisTemplate);
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        ReflectionTestUtils.setField(watermarks, "keyPrefix", "auth:token-watermark:");
+        ReflectionTestUtils.setField(watermarks, "channel", CHANNEL);
+        ReflectionTestUtils.setField(watermarks, "ttl", Duration.ofDays(8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tokensIssuedBeforeTheWatermarkAreRevoked() {
+        long now = System.currentTimeMillis();
+
+        watermarks.revokeAllTokens("dealer.one");
+
+        assertThat(watermarks.isRevoked(token("dealer.one", now - 5000))).isTrue();
+        assertThat(watermarks.isRevoked(token("dealer.two", now - 5000))).isFalse();
+        verify(valueOperations).set(eq("auth:token-watermark:dealer.one"), anyString(), eq(Duration.ofDays(8)));
+        verify(stringRedisTemplate).convertAndSend(eq(CHANNEL), startsWith("dealer.one:"));
+    }
+
+    @Test
+    void loginInTheSameSecondAsTheBumpStaysValid() {
+        watermarks.revokeAllTokens("dealer.one");
+
+        // iat is whole seconds, so a token issued right after the reset rounds down to the watermark
+        long issuedAt = System.currentTimeMillis() / 1000 * 1000;
+        assertThat(watermarks.isRevoked(token("dealer.one", issuedAt))).isFalse();
+    }
+
+    @Test
+    void bumpWaitsForTheCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        long before = System.currentTimeMillis() - 5000;
+
+        watermarks.revokeAllTokens("dealer.one");
+        assertThat(watermarks.isRevoked(token("dealer.one", before))).isFalse();
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(watermarks.isRevoked(token("dealer.one", before))).isTrue();
+    }
+
+    @Test
+    void rolledBackResetRevokesNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        watermarks.revokeAllTokens("dealer.one");
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(watermarks.isRevoked(token("dealer.one", System.currentTimeMillis() - 5000))).isFalse();
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    void watermarkFromAnotherReplicaIsApplied() {
+        watermarks.onMessage(message("dealer.one:2000000"), null);
+        watermarks.onMessage(message("dealer.one:1000000"), null);
+        watermarks.onMessage(message("garbage"), null);
+
+        // The older announcement never lowers the watermark
+        assertThat(watermarks.isRevoked(token("dealer.one", 1500000))).isTrue();
+        assertThat(watermarks.isRevoked(token("dealer.one", 2000000))).isFalse();
+    }
+
+    private static ParsedToken token(String username, long issuedAtMillis) {
+        return new ParsedToken("token", Jwts.claims().setSubject(username).setIssuedAt(new Date(issuedAtMillis)));
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,41 @@
+package com.devwonder.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Append-only latency samples for one worker thread; merged and sorted once at the end of a run.
+ */
+public final class LatencyRecorder {
+
+    private long[] samples = new long[4096];
+    private int size;
+    private long errors;
+
+    public void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    public void recordError() {
+        errors++;
+    }
+
+    public static LatencyStats merge(Iterable<LatencyRecorder> recorders, long elapsedNanos) {
+        int total = 0;
+        long errors = 0;
+        for (LatencyRecorder recorder : recorders) {
+            total += recorder.size;
+            errors += recorder.errors;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged, offset, recorder.size);
+            offset += recorder.size;
+        }
+        Arrays.sort(merged);
+        return new LatencyStats(merged, errors, elapsedNanos);
+    }
+}
@@ -0,0 +1,42 @@
+package com.devwonder.benchmark;
+
+/**
+ * Summary of one measured run of an endpoint or step. Percentiles cover successful requests only; errors are
+ * counted separately.
+ */
+public final class LatencyStats {
+
+    private final long[] sortedNanos;
+    private final long errors;
+    private final long elapsedNanos;
+
+    LatencyStats(long[] sortedNanos, long errors, long elapsedNanos) {
+        this.sortedNanos = sortedNanos;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long successes() {
+        return sortedNanos.length;
+    }
+
+    public long errors() {
+        return errors;
+    }
+
+    public double throughputPerSecond() {
+        return elapsedNanos == 0 ? 0 : successes() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public double percentileMillis(double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1_000_000.0;
+    }
+
+    public double maxMillis() {
+        return sortedNanos.length == 0 ? 0 : sortedNanos[sortedNanos.length - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,87 @@
+package com.devwonder.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code --name=value}; a bare {@code --name} means {@code true}. Holds the
+ * options every load harness shares. Subclasses add their own on top, and name the one option that may be
+ * repeated to pass arguments through to the service under test.
+ */
+public abstract class LoadOptions {
+
+    private final Map<String, String> values = new HashMap<>();
+    private final List<String> passThroughArgs = new ArrayList<>();
+
+    protected LoadOptions(String[] args, String passThroughName) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            String name = eq < 0 ? arg.substring(2) : arg.substring(2, eq);
+            String value = eq < 0 ? "true" : arg.substring(eq + 1);
+            if (passThroughName.equals(name)) {
+                passThroughArgs.add(value);
+            } else {
+                values.put(name, value);
+            }
+        }
+    }
+
+    /** Base URL of an already running service; when absent the harness launches one. */
+    public String target() {
+        return values.get("target");
+    }
+
+    public int concurrency() {
+        return intValue("concurrency", 16);
+    }
+
+    public Duration warmup() {
+        return Duration.ofSeconds(longValue("warmup-seconds", 10));
+    }
+
+    public Duration duration() {
+        return Duration.ofSeconds(longValue("duration-seconds", 30));
+    }
+
+    public Duration requestTimeout() {
+        return Duration.ofMillis(longValue("request-timeout-ms", 10_000));
+    }
+
+    protected List<String> passThroughArgs() {
+        return passThroughArgs;
+    }
+
+    protected String value(String name) {
+        return values.get(name);
+    }
+
+    protected String value(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    protected int intValue(String name, int defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    protected long longValue(String name, long defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    protected double doubleValue(String name, double defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    /** False unless given. */
+    protected boolean flag(String name) {
+        return Boolean.parseBoolean(values.getOrDefault(name, "false"));
+    }
+}
@@ -9,6 +9,7 @@ import com.devwonder.blogservice.mapper.BlogMapper;
 import com.devwonder.blogservice.repository.BlogRepository;
 import com.devwonder.blogservice.repository.CategoryBlogRepository;
 import com.devwonder.blogservice.util.FieldFilterUtil;
+import com.devwonder.common.service.GatewayCachePurgeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,10 +22,14 @@ import java.util.List;
 @Slf4j
 public class BlogService {
     
+    // Blog lists cached by the gateway: homepage and per-category listings
+    private static final String[] CACHED_BLOG_PATHS = {"/api/blog/blogs/**", "/api/blog/categories/**"};
+
     private final BlogRepository blogRepository;
     private final CategoryBlogRepository categoryBlogRepository;
     private final BlogMapper blogMapper;
     private final FieldFilterUtil fieldFilterUtil;
+    private final GatewayCachePurgeService gatewayCachePurgeService;
     
     public List<BlogResponse> getAllBlogs(String fields) {
         log.info("Fetching all blogs with fields: {}", fields);
@@ -92,6 +97,7 @@ public class BlogService {
         
         Blog savedBlog = blogRepository.save(blog);
         log.info("Successfully created blog with ID: {} and title: {}", savedBlog.getId(), savedBlog.getTitle());
+        gatewayCachePurgeService.purge(CACHED_BLOG_PATHS);
         
         return blogMapper.toBlogResponse(savedBlog);
     }
@@ -129,6 +135,7 @@ public class BlogService {
         
         Blog updatedBlog = blogRepository.save(existingBlog);
         log.info("Successfully updated blog with ID: {} and title: {}", updatedBlog.getId(), updatedBlog.getTitle());
+        gatewayCachePurgeService.purge(CACHED_BLOG_PATHS);
         
         return blogMapper.toBlogResponse(updatedBlog);
     }
@@ -143,6 +150,7 @@ public class BlogService {
         existingBlog.setIsDeleted(true);
         blogRepository.save(existingBlog);
         log.info("Successfully soft deleted blog with ID: {} and title: {}", existingBlog.getId(), existingBlog.getTitle());
+        gatewayCachePurgeService.purge(CACHED_BLOG_PATHS);
     }
 
     @Transactional
@@ -154,6 +162,7 @@ public class BlogService {
 
         blogRepository.delete(existingBlog);
         log.info("Successfully hard deleted blog with ID: {} and title: {}", existingBlog.getId(), existingBlog.getTitle());
+        gatewayCachePurgeService.purge(CACHED_BLOG_PATHS);
     }
 
     @Transactional
@@ -170,6 +179,7 @@ public class BlogService {
         existingBlog.setIsDeleted(false);
         Blog restoredBlog = blogRepository.save(existingBlog);
         log.info("Successfully restored blog with ID: {} and title: {}", restoredBlog.getId(), restoredBlog.getTitle());
+        gatewayCachePurgeService.purge(CACHED_BLOG_PATHS);
 
         return blogMapper.toBlogResponse(restoredBlog);
     }
@@ -5,6 +5,7 @@ import com.devwonder.blogservice.dto.CategoryBlogResponse;
 import com.devwonder.blogservice.entity.CategoryBlog;
 import com.devwonder.blogservice.mapper.CategoryBlogMapper;
 import com.devwonder.blogservice.repository.CategoryBlogRepository;
+import com.devwonder.common.service.GatewayCachePurgeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,8 +18,11 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CategoryBlogService {
 
+    private static final String CACHED_CATEGORY_PATHS = "/api/blog/categories/**";
+
     private final CategoryBlogRepository categoryBlogRepository;
     private final CategoryBlogMapper categoryBlogMapper;
+    private final GatewayCachePurgeService gatewayCachePurgeService;
 
     public List<CategoryBlogResponse> getAllCategoryBlogs() {
         log.info("Retrieving all category blogs");
@@ -43,6 +47,7 @@ public class CategoryBlogService {
 
         log.info("Successfully created category blog with ID: {} and name: {}",
                 savedCategoryBlog.getId(), savedCategoryBlog.getName());
+        gatewayCachePurgeService.purge(CACHED_CATEGORY_PATHS);
 
         return categoryBlogMapper.toCategoryBlogResponse(savedCategoryBlog);
     }
@@ -57,5 +62,6 @@ public class CategoryBlogService {
 
         log.info("Successfully deleted category blog with ID: {} and name: {}",
                 categoryBlog.getId(), categoryBlog.getName());
+        gatewayCachePurgeService.purge(CACHED_CATEGORY_PATHS);
     }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.devwonder.common.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+/**
+ * Per-request cost of the {@link BaseSecurityConfig} access rules: the SpEL
+ * {@link WebExpressionAuthorizationManager}s they used to be against the
+ * {@link HeaderAuthorizationManager}s they are now.
+ *
+ * {@code request} picks which headers the request carries: the right API key, a wrong
+ * key of the same length (the SpEL string compare exits at the first differing
+ * character, the constant-time one does not), or only the gateway marker, which makes
+ * the "API key or gateway" rule evaluate both branches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class HeaderAuthorizationBenchmark {
+
+    private static final String API_KEY = "INTER_SERVICE_KEY";
+    private static final String GATEWAY_EXPRESSION = "request.getHeader('X-Gateway-Request') == 'true'";
+    private static final String API_KEY_EXPRESSION = "request.getHeader('X-API-Key') == '" + API_KEY + "'";
+
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken("benchmark", "anonymousUser",
+            AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+    private static final Supplier<Authentication> AUTHENTICATION = () -> ANONYMOUS;
+
+    @Param({ "api-key", "wrong-key", "gateway" })
+    private String request;
+
+    private RequestAuthorizationContext context;
+
+    private AuthorizationManager<RequestAuthorizationContext> spelApiKey;
+    private AuthorizationManager<RequestAuthorizationContext> spelApiKeyOrGateway;
+    private AuthorizationManager<RequestAuthorizationContext> headerApiKey;
+    private AuthorizationManager<RequestAuthorizationContext> headerApiKeyOrGateway;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/user-service/dashboard/summary");
+        switch (request) {
+            case "api-key" -> servletRequest.addHeader(HeaderAuthorizationManager.API_KEY_HEADER, API_KEY);
+            case "wrong-key" -> servletRequest.addHeader(HeaderAuthorizationManager.API_KEY_HEADER, "INTER_SERVICE_KEZ");
+            case "gateway" -> servletRequest.addHeader(HeaderAuthorizationManager.GATEWAY_HEADER, "true");
+            default -> throw new IllegalArgumentException(request);
+        }
+        context = new RequestAuthorizationContext(servletRequest);
+
+        spelApiKey = new WebExpressionAuthorizationManager(API_KEY_EXPRESSION);
+        spelApiKeyOrGateway = new WebExpressionAuthorizationManager(API_KEY_EXPRESSION + " or " + GATEWAY_EXPRESSION);
+        headerApiKey = HeaderAuthorizationManager.apiKey(API_KEY);
+        headerApiKeyOrGateway = AuthorizationManagers.anyOf(HeaderAuthorizationManager.apiKey(API_KEY),
+                HeaderAuthorizationManager.gatewayRequest());
+    }
+
+    @Benchmark
+    public AuthorizationDecision spelApiKey() {
+        return spelApiKey.check(AUTHENTICATION, context);
+    }
+
+    @Benchmark
+    public AuthorizationDecision headerApiKey() {
+        return headerApiKey.check(AUTHENTICATION, context);
+    }
+
+    @Benchmark
+    public AuthorizationDecision spelApiKeyOrGateway() {
+        return spelApiKeyOrGateway.check(AUTHENTICATION, context);
+    }
+
+    @Benchmark
+    public AuthorizationDecision headerApiKeyOrGateway() {
+        return headerApiKeyOrGateway.check(AUTHENTICATION, context);
+    }
+}
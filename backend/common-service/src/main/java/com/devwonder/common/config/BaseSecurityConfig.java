@@ -3,6 +3,8 @@ package com.devwonder.common.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -11,7 +13,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -21,8 +23,6 @@ import java.util.Arrays;
 @EnableWebSecurity
 public abstract class BaseSecurityConfig {
 
-    public static final String GATEWAY_HEADER_EXPRESSION = "request.getHeader('X-Gateway-Request') == 'true'";
-    
     @Value("${auth.api.key:INTER_SERVICE_KEY}")
     private String authApiKey;
     
@@ -72,6 +72,9 @@ public abstract class BaseSecurityConfig {
             
             // Actuator health check (always allow for Docker health checks)
             .requestMatchers("/actuator/health").permitAll()
+
+            // Prometheus scrape (only exposed when devwonder.metrics is enabled; not routed by the gateway)
+            .requestMatchers("/actuator/prometheus").permitAll()
             
             // Swagger docs (ONLY via API Gateway)
             .requestMatchers(
@@ -83,18 +86,18 @@ public abstract class BaseSecurityConfig {
     }
 
     
-    protected WebExpressionAuthorizationManager gatewayHeaderRequired() {
-        return new WebExpressionAuthorizationManager(GATEWAY_HEADER_EXPRESSION);
+    // Plain header comparisons; these run on every request, so no SpEL evaluation
+    protected AuthorizationManager<RequestAuthorizationContext> gatewayHeaderRequired() {
+        return HeaderAuthorizationManager.gatewayRequest();
     }
     
-    protected WebExpressionAuthorizationManager authApiKeyRequired() {
-        String expression = "request.getHeader('X-API-Key') == '" + authApiKey + "'";
-        return new WebExpressionAuthorizationManager(expression);
+    protected AuthorizationManager<RequestAuthorizationContext> authApiKeyRequired() {
+        return HeaderAuthorizationManager.apiKey(authApiKey);
     }
 
-    protected WebExpressionAuthorizationManager authApiKeyOrGatewayRequired() {
-        String expression = "request.getHeader('X-API-Key') == '" + authApiKey + "' or " + GATEWAY_HEADER_EXPRESSION;
-        return new WebExpressionAuthorizationManager(expression);
+    protected AuthorizationManager<RequestAuthorizationContext> authApiKeyOrGatewayRequired() {
+        return AuthorizationManagers.anyOf(HeaderAuthorizationManager.apiKey(authApiKey),
+                HeaderAuthorizationManager.gatewayRequest());
     }
     
     @Bean
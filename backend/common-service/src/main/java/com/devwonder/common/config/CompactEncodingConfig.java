@@ -0,0 +1,26 @@
+package com.devwonder.common.config;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Registers a Smile (binary JSON) converter next to the JSON one. Callers that send
+ * {@code Accept: application/x-jackson-smile} get Smile; everyone else keeps getting JSON.
+ * Feign clients pick the same converter up for decoding, so both directions share one mapper config.
+ */
+@Configuration
+public class CompactEncodingConfig {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType SMILE = MediaType.parseMediaType(SMILE_VALUE);
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        // Start from Boot's builder so Smile and JSON serialize dates, nulls and modules identically
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
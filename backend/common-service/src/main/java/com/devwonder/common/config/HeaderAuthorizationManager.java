@@ -0,0 +1,58 @@
+package com.devwonder.common.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * Grants a request when one header carries an exact expected value.
+ *
+ * Replaces the SpEL expressions {@link BaseSecurityConfig} used to build: no expression
+ * parsing or evaluation context per request, and the secret is compared with
+ * {@link MessageDigest#isEqual}, whose running time does not depend on how many leading
+ * characters of a guess are right. A missing header is denied.
+ */
+public final class HeaderAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+    public static final String GATEWAY_HEADER = "X-Gateway-Request";
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private static final HeaderAuthorizationManager GATEWAY_REQUEST = new HeaderAuthorizationManager(GATEWAY_HEADER, "true");
+
+    private final String headerName;
+    private final byte[] expectedValue;
+
+    private HeaderAuthorizationManager(String headerName, String expectedValue) {
+        this.headerName = headerName;
+        this.expectedValue = expectedValue.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Requires {@code X-API-Key} to equal the shared inter-service key. */
+    public static HeaderAuthorizationManager apiKey(String apiKey) {
+        return new HeaderAuthorizationManager(API_KEY_HEADER, apiKey);
+    }
+
+    /** Requires the {@code X-Gateway-Request: true} marker the API gateway adds. */
+    public static HeaderAuthorizationManager gatewayRequest() {
+        return GATEWAY_REQUEST;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return matches(context.getRequest()) ? GRANTED : DENIED;
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        String value = request.getHeader(headerName);
+        return value != null && MessageDigest.isEqual(value.getBytes(StandardCharsets.UTF_8), expectedValue);
+    }
+}
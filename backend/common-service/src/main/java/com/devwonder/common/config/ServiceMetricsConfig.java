@@ -0,0 +1,62 @@
+package com.devwonder.common.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Opt-in HTTP metrics shared by every service, so dashboards can treat them alike.
+ *
+ * Enabled with {@code devwonder.metrics.enabled=true} on a service that has the
+ * actuator and a Prometheus registry on its classpath. Server ({@code http.server.requests})
+ * and client ({@code http.client.requests}, covering Feign and RestTemplate) timers
+ * then publish percentile histograms with the same bucket range the gateway uses, and
+ * every meter carries an {@code application} tag.
+ */
+@Configuration
+@ConditionalOnClass(name = "org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer")
+@ConditionalOnProperty(prefix = "devwonder.metrics", name = "enabled", havingValue = "true")
+public class ServiceMetricsConfig {
+
+    private static final String SERVER_REQUESTS = "http.server.requests";
+    private static final String CLIENT_REQUESTS = "http.client.requests";
+
+    @Value("${spring.application.name:unknown}")
+    private String applicationName;
+
+    @Value("${devwonder.metrics.max-expected-latency:30s}")
+    private Duration maxExpectedLatency;
+
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> applicationTagCustomizer() {
+        return registry -> registry.config().commonTags("application", applicationName);
+    }
+
+    @Bean
+    public MeterFilter httpLatencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                String name = id.getName();
+                if (!SERVER_REQUESTS.equals(name) && !CLIENT_REQUESTS.equals(name)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) maxExpectedLatency.toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.devwonder.common.dto.dashboard.v1;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of the order-service dealer leaderboard ({@code /order-service/dashboard/top-dealers}).
+ * Unknown properties are ignored so producers can add fields ahead of report-service.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DealerRanking {
+    private Integer rank;
+    private Long id;
+    private String name;
+    private Long totalSpent;
+    private Long totalOrders;
+    // yyyy-MM-dd of the latest paid order
+    private String lastOrder;
+}
@@ -0,0 +1,24 @@
+package com.devwonder.common.dto.dashboard.v1;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Stock alert summary from product-service {@code /inventory-alerts}, with the low-stock rows, lowest stock first.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class InventoryAlerts {
+    private Integer lowStockCount;
+    private Integer overstockCount;
+    private String urgentProduct;
+    private List<LowStockProduct> lowStockProducts;
+}
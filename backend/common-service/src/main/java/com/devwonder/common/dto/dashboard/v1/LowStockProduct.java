@@ -0,0 +1,22 @@
+package com.devwonder.common.dto.dashboard.v1;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Product below the low-stock threshold, as listed in product-service {@code /inventory-alerts}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LowStockProduct {
+    private Long productId;
+    private String name;
+    private Integer inStock;
+    private Integer threshold;
+}
@@ -0,0 +1,24 @@
+package com.devwonder.common.dto.dashboard.v1;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Product row shared by product-service {@code /top-products} and order-service {@code /product-sales}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProductRanking {
+    private Integer rank;
+    private Long productId;
+    private String name;
+    private Integer soldQuantity;
+    private Long revenue;
+    private Double growth;
+}
@@ -0,0 +1,10 @@
+/**
+ * Version 1 of the dashboard contracts between order-service, product-service and
+ * report-service.
+ *
+ * Adding a field is compatible (consumers ignore unknown properties) and stays in this
+ * package. Renaming, removing or retyping a field is not: copy the class to a
+ * {@code v2} package, have the producer serve both versions until every consumer has
+ * moved, then delete the old one.
+ */
+package com.devwonder.common.dto.dashboard.v1;
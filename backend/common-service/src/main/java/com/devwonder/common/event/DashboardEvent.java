@@ -0,0 +1,29 @@
+package com.devwonder.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardEvent {
+
+    // Event types that move admin dashboard KPIs
+    public static final String ORDER_CREATED = "ORDER_CREATED";
+    public static final String ORDER_PAID = "ORDER_PAID";
+    public static final String SERIAL_SOLD = "SERIAL_SOLD";
+
+    private String eventType;
+    private Long orderId;
+    private Long dealerId;
+    private Long productId;
+    private BigDecimal amount;
+    private Integer quantity;
+    private LocalDateTime occurredAt;
+}
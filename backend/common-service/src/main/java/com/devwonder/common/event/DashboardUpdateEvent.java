@@ -0,0 +1,25 @@
+package com.devwonder.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardUpdateEvent {
+    // Count of dashboard events behind this diff, the same on every report-service replica,
+    // so duplicate and out-of-order diffs can be dropped
+    private Long version;
+    // Only the KPI keys whose value changed since the previous version
+    private Map<String, Object> changes;
+    // Event types coalesced into this recompute
+    private List<String> triggers;
+    private LocalDateTime generatedAt;
+}
@@ -2,6 +2,7 @@ package com.devwonder.common.exception;
 
 import com.devwonder.common.dto.BaseResponse;
 import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -40,6 +41,13 @@ public class GlobalExceptionHandler {
                 .body(BaseResponse.error(e.getMessage()));
     }
     
+    @ExceptionHandler(ThrottledException.class)
+    public ResponseEntity<BaseResponse<String>> handleThrottledException(ThrottledException e) {
+        return ResponseEntity.status(e.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(BaseResponse.error(e.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<BaseResponse<Map<String, String>>> handleValidationExceptions(
             MethodArgumentNotValidException e) {
@@ -0,0 +1,31 @@
+package com.devwonder.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Request refused before doing the work: 429 when the caller exceeded a limit,
+ * 503 when the service itself is saturated. Rendered with a Retry-After header.
+ */
+@Getter
+public class ThrottledException extends BaseException {
+
+    private final HttpStatus httpStatus;
+
+    private final long retryAfterSeconds;
+
+    public ThrottledException(String message, long retryAfterSeconds) {
+        this(HttpStatus.TOO_MANY_REQUESTS, message, retryAfterSeconds);
+    }
+
+    public ThrottledException(HttpStatus httpStatus, String message, long retryAfterSeconds) {
+        super(message);
+        this.httpStatus = httpStatus;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    protected String getDefaultErrorCode() {
+        return "THROTTLE_001";
+    }
+}
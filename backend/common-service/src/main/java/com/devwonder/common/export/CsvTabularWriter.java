@@ -0,0 +1,84 @@
+package com.devwonder.common.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * RFC 4180 CSV writer. Starts with a UTF-8 BOM so Excel opens Vietnamese text correctly.
+ *
+ * Text cells that a spreadsheet would read as a formula (leading {@code = + - @}, tab or
+ * CR) are prefixed with {@code '}, so exported names and codes can never execute.
+ */
+public class CsvTabularWriter implements TabularWriter {
+
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final String FORMULA_TRIGGERS = "=+-@\t\r";
+
+    private final Writer writer;
+
+    public CsvTabularWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        this.writer.write(UTF8_BOM);
+    }
+
+    @Override
+    public void writeHeader(String... columns) throws IOException {
+        writeRow((Object[]) columns);
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCell(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCell(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number || value instanceof TemporalAccessor || value instanceof Boolean) {
+            writer.write(value.toString());
+            return;
+        }
+
+        String text = value.toString();
+        if (!text.isEmpty() && FORMULA_TRIGGERS.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < text.length() && !needsQuotes; i++) {
+            char c = text.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+
+        if (!needsQuotes) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
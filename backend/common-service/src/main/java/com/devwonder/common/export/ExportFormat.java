@@ -0,0 +1,43 @@
+package com.devwonder.common.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public enum ExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + value + " (expected csv or xlsx)");
+        }
+    }
+
+    /**
+     * Opens a row writer for this format on top of the response stream.
+     */
+    public TabularWriter open(OutputStream out, String sheetName) throws IOException {
+        return this == XLSX ? new XlsxStreamingWriter(out, sheetName) : new CsvTabularWriter(out);
+    }
+}
@@ -0,0 +1,55 @@
+package com.devwonder.common.export;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Copies the rows of one query into a {@link TabularWriter} through a server-side cursor,
+ * so an export of any size holds only {@code fetchSize} rows in memory.
+ *
+ * Not a bean: services that export build one from their own data source, and services
+ * without a database never see it.
+ */
+public class JdbcRowStreamer {
+
+    /** Turns the current row into the cells of one output row. */
+    @FunctionalInterface
+    public interface RowValues {
+        Object[] map(ResultSet rs) throws SQLException;
+    }
+
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final int fetchSize;
+
+    public JdbcRowStreamer(DataSource dataSource, PlatformTransactionManager transactionManager, int fetchSize) {
+        this.dataSource = dataSource;
+        this.transactionManager = transactionManager;
+        this.fetchSize = fetchSize;
+    }
+
+    public void stream(String sql, TabularWriter writer, RowValues rowValues, Object... args) {
+        // PostgreSQL only uses a server-side cursor when fetch size is set inside a transaction
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> {
+            JdbcTemplate cursorTemplate = new JdbcTemplate(dataSource);
+            cursorTemplate.setFetchSize(fetchSize);
+            cursorTemplate.query(sql, rs -> {
+                try {
+                    writer.writeRow(rowValues.map(rs));
+                } catch (IOException e) {
+                    // Client went away - abort the cursor instead of reading the remaining rows
+                    throw new UncheckedIOException(e);
+                }
+            }, args);
+        });
+    }
+}
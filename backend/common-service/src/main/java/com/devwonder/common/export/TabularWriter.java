@@ -0,0 +1,17 @@
+package com.devwonder.common.export;
+
+import java.io.IOException;
+
+/**
+ * Row-at-a-time writer used by export endpoints. Implementations must not buffer rows,
+ * so exports run in constant memory regardless of the number of rows.
+ */
+public interface TabularWriter extends AutoCloseable {
+
+    void writeHeader(String... columns) throws IOException;
+
+    void writeRow(Object... values) throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
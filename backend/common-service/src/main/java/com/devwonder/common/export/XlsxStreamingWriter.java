@@ -0,0 +1,157 @@
+package com.devwonder.common.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Minimal single-sheet XLSX writer that streams rows straight into the zip entry.
+ * Uses inline strings instead of a shared string table, so nothing is kept per row.
+ * Text cells keep leading and trailing whitespace ({@code xml:space="preserve"}).
+ */
+public class XlsxStreamingWriter implements TabularWriter {
+
+    private static final String CONTENT_TYPES =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+            + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+            + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+            + "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>"
+            + "<Override PartName=\"/xl/worksheets/sheet1.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>"
+            + "</Types>";
+
+    private static final String ROOT_RELS =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+            + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"xl/workbook.xml\"/>"
+            + "</Relationships>";
+
+    private static final String WORKBOOK_RELS =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+            + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+            + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet\" Target=\"worksheets/sheet1.xml\"/>"
+            + "</Relationships>";
+
+    /** Excel refuses to open a workbook whose sheet name is longer or contains one of these. */
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+    private static final String FORBIDDEN_SHEET_NAME_CHARS = "[]:*?/\\";
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private int rowIndex = 0;
+
+    public XlsxStreamingWriter(OutputStream out, String sheetName) throws IOException {
+        validateSheetName(sheetName);
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 16 * 1024);
+
+        writeEntry("[Content_Types].xml", CONTENT_TYPES);
+        writeEntry("_rels/.rels", ROOT_RELS);
+        writeEntry("xl/_rels/workbook.xml.rels", WORKBOOK_RELS);
+        writeEntry("xl/workbook.xml",
+                "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                + "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\" "
+                + "xmlns:r=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships\">"
+                + "<sheets><sheet name=\"" + escape(sheetName) + "\" sheetId=\"1\" r:id=\"rId1\"/></sheets>"
+                + "</workbook>");
+
+        // Sheet entry stays open until close(), rows are appended as they arrive
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                + "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+    }
+
+    @Override
+    public void writeHeader(String... columns) throws IOException {
+        writeRow((Object[]) columns);
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        rowIndex++;
+        writer.write("<row r=\"");
+        writer.write(Integer.toString(rowIndex));
+        writer.write("\">");
+        for (Object value : values) {
+            writeCell(value);
+        }
+        writer.write("</row>");
+    }
+
+    private void writeCell(Object value) throws IOException {
+        if (value == null) {
+            writer.write("<c/>");
+            return;
+        }
+        if (value instanceof Number) {
+            writer.write("<c><v>");
+            writer.write(value.toString());
+            writer.write("</v></c>");
+            return;
+        }
+        writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+        writer.write(escape(value.toString()));
+        writer.write("</t></is></c>");
+    }
+
+    private static void validateSheetName(String sheetName) {
+        if (sheetName == null || sheetName.isBlank() || sheetName.length() > MAX_SHEET_NAME_LENGTH) {
+            throw new IllegalArgumentException("Sheet name must be 1 to " + MAX_SHEET_NAME_LENGTH
+                    + " characters: " + sheetName);
+        }
+        for (int i = 0; i < sheetName.length(); i++) {
+            if (FORBIDDEN_SHEET_NAME_CHARS.indexOf(sheetName.charAt(i)) >= 0) {
+                throw new IllegalArgumentException("Sheet name must not contain any of "
+                        + FORBIDDEN_SHEET_NAME_CHARS + ": " + sheetName);
+            }
+        }
+        if (sheetName.startsWith("'") || sheetName.endsWith("'")) {
+            throw new IllegalArgumentException("Sheet name must not start or end with an apostrophe: " + sheetName);
+        }
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            String replacement = switch (c) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                default -> c < 0x20 && c != '\t' && c != '\n' && c != '\r' ? "" : null;
+            };
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(text.length() + 16).append(text, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+        return escaped != null ? escaped.toString() : text;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+        zip.finish();
+        zip.flush();
+    }
+}
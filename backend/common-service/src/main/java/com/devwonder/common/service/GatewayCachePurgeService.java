@@ -0,0 +1,46 @@
+package com.devwonder.common.service;
+
+import com.devwonder.common.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Asks every api-gateway replica to drop cached responses for the given external
+ * path patterns (e.g. {@code /api/product/products/**}).
+ *
+ * Inside a transaction the message is sent after commit, so a gateway cannot refill
+ * its cache from data that is about to change. Failures are logged and swallowed:
+ * a missed purge only means the stale entry lives until its TTL.
+ *
+ * Only created where Redis is on the classpath: common-service declares it optional,
+ * and media-service, which scans this package, does without.
+ */
+@Slf4j
+@Service
+@ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+@RequiredArgsConstructor
+public class GatewayCachePurgeService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${gateway.cache.purge-channel:gateway:cache:purge}")
+    private String purgeChannel;
+
+    public void purge(String... pathPatterns) {
+        String message = String.join(",", pathPatterns);
+        TransactionUtil.afterCommit(() -> publish(message));
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(purgeChannel, message);
+            log.debug("Published gateway cache purge: {}", message);
+        } catch (Exception e) {
+            log.warn("Failed to publish gateway cache purge '{}': {}", message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.devwonder.common.service;
+
+import com.devwonder.common.exception.JwksRetrievalException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auth-service's public keys, held as ready-made verifiers indexed by key id.
+ *
+ * The first lookup fetches the JWKS and starts a background refresh, so later
+ * validations never wait on HTTP. An unknown kid (typically right after a key
+ * rotation) triggers one synchronous refetch, but at most once per
+ * {@code jwks-min-refetch-interval} so a flood of forged kids cannot hammer
+ * auth-service. A failed fetch keeps the last good key set in service.
+ */
+@Service
+public class JwksCache {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksCache.class);
+
+    private static final int MAX_JWKS_BYTES = 64 * 1024;
+
+    /** Retry spacing while no key set has ever been loaded. */
+    private static final Duration COLD_RETRY_INTERVAL = Duration.ofSeconds(1);
+
+    @Value("${nexhub.jwt.jwks-uri:http://auth-service:8081/auth/.well-known/jwks.json}")
+    private String jwksUri;
+
+    @Value("${nexhub.jwt.jwks-refresh-interval:5m}")
+    private Duration refreshInterval;
+
+    @Value("${nexhub.jwt.jwks-min-refetch-interval:30s}")
+    private Duration minRefetchInterval;
+
+    @Value("${nexhub.jwt.jwks-timeout:3s}")
+    private Duration timeout;
+
+    private volatile Map<String, JWSVerifier> verifiers = Map.of();
+    private volatile boolean loaded;
+    private boolean attempted;
+    private long lastFetchNanos;
+    private ScheduledExecutorService refresher;
+
+    public JWSVerifier getVerifier(String keyId) throws JwksRetrievalException {
+        if (keyId == null) {
+            throw new JwksRetrievalException("Token has no key id");
+        }
+        JWSVerifier verifier = verifiers.get(keyId);
+        if (verifier != null) {
+            return verifier;
+        }
+
+        refreshForUnknownKey();
+        verifier = verifiers.get(keyId);
+        if (verifier == null) {
+            throw new JwksRetrievalException("Key not found: " + keyId);
+        }
+        return verifier;
+    }
+
+    private synchronized void refreshForUnknownKey() throws JwksRetrievalException {
+        long minGap = loaded ? minRefetchInterval.toNanos() : COLD_RETRY_INTERVAL.toNanos();
+        if (attempted && System.nanoTime() - lastFetchNanos < minGap) {
+            if (!loaded) {
+                throw new JwksRetrievalException("JWKS unavailable");
+            }
+            return; // Fetched recently (possibly by a concurrent caller); trust that result
+        }
+        try {
+            fetch();
+        } catch (Exception e) {
+            if (!loaded) {
+                throw new JwksRetrievalException("Failed to get JWKS", e);
+            }
+            log.warn("JWKS refresh failed, keeping {} cached keys: {}", verifiers.size(), e.getMessage());
+        }
+        startRefresher();
+    }
+
+    private synchronized void backgroundRefresh() {
+        try {
+            fetch();
+        } catch (Exception e) {
+            log.warn("Background JWKS refresh failed, keeping {} cached keys: {}", verifiers.size(), e.getMessage());
+        }
+    }
+
+    /** Caller holds the monitor. */
+    private void fetch() throws Exception {
+        attempted = true;
+        lastFetchNanos = System.nanoTime();
+        int timeoutMillis = (int) timeout.toMillis();
+        JWKSet jwkSet = JWKSet.load(new URL(jwksUri), timeoutMillis, timeoutMillis, MAX_JWKS_BYTES);
+
+        Map<String, JWSVerifier> fresh = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            JWSVerifier verifier = toVerifier(jwk);
+            if (jwk.getKeyID() != null && verifier != null) {
+                fresh.put(jwk.getKeyID(), verifier);
+            }
+        }
+        if (fresh.isEmpty()) {
+            throw new JwksRetrievalException("JWKS contained no usable keys");
+        }
+        verifiers = Map.copyOf(fresh);
+        loaded = true;
+        log.debug("Loaded {} JWKS keys from {}", fresh.size(), jwksUri);
+    }
+
+    private static JWSVerifier toVerifier(JWK jwk) throws JOSEException {
+        if (jwk instanceof RSAKey rsaKey) {
+            return new RSASSAVerifier(rsaKey);
+        }
+        if (jwk instanceof ECKey ecKey) {
+            return new ECDSAVerifier(ecKey);
+        }
+        log.debug("Ignoring JWKS key {} of unsupported type {}", jwk.getKeyID(), jwk.getKeyType());
+        return null;
+    }
+
+    /** Caller holds the monitor. */
+    private void startRefresher() {
+        if (refresher != null || !loaded) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = refreshInterval.toMillis();
+        refresher.scheduleWithFixedDelay(this::backgroundRefresh, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+}
@@ -1,22 +1,15 @@
 package com.devwonder.common.service;
 
 import com.devwonder.common.exception.InvalidTokenSignatureException;
-import com.devwonder.common.exception.JwksRetrievalException;
 import com.devwonder.common.exception.JwtValidationException;
 import com.devwonder.common.exception.TokenExpiredException;
 import com.nimbusds.jose.JWSVerifier;
-import com.nimbusds.jose.crypto.RSASSAVerifier;
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.net.URL;
 import java.time.Instant;
 import java.util.List;
 
@@ -25,8 +18,11 @@ public class JwtService {
 
     private static final Logger log = LoggerFactory.getLogger(JwtService.class);
 
-    @Value("${nexhub.jwt.jwks-uri:http://auth-service:8081/auth/.well-known/jwks.json}")
-    private String jwksUri;
+    private final JwksCache jwksCache;
+
+    public JwtService(JwksCache jwksCache) {
+        this.jwksCache = jwksCache;
+    }
 
     public JWTClaimsSet validateToken(String token) throws JwtValidationException {
         try {
@@ -38,8 +34,7 @@ public class JwtService {
                 throw new TokenExpiredException("Token expired");
             }
             
-            RSAKey rsaKey = getRSAKey(signedJWT.getHeader().getKeyID());
-            JWSVerifier verifier = new RSASSAVerifier(rsaKey);
+            JWSVerifier verifier = jwksCache.getVerifier(signedJWT.getHeader().getKeyID());
             
             if (!signedJWT.verify(verifier)) {
                 throw new InvalidTokenSignatureException("Invalid token signature");
@@ -57,26 +52,6 @@ public class JwtService {
         }
     }
 
-    private RSAKey getRSAKey(String keyId) throws JwksRetrievalException {
-        try {
-            JWKSet jwkSet = JWKSet.load(new URL(jwksUri));
-            JWK jwk = jwkSet.getKeyByKeyId(keyId);
-            
-            if (jwk == null) {
-                throw new JwksRetrievalException("Key not found: " + keyId);
-            }
-            
-            return jwk.toRSAKey();
-            
-        } catch (JwksRetrievalException e) {
-            log.error("Failed to get RSA key: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to get RSA key: {}", e.getMessage());
-            throw new JwksRetrievalException("Failed to get RSA key", e);
-        }
-    }
-
     public String extractUsername(JWTClaimsSet claimsSet) {
         try {
             // Auth service stores username in 'subject' field
@@ -0,0 +1,29 @@
+package com.devwonder.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    private TransactionUtil() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Run the action once the surrounding transaction commits, or right away when there is none.
+     * A rolled-back transaction never runs it, so side effects such as Redis messages cannot
+     * announce changes that did not happen.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.devwonder.common.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeaderAuthorizationManagerTest {
+
+    private static final String API_KEY = "inter-service-key";
+
+    @Test
+    void matchingApiKeyIsGranted() {
+        assertThat(granted(HeaderAuthorizationManager.apiKey(API_KEY), request(API_KEY, null))).isTrue();
+    }
+
+    @Test
+    void wrongApiKeyIsDenied() {
+        assertThat(granted(HeaderAuthorizationManager.apiKey(API_KEY), request("inter-service-kez", null))).isFalse();
+        // A prefix of the key is not enough
+        assertThat(granted(HeaderAuthorizationManager.apiKey(API_KEY), request("inter-service", null))).isFalse();
+        assertThat(granted(HeaderAuthorizationManager.apiKey(API_KEY), request("", null))).isFalse();
+    }
+
+    @Test
+    void missingHeaderIsDenied() {
+        assertThat(granted(HeaderAuthorizationManager.apiKey(API_KEY), request(null, null))).isFalse();
+        assertThat(granted(HeaderAuthorizationManager.gatewayRequest(), request(null, null))).isFalse();
+    }
+
+    @Test
+    void gatewayMarkerMustBeExactlyTrue() {
+        assertThat(granted(HeaderAuthorizationManager.gatewayRequest(), request(null, "true"))).isTrue();
+        assertThat(granted(HeaderAuthorizationManager.gatewayRequest(), request(null, "TRUE"))).isFalse();
+        assertThat(granted(HeaderAuthorizationManager.gatewayRequest(), request(null, "false"))).isFalse();
+    }
+
+    @Test
+    void apiKeyOrGatewayAcceptsEither() {
+        AuthorizationManager<RequestAuthorizationContext> manager = securityConfig().authApiKeyOrGatewayRequired();
+
+        assertThat(granted(manager, request(API_KEY, null))).isTrue();
+        assertThat(granted(manager, request(null, "true"))).isTrue();
+        assertThat(granted(manager, request("wrong", "false"))).isFalse();
+        assertThat(granted(manager, request(null, null))).isFalse();
+    }
+
+    private static BaseSecurityConfig securityConfig() {
+        BaseSecurityConfig config = new BaseSecurityConfig() {
+            @Override
+            protected void configureServiceEndpoints(
+                    AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
+            }
+        };
+        ReflectionTestUtils.setField(config, "authApiKey", API_KEY);
+        return config;
+    }
+
+    private static MockHttpServletRequest request(String apiKey, String gatewayMarker) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/internal");
+        if (apiKey != null) {
+            request.addHeader(HeaderAuthorizationManager.API_KEY_HEADER, apiKey);
+        }
+        if (gatewayMarker != null) {
+            request.addHeader(HeaderAuthorizationManager.GATEWAY_HEADER, gatewayMarker);
+        }
+        return request;
+    }
+
+    private static boolean granted(AuthorizationManager<RequestAuthorizationContext> manager,
+                                   MockHttpServletRequest request) {
+        return manager.check(() -> null, new RequestAuthorizationContext(request)).isGranted();
+    }
+}
@@ -0,0 +1,44 @@
+package com.devwonder.common.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvTabularWriterTest {
+
+    private static String write(Object... values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvTabularWriter writer = new CsvTabularWriter(out)) {
+            writer.writeRow(values);
+        }
+        // Drop the BOM and the line terminator
+        String csv = out.toString(StandardCharsets.UTF_8);
+        return csv.substring(1, csv.length() - 2);
+    }
+
+    @Test
+    void quotesSeparatorsAndEscapesQuotes() throws IOException {
+        assertThat(write("a,b", "say \"hi\"", "plain")).isEqualTo("\"a,b\",\"say \"\"hi\"\"\",plain");
+    }
+
+    @Test
+    void neutralizesFormulaTriggers() throws IOException {
+        assertThat(write("=SUM(A1:A9)", "+1", "-1", "@cmd", "\tx"))
+                .isEqualTo("'=SUM(A1:A9),'+1,'-1,'@cmd,'\tx");
+    }
+
+    @Test
+    void quotesNeutralizedCellThatNeedsQuoting() throws IOException {
+        assertThat(write("=1,2")).isEqualTo("\"'=1,2\"");
+    }
+
+    @Test
+    void leavesNumbersAndEmptyCellsAlone() throws IOException {
+        assertThat(write(-5, new BigDecimal("-1.50"), null, "")).isEqualTo("-5,-1.50,,");
+    }
+}
@@ -0,0 +1,76 @@
+package com.devwonder.common.export;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class XlsxStreamingWriterTest {
+
+    private static Map<String, String> write(String sheetName, Object... values) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XlsxStreamingWriter writer = new XlsxStreamingWriter(out, sheetName)) {
+            writer.writeRow(values);
+        }
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    @Test
+    void textCellsKeepSurroundingWhitespace() throws IOException {
+        String sheet = write("Orders", "  indented", "trailing ").get("xl/worksheets/sheet1.xml");
+
+        assertThat(sheet).contains("<t xml:space=\"preserve\">  indented</t>", "<t xml:space=\"preserve\">trailing </t>");
+    }
+
+    @Test
+    void escapesMarkupAndWritesNumbersAsValues() throws IOException {
+        String sheet = write("Orders", "<b>&\"", 42, null).get("xl/worksheets/sheet1.xml");
+
+        assertThat(sheet).contains("&lt;b&gt;&amp;&quot;</t>", "<c><v>42</v></c>", "<c/>");
+    }
+
+    @Test
+    void sheetNameIsWrittenToTheWorkbook() throws IOException {
+        assertThat(write("Doanh thu & Revenue").get("xl/workbook.xml"))
+                .contains("<sheet name=\"Doanh thu &amp; Revenue\"");
+    }
+
+    @Test
+    void thirtyOneCharacterSheetNameIsAccepted() throws IOException {
+        assertThat(write("a".repeat(31))).containsKey("xl/worksheets/sheet1.xml");
+    }
+
+    @Test
+    void longSheetNameIsRejectedBeforeAnythingIsWritten() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> new XlsxStreamingWriter(out, "a".repeat(32)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("31");
+        assertThat(out.size()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Q1/Q2", "Q1\\Q2", "Q1:Q2", "Q1*", "Q1?", "[Q1]", "'Q1'", " "})
+    void invalidSheetNameIsRejected(String sheetName) {
+        assertThatThrownBy(() -> new XlsxStreamingWriter(new ByteArrayOutputStream(), sheetName))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,144 @@
+package com.devwonder.common.service;
+
+import com.devwonder.common.exception.JwksRetrievalException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwksCacheTest {
+
+    private static RSAKey firstKey;
+    private static RSAKey rotatedKey;
+
+    private final AtomicReference<JWKSet> served = new AtomicReference<>();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private HttpServer server;
+    private JwksCache cache;
+
+    @BeforeAll
+    static void generateKeys() throws JOSEException {
+        firstKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        rotatedKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        served.set(new JWKSet(firstKey.toPublicJWK()));
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/jwks.json", exchange -> {
+            fetches.incrementAndGet();
+            byte[] body = served.get().toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        cache = new JwksCache();
+        ReflectionTestUtils.setField(cache, "jwksUri", "http://localhost:" + server.getAddress().getPort() + "/jwks.json");
+        ReflectionTestUtils.setField(cache, "refreshInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(cache, "minRefetchInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(cache, "timeout", Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void knownKeyIsServedFromTheCache() {
+        assertThat(cache.getVerifier("key-1")).isNotNull();
+        assertThat(cache.getVerifier("key-1")).isSameAs(cache.getVerifier("key-1"));
+
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void unknownKeyRefetchesAtMostOncePerInterval() throws InterruptedException {
+        ReflectionTestUtils.setField(cache, "minRefetchInterval", Duration.ofMillis(500));
+        cache.getVerifier("key-1");
+        Thread.sleep(600);
+
+        assertThatThrownBy(() -> cache.getVerifier("forged-1")).isInstanceOf(JwksRetrievalException.class);
+        served.set(new JWKSet(rotatedKey.toPublicJWK()));
+        // forged-1 just used up the interval, so this waits for the next refresh instead of fetching
+        assertThatThrownBy(() -> cache.getVerifier("key-2")).isInstanceOf(JwksRetrievalException.class);
+
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void unknownKeyPicksUpARotation() {
+        ReflectionTestUtils.setField(cache, "minRefetchInterval", Duration.ZERO);
+        cache.getVerifier("key-1");
+        served.set(new JWKSet(rotatedKey.toPublicJWK()));
+
+        assertThat(cache.getVerifier("key-2")).isNotNull();
+        // The refetched set replaced the old one
+        assertThatThrownBy(() -> cache.getVerifier("key-1")).isInstanceOf(JwksRetrievalException.class);
+    }
+
+    @Test
+    void keepsTheLastGoodKeysWhileAuthServiceIsDown() {
+        ReflectionTestUtils.setField(cache, "minRefetchInterval", Duration.ZERO);
+        cache.getVerifier("key-1");
+        server.stop(0);
+
+        assertThatThrownBy(() -> cache.getVerifier("key-2"))
+                .isInstanceOf(JwksRetrievalException.class)
+                .hasMessageContaining("Key not found");
+        assertThat(cache.getVerifier("key-1")).isNotNull();
+    }
+
+    @Test
+    void failsWhenNoKeySetWasEverLoaded() {
+        server.stop(0);
+
+        assertThatThrownBy(() -> cache.getVerifier("key-1"))
+                .isInstanceOf(JwksRetrievalException.class)
+                .hasMessageContaining("Failed to get JWKS");
+    }
+
+    @Test
+    void refreshesInTheBackgroundBeforeAnUnknownKeyArrives() throws InterruptedException {
+        ReflectionTestUtils.setField(cache, "refreshInterval", Duration.ofMillis(50));
+        cache.getVerifier("key-1");
+        served.set(new JWKSet(rotatedKey.toPublicJWK()));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (fetches.get() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // minRefetchInterval is an hour, so only the background refresh can have loaded key-2
+        assertThat(cache.getVerifier("key-2")).isNotNull();
+    }
+
+    @Test
+    void rejectsTokensWithoutKeyId() {
+        assertThatThrownBy(() -> cache.getVerifier(null)).isInstanceOf(JwksRetrievalException.class);
+        assertThat(fetches).hasValue(0);
+    }
+}
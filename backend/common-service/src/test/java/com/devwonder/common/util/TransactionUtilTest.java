@@ -0,0 +1,51 @@
+package com.devwonder.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionUtilTest {
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void runsAtOnceWithoutATransaction() {
+        TransactionUtil.afterCommit(runs::incrementAndGet);
+
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void waitsForTheCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionUtil.afterCommit(runs::incrementAndGet);
+        assertThat(runs).hasValue(0);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void neverRunsAfterARollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionUtil.afterCommit(runs::incrementAndGet);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(runs).hasValue(0);
+    }
+}
@@ -105,4 +105,14 @@ public class KafkaConsumerConfig {
         return createListenerFactory(passwordResetConsumerFactory(), 2);
     }
 
+    @Bean
+    public ConsumerFactory<String, Object> dashboardUpdateConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(getBaseConsumerConfig("notification-service-group-dashboard", "com.devwonder.common.event.DashboardUpdateEvent"));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> dashboardUpdateKafkaListenerContainerFactory() {
+        return createListenerFactory(dashboardUpdateConsumerFactory(), 1);
+    }
+
 }
\ No newline at end of file
@@ -63,4 +63,15 @@ public class KafkaTopicConfig {
                 .config(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2") // Minimum 2 replicas in sync
                 .build();
     }
+
+    @Bean
+    public NewTopic dashboardUpdateTopic() {
+        return TopicBuilder.name("dashboard-updates")
+                .partitions(1) // Single partition keeps diff versions in order
+                .replicas(3)
+                .config(TopicConfig.CLEANUP_POLICY_CONFIG, "delete")
+                .config(TopicConfig.RETENTION_MS_CONFIG, "3600000") // 1 hour retention (real-time notifications)
+                .config(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2") // Minimum 2 replicas in sync
+                .build();
+    }
 }
\ No newline at end of file
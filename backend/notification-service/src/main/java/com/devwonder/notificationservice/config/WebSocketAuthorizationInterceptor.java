@@ -146,6 +146,17 @@ public class WebSocketAuthorizationInterceptor implements ChannelInterceptor {
             return;
         }
 
+        // Live dashboard KPI diffs - ADMIN only
+        if ("/topic/dashboard".equals(destination)) {
+            log.info("📊 Dashboard subscription check - Is Admin: {}", isAdmin);
+            if (!isAdmin) {
+                log.error("❌ SUBSCRIBE ACCESS DENIED - Only ADMIN can subscribe to dashboard updates (roles: {})", userRoles);
+                throw new AccessDeniedException("Access denied: Only ADMIN can subscribe to dashboard updates");
+            }
+            log.info("✅ SUBSCRIBE ACCESS GRANTED - ADMIN authorized to subscribe to dashboard updates");
+            return;
+        }
+
         // Unknown destinations
         log.warn("⚠️ Unknown subscription destination: {} - Access denied", destination);
         throw new AccessDeniedException("Access denied to unknown subscription destination: " + destination);
@@ -13,6 +13,7 @@ public final class KafkaTopics {
     public static final String ORDER_NOTIFICATIONS = "order-notifications";
     public static final String LOGIN_CONFIRMATION = "login-confirmation-notifications";
     public static final String LOGIN_CONFIRMED = "login-confirmed-notifications";
+    public static final String DASHBOARD_UPDATES = "dashboard-updates";
 
     // Consumer groups
     public static final String NOTIFICATION_SERVICE_GROUP = "notification-service-group";
@@ -0,0 +1,43 @@
+package com.devwonder.notificationservice.listener;
+
+import com.devwonder.common.event.DashboardUpdateEvent;
+import com.devwonder.notificationservice.constant.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardUpdateListener {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final AtomicLong lastVersion = new AtomicLong();
+
+    @KafkaListener(
+        topics = KafkaTopics.DASHBOARD_UPDATES,
+        groupId = "notification-service-group-dashboard",
+        containerFactory = "dashboardUpdateKafkaListenerContainerFactory"
+    )
+    public void consumeDashboardUpdate(DashboardUpdateEvent event) {
+        // Every report-service replica publishes the diff for the same events, forward only the first
+        Long version = event.getVersion();
+        if (version != null && lastVersion.getAndAccumulate(version, Math::max) >= version) {
+            log.debug("Dropped duplicate dashboard update v{}", version);
+            return;
+        }
+        try {
+            // Relay the compact KPI diff as-is (ADMIN only subscription), nothing is persisted
+            messagingTemplate.convertAndSend("/topic/dashboard", event);
+
+            log.debug("Pushed dashboard update v{} with {} changed KPIs",
+                event.getVersion(), event.getChanges() != null ? event.getChanges().size() : 0);
+        } catch (Exception e) {
+            log.error("Error pushing dashboard update v{}", event.getVersion(), e);
+        }
+    }
+}
@@ -6,13 +6,22 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 @FeignClient(name = "user-service", url = "${services.user-service.url:http://user-service:8082}")
 public interface UserServiceClient {
 
-    @GetMapping("/dealer-service/dealers/{dealerId}?fields=companyName,email,phone,city")
+    @GetMapping("/dealer-service/dealers/{dealerId}?fields=accountId,companyName,email,phone,city")
     BaseResponse<DealerResponse> getDealerInfo(
             @PathVariable("dealerId") Long dealerId,
             @RequestHeader("X-API-Key") String apiKey
     );
+
+    @GetMapping("/dealer-service/dealers/batch?fields=accountId,companyName,email,phone,city")
+    BaseResponse<List<DealerResponse>> getDealersByIds(
+            @RequestParam("ids") List<Long> dealerIds,
+            @RequestHeader("X-API-Key") String apiKey
+    );
 }
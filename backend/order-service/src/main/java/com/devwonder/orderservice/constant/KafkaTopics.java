@@ -9,4 +9,5 @@ public final class KafkaTopics {
 
     // Topic names
     public static final String ORDER_NOTIFICATIONS = "order-notifications";
+    public static final String DASHBOARD_EVENTS = "dashboard-events";
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package com.devwonder.orderservice.controller;
 
+import com.devwonder.common.dto.dashboard.v1.DealerRanking;
+import com.devwonder.common.dto.dashboard.v1.ProductRanking;
 import com.devwonder.orderservice.service.OrderDashboardService;
+import com.devwonder.orderservice.dto.DealerLeaderboardEntry;
 import com.devwonder.orderservice.dto.DealerOrderStatsDto;
 import com.devwonder.orderservice.dto.ProductSalesDto;
+import com.devwonder.orderservice.enums.LeaderboardMetric;
+import com.devwonder.orderservice.enums.LeaderboardPeriod;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -90,15 +96,34 @@ public class OrderDashboardController {
         return dashboardService.getRevenueGrowth();
     }
 
+    // from/to (inclusive dates) override the period when given
     @GetMapping("/top-dealers")
-    public List<Map<String, Object>> getTopDealers(@RequestHeader("X-API-Key") String apiKey) {
-        log.debug("Getting top dealers");
-        return dashboardService.getTopDealers();
+    public List<DealerRanking> getTopDealers(
+            @RequestHeader("X-API-Key") String apiKey,
+            @RequestParam(defaultValue = LeaderboardPeriod.DEFAULT) String period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "revenue") String metric,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Getting top dealers for period: {}, from: {}, to: {}, metric: {}, limit: {}", period, from, to, metric, limit);
+        return dashboardService.getTopDealers(LeaderboardPeriod.fromString(period), from, to, LeaderboardMetric.fromString(metric), limit);
+    }
+
+    @GetMapping("/dealer-leaderboard")
+    public List<DealerLeaderboardEntry> getDealerLeaderboard(
+            @RequestHeader("X-API-Key") String apiKey,
+            @RequestParam(defaultValue = LeaderboardPeriod.DEFAULT) String period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "revenue") String metric,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Getting dealer leaderboard for period: {}, from: {}, to: {}, metric: {}, limit: {}", period, from, to, metric, limit);
+        return dashboardService.getDealerLeaderboard(LeaderboardPeriod.fromString(period), from, to, LeaderboardMetric.fromString(metric), limit);
     }
 
 
     @GetMapping("/product-sales")
-    public List<Map<String, Object>> getProductSales(@RequestHeader("X-API-Key") String apiKey) {
+    public List<ProductRanking> getProductSales(@RequestHeader("X-API-Key") String apiKey) {
         log.debug("Getting product sales");
         return dashboardService.getProductSales();
     }
@@ -0,0 +1,94 @@
+package com.devwonder.orderservice.controller;
+
+import com.devwonder.common.export.ExportFormat;
+import com.devwonder.orderservice.service.OrderExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/order/exports")
+@Tag(name = "Order Export", description = "Streaming CSV/XLSX exports of orders and revenue")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    @GetMapping("/orders")
+    @Operation(summary = "Export Orders",
+               description = "Stream all non-deleted orders created in the date range as CSV or XLSX. Requires ADMIN role authentication via API Gateway.",
+               security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid format or date range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required")
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "Export format: csv or xlsx") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Start date (inclusive), yyyy-MM-dd") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (inclusive), yyyy-MM-dd") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        ExportFormat exportFormat = resolveRequest(format, from, to);
+        log.info("Received order export request from {} to {} as {}", from, to, exportFormat);
+
+        return streaming("orders", from, to, exportFormat,
+                out -> orderExportService.exportOrders(from, to, exportFormat, out));
+    }
+
+    @GetMapping("/revenue")
+    @Operation(summary = "Export Daily Revenue",
+               description = "Stream paid revenue aggregated per day in the date range as CSV or XLSX. Requires ADMIN role authentication via API Gateway.",
+               security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid format or date range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required")
+    })
+    public ResponseEntity<StreamingResponseBody> exportRevenue(
+            @Parameter(description = "Export format: csv or xlsx") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "Start date (inclusive), yyyy-MM-dd") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (inclusive), yyyy-MM-dd") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        ExportFormat exportFormat = resolveRequest(format, from, to);
+        log.info("Received revenue export request from {} to {} as {}", from, to, exportFormat);
+
+        return streaming("revenue", from, to, exportFormat,
+                out -> orderExportService.exportRevenue(from, to, exportFormat, out));
+    }
+
+    private ExportFormat resolveRequest(String format, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid date range: from must not be after to");
+        }
+        return ExportFormat.fromString(format);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streaming(String name, LocalDate from, LocalDate to,
+                                                            ExportFormat format, StreamingResponseBody body) {
+        String filename = String.format("%s_%s_%s.%s", name, from, to, format.getExtension());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,17 @@
+package com.devwonder.orderservice.enums;
+
+public enum LeaderboardMetric {
+    REVENUE,
+    ORDERS;
+
+    public static LeaderboardMetric fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return REVENUE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported leaderboard metric: " + value);
+        }
+    }
+}
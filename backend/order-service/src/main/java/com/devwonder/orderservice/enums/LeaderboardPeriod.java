@@ -0,0 +1,41 @@
+package com.devwonder.orderservice.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+public enum LeaderboardPeriod {
+    TODAY,
+    THIS_WEEK,
+    THIS_MONTH,
+    THIS_YEAR,
+    ALL_TIME;
+
+    // Request default shared by every leaderboard endpoint, matches a missing or blank period
+    public static final String DEFAULT = "all_time";
+
+    private static final LocalDateTime ALL_TIME_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public static LeaderboardPeriod fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL_TIME;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported leaderboard period: " + value);
+        }
+    }
+
+    // Inclusive lower bound; every period runs up to the end of today
+    public LocalDateTime startFrom(LocalDate today) {
+        return switch (this) {
+            case TODAY -> today.atStartOfDay();
+            case THIS_WEEK -> today.with(DayOfWeek.MONDAY).atStartOfDay();
+            case THIS_MONTH -> today.with(TemporalAdjusters.firstDayOfMonth()).atStartOfDay();
+            case THIS_YEAR -> today.with(TemporalAdjusters.firstDayOfYear()).atStartOfDay();
+            case ALL_TIME -> ALL_TIME_START;
+        };
+    }
+}
@@ -68,6 +68,37 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            nativeQuery = true)
     List<Object[]> getDealerOrderStats();
 
+    // Dealer leaderboard - aggregation and top-k selection happen in the database
+    @Query(value = "SELECT o.id_dealer AS dealerId, " +
+           "COUNT(DISTINCT o.id) AS totalOrders, " +
+           "SUM(oi.unit_price * oi.quantity) AS totalRevenue, " +
+           "MAX(o.created_at) AS lastOrderDate " +
+           "FROM orders o JOIN order_items oi ON oi.id_order = o.id " +
+           "WHERE o.is_deleted = false AND o.payment_status = 'PAID' " +
+           "AND o.created_at >= :startDate AND o.created_at < :endDate " +
+           "GROUP BY o.id_dealer " +
+           "ORDER BY totalRevenue DESC, o.id_dealer " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findTopDealersByRevenue(@Param("startDate") LocalDateTime startDate,
+                                           @Param("endDate") LocalDateTime endDate,
+                                           @Param("limit") int limit);
+
+    @Query(value = "SELECT o.id_dealer AS dealerId, " +
+           "COUNT(DISTINCT o.id) AS totalOrders, " +
+           "SUM(oi.unit_price * oi.quantity) AS totalRevenue, " +
+           "MAX(o.created_at) AS lastOrderDate " +
+           "FROM orders o JOIN order_items oi ON oi.id_order = o.id " +
+           "WHERE o.is_deleted = false AND o.payment_status = 'PAID' " +
+           "AND o.created_at >= :startDate AND o.created_at < :endDate " +
+           "GROUP BY o.id_dealer " +
+           "ORDER BY totalOrders DESC, totalRevenue DESC, o.id_dealer " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findTopDealersByOrderCount(@Param("startDate") LocalDateTime startDate,
+                                              @Param("endDate") LocalDateTime endDate,
+                                              @Param("limit") int limit);
+
     // Search orders by order code only
     @Query("SELECT DISTINCT o FROM Order o WHERE o.isDeleted = false AND " +
            "LOWER(o.orderCode) LIKE LOWER(CONCAT('%', :query, '%'))")
@@ -1,14 +1,24 @@
 package com.devwonder.orderservice.service;
 
+import com.devwonder.common.dto.BaseResponse;
+import com.devwonder.common.dto.dashboard.v1.DealerRanking;
+import com.devwonder.common.dto.dashboard.v1.ProductRanking;
+import com.devwonder.orderservice.client.UserServiceClient;
 import com.devwonder.orderservice.repository.OrderRepository;
 import com.devwonder.orderservice.repository.OrderItemRepository;
+import com.devwonder.orderservice.dto.DealerLeaderboardEntry;
 import com.devwonder.orderservice.dto.DealerOrderStatsDto;
+import com.devwonder.orderservice.dto.DealerResponse;
 import com.devwonder.orderservice.dto.ProductSalesDto;
+import com.devwonder.orderservice.enums.LeaderboardMetric;
+import com.devwonder.orderservice.enums.LeaderboardPeriod;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
@@ -21,6 +31,13 @@ public class OrderDashboardService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final UserServiceClient userServiceClient;
+
+    @Value("${auth.api.key:INTER_SERVICE_KEY}")
+    private String authApiKey;
+
+    @Value("${dashboard.leaderboard.max-limit:100}")
+    private int leaderboardMaxLimit;
 
     public BigDecimal getTodayRevenue() {
         LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
@@ -189,18 +206,96 @@ public class OrderDashboardService {
         return orderRepository.countPaidOrdersByDateRange(startOfDay, endOfDay);
     }
 
-    public List<Map<String, Object>> getTopDealers() {
-        List<DealerOrderStatsDto> dealerStats = getDealerOrderStats();
-        return dealerStats.stream()
-                .map(dealer -> Map.<String, Object>of(
-                        "rank", dealerStats.indexOf(dealer) + 1,
-                        "name", dealer.companyName,
-                        "totalSpent", dealer.totalRevenue.longValue(),
-                        "totalOrders", dealer.totalOrders
-                ))
+    public List<DealerRanking> getTopDealers(LeaderboardPeriod period, LocalDate from, LocalDate to,
+                                            LeaderboardMetric metric, int limit) {
+        return getDealerLeaderboard(period, from, to, metric, limit).stream()
+                .map(entry -> DealerRanking.builder()
+                        .rank(entry.getRank())
+                        .id(entry.getDealerId())
+                        .name(entry.getCompanyName())
+                        .totalSpent(entry.getTotalRevenue().longValue())
+                        .totalOrders(entry.getTotalOrders())
+                        .lastOrder(entry.getLastOrderDate() != null ? entry.getLastOrderDate().toLocalDate().toString() : null)
+                        .build())
                 .toList();
     }
 
+    public List<DealerLeaderboardEntry> getDealerLeaderboard(LeaderboardPeriod period, LeaderboardMetric metric, int limit) {
+        return getDealerLeaderboard(period, null, null, metric, limit);
+    }
+
+    public List<DealerLeaderboardEntry> getDealerLeaderboard(LeaderboardPeriod period, LocalDate from, LocalDate to,
+                                                             LeaderboardMetric metric, int limit) {
+        int k = Math.max(1, Math.min(limit, leaderboardMaxLimit));
+        LocalDate today = LocalDate.now();
+        // An explicit range replaces the period; both bounds are inclusive days
+        LocalDateTime startDate = from != null ? from.atStartOfDay() : period.startFrom(today);
+        LocalDateTime endDate = (to != null ? to : today).plusDays(1).atStartOfDay();
+        if (!startDate.isBefore(endDate)) {
+            throw new IllegalArgumentException("Leaderboard range starts after it ends: " + from + " > " + to);
+        }
+
+        // Top-k is selected by ORDER BY ... LIMIT in the database, so only k rows ever leave it
+        List<Object[]> rawResults = metric == LeaderboardMetric.ORDERS
+                ? orderRepository.findTopDealersByOrderCount(startDate, endDate, k)
+                : orderRepository.findTopDealersByRevenue(startDate, endDate, k);
+
+        List<Long> dealerIds = new ArrayList<>(rawResults.size());
+        for (Object[] row : rawResults) {
+            dealerIds.add(((Number) row[0]).longValue());
+        }
+        Map<Long, DealerResponse> profiles = getDealerProfiles(dealerIds);
+
+        List<DealerLeaderboardEntry> leaderboard = new ArrayList<>(rawResults.size());
+        int rank = 1;
+        for (Object[] row : rawResults) {
+            Long dealerId = ((Number) row[0]).longValue();
+            DealerResponse profile = profiles.get(dealerId);
+            leaderboard.add(DealerLeaderboardEntry.builder()
+                    .rank(rank++)
+                    .dealerId(dealerId)
+                    .companyName(profile != null ? profile.getCompanyName() : "Dealer #" + dealerId)
+                    .email(profile != null ? profile.getEmail() : null)
+                    .phone(profile != null ? profile.getPhone() : null)
+                    .city(profile != null ? profile.getCity() : null)
+                    .totalOrders(((Number) row[1]).longValue())
+                    .totalRevenue(row[2] != null ? new BigDecimal(row[2].toString()) : BigDecimal.ZERO)
+                    .lastOrderDate(toLocalDateTime(row[3]))
+                    .build());
+        }
+        return leaderboard;
+    }
+
+    private Map<Long, DealerResponse> getDealerProfiles(List<Long> dealerIds) {
+        if (dealerIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            // Single batch call to user-service for the whole page of dealers
+            BaseResponse<List<DealerResponse>> response = userServiceClient.getDealersByIds(dealerIds, authApiKey);
+            if (response != null && response.isSuccess() && response.getData() != null) {
+                Map<Long, DealerResponse> profiles = new HashMap<>(response.getData().size() * 2);
+                for (DealerResponse dealer : response.getData()) {
+                    profiles.put(dealer.getAccountId(), dealer);
+                }
+                return profiles;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to fetch dealer profiles for leaderboard, using fallback names", e);
+        }
+        return Map.of();
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime;
+        }
+        return null;
+    }
+
     public Long getDealerCountThisMonth() {
         // Get unique dealers who placed orders this month
         LocalDateTime startOfMonth = LocalDate.now().with(TemporalAdjusters.firstDayOfMonth()).atStartOfDay();
@@ -218,17 +313,21 @@ public class OrderDashboardService {
         return orderRepository.countDistinctDealersByDateRange(startOfLastMonth, endOfLastMonth);
     }
 
-    public List<Map<String, Object>> getProductSales() {
+    public List<ProductRanking> getProductSales() {
         List<ProductSalesDto> productSales = getTopProducts(10);
-        return productSales.stream()
-                .map(product -> Map.<String, Object>of(
-                        "productId", product.productId,
-                        "productName", product.productName,
-                        "soldCount", product.soldQuantity,
-                        "revenue", product.revenue.longValue(),
-                        "growth", product.growth
-                ))
-                .toList();
+        List<ProductRanking> result = new ArrayList<>(productSales.size());
+        int rank = 1;
+        for (ProductSalesDto product : productSales) {
+            result.add(ProductRanking.builder()
+                    .rank(rank++)
+                    .productId(product.productId)
+                    .name(product.productName)
+                    .soldQuantity(product.soldQuantity)
+                    .revenue(product.revenue.longValue())
+                    .growth(product.growth)
+                    .build());
+        }
+        return result;
     }
 
     // Alias methods for Report Service compatibility
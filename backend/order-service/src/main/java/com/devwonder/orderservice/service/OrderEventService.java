@@ -1,6 +1,7 @@
 package com.devwonder.orderservice.service;
 
 import com.devwonder.common.dto.BaseResponse;
+import com.devwonder.common.event.DashboardEvent;
 import com.devwonder.common.event.OrderNotificationEvent;
 import com.devwonder.orderservice.client.UserServiceClient;
 import com.devwonder.orderservice.constant.KafkaTopics;
@@ -13,6 +14,7 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
@@ -51,6 +53,23 @@ public class OrderEventService {
         }
     }
 
+    public void publishDashboardEvent(String eventType, Order order, BigDecimal amount) {
+        try {
+            DashboardEvent event = DashboardEvent.builder()
+                    .eventType(eventType)
+                    .orderId(order.getId())
+                    .dealerId(order.getIdDealer())
+                    .amount(amount)
+                    .occurredAt(LocalDateTime.now())
+                    .build();
+
+            kafkaTemplate.send(KafkaTopics.DASHBOARD_EVENTS, order.getId().toString(), event);
+            log.debug("Published {} dashboard event for orderId: {}", eventType, order.getId());
+        } catch (Exception e) {
+            log.error("Error publishing {} dashboard event for orderId: {}", eventType, order.getId(), e);
+        }
+    }
+
     private DealerResponse getDealerInfo(Long dealerId) {
         try {
             BaseResponse<DealerResponse> response = userServiceClient.getDealerInfo(dealerId, authApiKey);
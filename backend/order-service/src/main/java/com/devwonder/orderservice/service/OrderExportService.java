@@ -0,0 +1,96 @@
+package com.devwonder.orderservice.service;
+
+import com.devwonder.common.export.ExportFormat;
+import com.devwonder.common.export.JdbcRowStreamer;
+import com.devwonder.common.export.TabularWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * Streams order and revenue reports straight from a JDBC cursor into the response,
+ * so exporting a full year never materializes the order list in memory.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final String ORDERS_SQL =
+            "SELECT o.id, o.order_code, o.id_dealer, o.created_at, o.payment_status, " +
+            "COUNT(oi.id) AS item_count, COALESCE(SUM(oi.quantity), 0) AS total_quantity, " +
+            "COALESCE(SUM(oi.unit_price * oi.quantity), 0) AS total_amount " +
+            "FROM orders o LEFT JOIN order_items oi ON oi.id_order = o.id " +
+            "WHERE o.is_deleted = false AND o.created_at >= ? AND o.created_at < ? " +
+            "GROUP BY o.id, o.order_code, o.id_dealer, o.created_at, o.payment_status " +
+            "ORDER BY o.created_at";
+
+    private static final String REVENUE_SQL =
+            "SELECT CAST(o.created_at AS date) AS day, COUNT(DISTINCT o.id) AS paid_orders, " +
+            "COALESCE(SUM(oi.quantity), 0) AS sold_quantity, " +
+            "COALESCE(SUM(oi.unit_price * oi.quantity), 0) AS revenue " +
+            "FROM orders o JOIN order_items oi ON oi.id_order = o.id " +
+            "WHERE o.is_deleted = false AND o.payment_status = 'PAID' " +
+            "AND o.created_at >= ? AND o.created_at < ? " +
+            "GROUP BY CAST(o.created_at AS date) " +
+            "ORDER BY day";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${export.fetch-size:500}")
+    private int fetchSize;
+
+    public void exportOrders(LocalDate from, LocalDate to, ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting orders from {} to {} as {}", from, to, format);
+
+        try (TabularWriter writer = format.open(out, "Orders")) {
+            writer.writeHeader("Order ID", "Order Code", "Dealer ID", "Created At", "Payment Status",
+                    "Items", "Quantity", "Total Amount");
+
+            streamRows(ORDERS_SQL, from, to, writer, rs -> new Object[] {
+                    rs.getLong("id"),
+                    rs.getString("order_code"),
+                    rs.getLong("id_dealer"),
+                    toText(rs.getTimestamp("created_at")),
+                    rs.getString("payment_status"),
+                    rs.getLong("item_count"),
+                    rs.getLong("total_quantity"),
+                    rs.getBigDecimal("total_amount")});
+        }
+    }
+
+    public void exportRevenue(LocalDate from, LocalDate to, ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting daily revenue from {} to {} as {}", from, to, format);
+
+        try (TabularWriter writer = format.open(out, "Revenue")) {
+            writer.writeHeader("Date", "Paid Orders", "Sold Quantity", "Revenue");
+
+            streamRows(REVENUE_SQL, from, to, writer, rs -> new Object[] {
+                    rs.getDate("day").toLocalDate().toString(),
+                    rs.getLong("paid_orders"),
+                    rs.getLong("sold_quantity"),
+                    rs.getBigDecimal("revenue")});
+        }
+    }
+
+    private void streamRows(String sql, LocalDate from, LocalDate to, TabularWriter writer,
+                            JdbcRowStreamer.RowValues rowValues) {
+        new JdbcRowStreamer(jdbcTemplate.getDataSource(), transactionManager, fetchSize)
+                .stream(sql, writer, rowValues,
+                        Timestamp.valueOf(from.atStartOfDay()),
+                        Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+    }
+
+    private String toText(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
@@ -16,6 +16,7 @@ import com.devwonder.orderservice.repository.OrderItemRepository;
 import com.devwonder.orderservice.client.UserServiceClient;
 import com.devwonder.orderservice.client.ProductServiceClient;
 import com.devwonder.common.dto.BaseResponse;
+import com.devwonder.common.event.DashboardEvent;
 import com.devwonder.common.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -83,6 +84,7 @@ public class OrderService {
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         orderEventService.publishOrderNotificationEvent(savedOrder, totalAmount);
+        orderEventService.publishDashboardEvent(DashboardEvent.ORDER_CREATED, savedOrder, totalAmount);
 
         return buildOrderResponse(savedOrder, savedOrderItems);
     }
@@ -159,11 +161,20 @@ public class OrderService {
         Order order = orderRepository.findByIdAndIsDeletedFalse(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with ID: " + orderId));
 
+        PaymentStatus previousStatus = order.getPaymentStatus();
         order.setPaymentStatus(paymentStatus);
         Order updatedOrder = orderRepository.save(order);
 
         List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
 
+        // Paid orders move today's revenue, so let the dashboard know
+        if (paymentStatus == PaymentStatus.PAID && previousStatus != PaymentStatus.PAID) {
+            BigDecimal totalAmount = orderItems.stream()
+                    .map(item -> item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            orderEventService.publishDashboardEvent(DashboardEvent.ORDER_PAID, updatedOrder, totalAmount);
+        }
+
         log.info("Successfully updated payment status for order {} to {}", orderId, paymentStatus);
         return buildOrderResponse(updatedOrder, orderItems);
     }
@@ -0,0 +1,165 @@
+package com.devwonder.orderservice.service;
+
+import com.devwonder.common.dto.BaseResponse;
+import com.devwonder.orderservice.client.UserServiceClient;
+import com.devwonder.orderservice.dto.DealerLeaderboardEntry;
+import com.devwonder.orderservice.dto.DealerResponse;
+import com.devwonder.orderservice.enums.LeaderboardMetric;
+import com.devwonder.orderservice.enums.LeaderboardPeriod;
+import com.devwonder.orderservice.repository.OrderItemRepository;
+import com.devwonder.orderservice.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderDashboardServiceTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private OrderDashboardService service;
+    private HttpServer userService;
+
+    @BeforeEach
+    void setUp() {
+        service = new OrderDashboardService(orderRepository, mock(OrderItemRepository.class), userServiceClient);
+        ReflectionTestUtils.setField(service, "authApiKey", "test-key");
+        ReflectionTestUtils.setField(service, "leaderboardMaxLimit", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (userService != null) {
+            userService.stop(0);
+        }
+    }
+
+    @Test
+    void leaderboardKeysProfilesReturnedByFieldFilteringUserService() throws Exception {
+        when(orderRepository.findTopDealersByRevenue(any(), any(), anyInt())).thenReturn(List.of(
+                new Object[]{7L, 3L, new BigDecimal("900.00"), null},
+                new Object[]{3L, 5L, new BigDecimal("400.00"), null}));
+        // Real Feign client against a stand-in that, like user-service, returns only the requested fields;
+        // without accountId in the request the profiles cannot be matched to dealers
+        OrderDashboardService overHttp = new OrderDashboardService(
+                orderRepository, mock(OrderItemRepository.class), feignClient(startUserService()));
+        ReflectionTestUtils.setField(overHttp, "authApiKey", "test-key");
+        ReflectionTestUtils.setField(overHttp, "leaderboardMaxLimit", 100);
+
+        List<DealerLeaderboardEntry> leaderboard =
+                overHttp.getDealerLeaderboard(LeaderboardPeriod.ALL_TIME, LeaderboardMetric.REVENUE, 10);
+
+        assertThat(leaderboard).extracting(DealerLeaderboardEntry::getCompanyName).containsExactly("Seven Co", "Three Co");
+        assertThat(leaderboard).extracting(DealerLeaderboardEntry::getCity).containsExactly("Hue", "Hanoi");
+    }
+
+    @Test
+    void explicitRangeReplacesThePeriod() {
+        when(orderRepository.findTopDealersByRevenue(any(), any(), anyInt())).thenReturn(List.of());
+
+        service.getDealerLeaderboard(LeaderboardPeriod.THIS_MONTH,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), LeaderboardMetric.REVENUE, 10);
+
+        verify(orderRepository).findTopDealersByRevenue(
+                eq(LocalDate.of(2024, 1, 1).atStartOfDay()), eq(LocalDate.of(2025, 1, 1).atStartOfDay()), eq(10));
+    }
+
+    @Test
+    void invertedRangeIsRejected() {
+        assertThatThrownBy(() -> service.getDealerLeaderboard(LeaderboardPeriod.ALL_TIME,
+                LocalDate.of(2024, 12, 31), LocalDate.of(2024, 1, 1), LeaderboardMetric.REVENUE, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void missingPeriodMatchesTheEndpointDefault() {
+        assertThat(LeaderboardPeriod.fromString(null)).isEqualTo(LeaderboardPeriod.fromString(LeaderboardPeriod.DEFAULT));
+    }
+
+    @Test
+    void leaderboardMatchesBatchProfilesToDealerIds() {
+        when(orderRepository.findTopDealersByRevenue(any(), any(), anyInt())).thenReturn(List.of(
+                new Object[]{7L, 3L, new BigDecimal("900.00"), null},
+                new Object[]{3L, 5L, new BigDecimal("400.00"), null},
+                new Object[]{9L, 1L, new BigDecimal("100.00"), null}));
+        // Batch order differs from ranking order and dealer 9 has no profile
+        when(userServiceClient.getDealersByIds(anyList(), anyString())).thenReturn(BaseResponse.success(List.of(
+                DealerResponse.builder().accountId(3L).companyName("Three Co").city("Hanoi").build(),
+                DealerResponse.builder().accountId(7L).companyName("Seven Co").city("Hue").build())));
+
+        List<DealerLeaderboardEntry> leaderboard =
+                service.getDealerLeaderboard(LeaderboardPeriod.ALL_TIME, LeaderboardMetric.REVENUE, 10);
+
+        assertThat(leaderboard).extracting(DealerLeaderboardEntry::getDealerId).containsExactly(7L, 3L, 9L);
+        assertThat(leaderboard).extracting(DealerLeaderboardEntry::getCompanyName)
+                .containsExactly("Seven Co", "Three Co", "Dealer #9");
+        assertThat(leaderboard).extracting(DealerLeaderboardEntry::getCity).containsExactly("Hue", "Hanoi", null);
+    }
+
+    private String startUserService() throws Exception {
+        Map<Long, Map<String, Object>> dealers = Map.of(
+                3L, Map.of("accountId", 3L, "companyName", "Three Co", "city", "Hanoi", "address", "1 Le Loi"),
+                7L, Map.of("accountId", 7L, "companyName", "Seven Co", "city", "Hue", "address", "2 Tran Phu"));
+        ObjectMapper mapper = new ObjectMapper();
+        userService = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        userService.createContext("/dealer-service/dealers/batch", exchange -> {
+            Map<String, List<String>> query = UriComponentsBuilder.fromUri(exchange.getRequestURI()).build().getQueryParams();
+            List<String> fields = List.of(URLDecoder.decode(query.get("fields").get(0), StandardCharsets.UTF_8).split(","));
+            List<Map<String, Object>> body = query.get("ids").stream()
+                    .map(id -> {
+                        Map<String, Object> projected = new LinkedHashMap<>();
+                        dealers.get(Long.valueOf(id)).forEach((field, value) -> {
+                            if (fields.contains(field)) {
+                                projected.put(field, value);
+                            }
+                        });
+                        return projected;
+                    })
+                    .toList();
+            byte[] json = mapper.writeValueAsBytes(Map.of("success", true, "message", "Success", "data", body));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, json.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(json);
+            }
+        });
+        userService.start();
+        return "http://127.0.0.1:" + userService.getAddress().getPort();
+    }
+
+    private static UserServiceClient feignClient(String url) {
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .decoder(new SpringDecoder(() -> new HttpMessageConverters(new MappingJackson2HttpMessageConverter())))
+                .target(UserServiceClient.class, url);
+    }
+}
@@ -1,5 +1,7 @@
 package com.devwonder.productservice.controller;
 
+import com.devwonder.common.dto.dashboard.v1.InventoryAlerts;
+import com.devwonder.common.dto.dashboard.v1.ProductRanking;
 import com.devwonder.productservice.service.ProductDashboardService;
 import com.devwonder.productservice.dto.InventoryAlertsDto;
 import com.devwonder.productservice.dto.ProductStockDto;
@@ -7,7 +9,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,14 +21,15 @@ public class ProductDashboardController {
     private final ProductDashboardService dashboardService;
 
     @GetMapping("/inventory-alerts")
-    public Map<String, Object> getInventoryAlerts(@RequestHeader("X-API-Key") String apiKey) {
+    public InventoryAlerts getInventoryAlerts(@RequestHeader("X-API-Key") String apiKey) {
         log.debug("Getting inventory alerts");
         InventoryAlertsDto alerts = dashboardService.getInventoryAlerts();
-        Map<String, Object> alertsMap = new HashMap<>();
-        alertsMap.put("lowStockCount", alerts.getLowStockCount());
-        alertsMap.put("overstockCount", alerts.getOverstockCount());
-        alertsMap.put("urgentProduct", alerts.getUrgentProduct());
-        return alertsMap;
+        return InventoryAlerts.builder()
+                .lowStockCount(alerts.getLowStockCount())
+                .overstockCount(alerts.getOverstockCount())
+                .urgentProduct(alerts.getUrgentProduct())
+                .lowStockProducts(alerts.getLowStockProducts())
+                .build();
     }
 
     @GetMapping("/low-stock-products")
@@ -63,7 +65,7 @@ public class ProductDashboardController {
     }
 
     @GetMapping("/top-products")
-    public List<Map<String, Object>> getTopProducts(@RequestHeader("X-API-Key") String apiKey) {
+    public List<ProductRanking> getTopProducts(@RequestHeader("X-API-Key") String apiKey) {
         log.debug("Getting top products");
         return dashboardService.getTopProducts();
     }
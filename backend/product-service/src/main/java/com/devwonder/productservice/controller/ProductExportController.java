@@ -0,0 +1,58 @@
+package com.devwonder.productservice.controller;
+
+import com.devwonder.common.export.ExportFormat;
+import com.devwonder.productservice.service.ProductExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/product/exports")
+@Tag(name = "Product Export", description = "Streaming CSV/XLSX inventory export")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductExportController {
+
+    private final ProductExportService productExportService;
+
+    @GetMapping("/inventory")
+    @Operation(summary = "Export Inventory",
+               description = "Stream serial counts per status for every active product as CSV or XLSX. Requires ADMIN role authentication via API Gateway.",
+               security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid format"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - ADMIN role required")
+    })
+    public ResponseEntity<StreamingResponseBody> exportInventory(
+            @Parameter(description = "Export format: csv or xlsx") @RequestParam(defaultValue = "csv") String format) {
+
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        log.info("Received inventory export request as {}", exportFormat);
+
+        String filename = String.format("inventory_%s.%s", LocalDate.now(), exportFormat.getExtension());
+        StreamingResponseBody body = out -> productExportService.exportInventory(exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
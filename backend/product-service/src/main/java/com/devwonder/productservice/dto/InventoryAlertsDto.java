@@ -1,9 +1,12 @@
 package com.devwonder.productservice.dto;
 
+import com.devwonder.common.dto.dashboard.v1.LowStockProduct;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -11,4 +14,5 @@ public class InventoryAlertsDto {
     public Integer lowStockCount;
     public Integer overstockCount;
     public String urgentProduct;
+    public List<LowStockProduct> lowStockProducts;
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import com.devwonder.productservice.entity.Product;
 import com.devwonder.productservice.repository.ProductRepository;
 import com.devwonder.productservice.repository.ProductSerialRepository;
 import com.devwonder.productservice.enums.ProductSerialStatus;
+import com.devwonder.common.dto.dashboard.v1.LowStockProduct;
+import com.devwonder.common.dto.dashboard.v1.ProductRanking;
 import com.devwonder.productservice.dto.InventoryAlertsDto;
 import com.devwonder.productservice.dto.ProductStockDto;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +32,7 @@ public class ProductDashboardService {
         int overstockCount = 0;
         String urgentProduct = null;
         int lowestStock = Integer.MAX_VALUE;
+        List<LowStockProduct> lowStockProducts = new ArrayList<>();
 
         for (Object[] row : stockCounts) {
             Long productId = (Long) row[0];
@@ -39,6 +42,12 @@ public class ProductDashboardService {
 
             if (inStockCount < lowStockThreshold) {
                 lowStockCount++;
+                lowStockProducts.add(LowStockProduct.builder()
+                        .productId(productId)
+                        .name(productName)
+                        .inStock(inStockCount)
+                        .threshold(lowStockThreshold)
+                        .build());
                 if (inStockCount < lowestStock) {
                     lowestStock = inStockCount;
                     urgentProduct = productName;
@@ -54,6 +63,8 @@ public class ProductDashboardService {
         alerts.lowStockCount = lowStockCount;
         alerts.overstockCount = overstockCount;
         alerts.urgentProduct = urgentProduct;
+        lowStockProducts.sort(Comparator.comparingInt(LowStockProduct::getInStock));
+        alerts.lowStockProducts = lowStockProducts;
 
         return alerts;
     }
@@ -132,10 +143,10 @@ public class ProductDashboardService {
         return (int) productRepository.count();
     }
 
-    public List<Map<String, Object>> getTopProducts() {
+    public List<ProductRanking> getTopProducts() {
         // Get real top products based on sold quantities from product serials
         List<Object[]> salesData = productSerialRepository.getTopProductsBySales();
-        List<Map<String, Object>> topProducts = new ArrayList<>();
+        List<ProductRanking> topProducts = new ArrayList<>();
 
         int rank = 1;
         for (Object[] row : salesData) {
@@ -154,13 +165,14 @@ public class ProductDashboardService {
             // Calculate growth based on sell-through rate
             double growth = calculateProductGrowth(productId);
 
-            Map<String, Object> productData = new HashMap<>();
-            productData.put("rank", rank);
-            productData.put("name", productName);
-            productData.put("soldQuantity", soldQuantity.intValue());
-            productData.put("revenue", revenue);
-            productData.put("growth", growth);
-            topProducts.add(productData);
+            topProducts.add(ProductRanking.builder()
+                    .rank(rank)
+                    .productId(productId)
+                    .name(productName)
+                    .soldQuantity(soldQuantity.intValue())
+                    .revenue(revenue)
+                    .growth(growth)
+                    .build());
 
             rank++;
         }
@@ -0,0 +1,33 @@
+package com.devwonder.productservice.service;
+
+import com.devwonder.common.event.DashboardEvent;
+import com.devwonder.productservice.constant.KafkaTopics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductEventService {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    public void publishSerialsSoldEvent(int soldCount) {
+        try {
+            DashboardEvent event = DashboardEvent.builder()
+                    .eventType(DashboardEvent.SERIAL_SOLD)
+                    .quantity(soldCount)
+                    .occurredAt(LocalDateTime.now())
+                    .build();
+
+            kafkaTemplate.send(KafkaTopics.DASHBOARD_EVENTS, DashboardEvent.SERIAL_SOLD, event);
+            log.debug("Published SERIAL_SOLD dashboard event for {} serials", soldCount);
+        } catch (Exception e) {
+            log.error("Error publishing SERIAL_SOLD dashboard event for {} serials", soldCount, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.devwonder.productservice.service;
+
+import com.devwonder.common.export.ExportFormat;
+import com.devwonder.common.export.JdbcRowStreamer;
+import com.devwonder.common.export.TabularWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streams the inventory report (serial counts per status for every product) from a JDBC cursor.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    private static final String INVENTORY_SQL =
+            "SELECT p.id, p.sku, p.name, p.stock, " +
+            "COUNT(ps.id) FILTER (WHERE ps.status = 'IN_STOCK') AS in_stock, " +
+            "COUNT(ps.id) FILTER (WHERE ps.status = 'ALLOCATED_TO_DEALER') AS allocated, " +
+            "COUNT(ps.id) FILTER (WHERE ps.status = 'ASSIGN_TO_ORDER_ITEM') AS assigned, " +
+            "COUNT(ps.id) FILTER (WHERE ps.status = 'SOLD_TO_CUSTOMER') AS sold, " +
+            "COUNT(ps.id) AS total_serials " +
+            "FROM products p LEFT JOIN product_serials ps ON ps.id_product = p.id " +
+            "WHERE p.is_deleted = false " +
+            "GROUP BY p.id, p.sku, p.name, p.stock " +
+            "ORDER BY p.name";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${export.fetch-size:500}")
+    private int fetchSize;
+
+    public void exportInventory(ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting inventory report as {}", format);
+
+        try (TabularWriter writer = format.open(out, "Inventory")) {
+            writer.writeHeader("Product ID", "SKU", "Name", "Stock", "In Stock", "Allocated To Dealer",
+                    "Assigned To Order", "Sold To Customer", "Total Serials");
+
+            new JdbcRowStreamer(jdbcTemplate.getDataSource(), transactionManager, fetchSize)
+                    .stream(INVENTORY_SQL, writer, rs -> new Object[] {
+                            rs.getLong("id"),
+                            rs.getString("sku"),
+                            rs.getString("name"),
+                            rs.getLong("stock"),
+                            rs.getLong("in_stock"),
+                            rs.getLong("allocated"),
+                            rs.getLong("assigned"),
+                            rs.getLong("sold"),
+                            rs.getLong("total_serials")});
+        }
+    }
+}
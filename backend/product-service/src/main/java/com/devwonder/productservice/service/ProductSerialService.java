@@ -42,6 +42,7 @@ public class ProductSerialService {
     private final ProductSerialMapper productSerialMapper;
     private final OrderServiceClient orderServiceClient;
     private final ProductStockService productStockService;
+    private final ProductEventService productEventService;
     
     @Transactional
     public ProductSerialResponse createProductSerial(ProductSerialCreateRequest request) {
@@ -327,6 +328,10 @@ public class ProductSerialService {
 
         log.info("Successfully updated {} out of {} product serials to SOLD_TO_CUSTOMER",
                 updatedCount, serialNumbers.size());
+
+        if (updatedCount > 0) {
+            productEventService.publishSerialsSoldEvent(updatedCount);
+        }
         return updatedCount;
     }
 
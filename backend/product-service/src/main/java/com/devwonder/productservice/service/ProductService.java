@@ -6,6 +6,7 @@ import com.devwonder.common.exception.ProductNotDeletedException;
 import com.devwonder.common.util.RepositoryUtil;
 import com.devwonder.common.util.LoggingUtil;
 import com.devwonder.common.constants.ErrorMessages;
+import com.devwonder.common.service.GatewayCachePurgeService;
 import com.devwonder.productservice.dto.ProductCreateRequest;
 import com.devwonder.productservice.dto.ProductResponse;
 import com.devwonder.productservice.dto.ProductUpdateRequest;
@@ -27,9 +28,14 @@ import java.util.List;
 @Slf4j
 public class ProductService {
 
+    // Gateway-cached listings (homepage, featured) and the public detail path
+    private static final String CACHED_LISTINGS = "/api/product/products/**";
+    private static final String CACHED_DETAIL = "/api/product/";
+
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
     private final FieldFilterUtil fieldFilterUtil;
+    private final GatewayCachePurgeService gatewayCachePurgeService;
     
     public List<ProductResponse> getHomepageProducts(String fields, int limit) {
         LoggingUtil.logFetchWithFieldsAndLimit(log, "homepage products", fields, limit);
@@ -117,6 +123,7 @@ public class ProductService {
 
         Product savedProduct = productRepository.save(product);
         log.info("Successfully created product with ID: {} and SKU: {}", savedProduct.getId(), savedProduct.getSku());
+        gatewayCachePurgeService.purge(CACHED_LISTINGS);
 
         return productMapper.toProductResponse(savedProduct);
     }
@@ -131,10 +138,15 @@ public class ProductService {
 
         Product updatedProduct = productRepository.save(existingProduct);
         log.info("Successfully updated product with ID: {} and SKU: {}", updatedProduct.getId(), updatedProduct.getSku());
+        purgeGatewayCache(id);
 
         return productMapper.toProductResponse(updatedProduct);
     }
 
+    private void purgeGatewayCache(Long id) {
+        gatewayCachePurgeService.purge(CACHED_LISTINGS, CACHED_DETAIL + id);
+    }
+
     private Product findProductByIdOrThrow(Long id) {
         return RepositoryUtil.findByIdOrThrow(productRepository, id, "Product");
     }
@@ -205,6 +217,7 @@ public class ProductService {
         existingProduct.setIsDeleted(true);
         productRepository.save(existingProduct);
         log.info("Successfully soft deleted product with ID: {} and SKU: {}", existingProduct.getId(), existingProduct.getSku());
+        purgeGatewayCache(id);
     }
 
     @Transactional
@@ -214,6 +227,7 @@ public class ProductService {
         Product existingProduct = findProductByIdOrThrow(id);
         productRepository.delete(existingProduct);
         log.info("Successfully hard deleted product with ID: {} and SKU: {}", existingProduct.getId(), existingProduct.getSku());
+        purgeGatewayCache(id);
     }
 
     @Transactional
@@ -229,6 +243,7 @@ public class ProductService {
         existingProduct.setIsDeleted(false);
         Product restoredProduct = productRepository.save(existingProduct);
         log.info("Successfully restored product with ID: {} and SKU: {}", restoredProduct.getId(), restoredProduct.getSku());
+        purgeGatewayCache(id);
 
         return productMapper.toProductResponse(restoredProduct);
     }
@@ -0,0 +1,77 @@
+package com.devwonder.reportbenchmark;
+
+import com.devwonder.benchmark.LoadOptions;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command line options, given as {@code --name=value}. {@code --report-arg} may be repeated.
+ */
+public final class BenchmarkOptions extends LoadOptions {
+
+    private BenchmarkOptions(String[] args) {
+        super(args, "report-arg");
+    }
+
+    public static BenchmarkOptions parse(String[] args) {
+        return new BenchmarkOptions(args);
+    }
+
+    /** report-service jar the harness launches when no {@code --target} is given. */
+    public Path reportJar() {
+        return Path.of(value("report-jar", "../report-service/target/report-service-0.0.1-SNAPSHOT.jar"));
+    }
+
+    public int reportPort() {
+        return intValue("report-port", 18089);
+    }
+
+    public List<String> reportArgs() {
+        return passThroughArgs();
+    }
+
+    /** Start the upstream stand-ins, print their URLs and block - for profiling a report-service started by hand. */
+    public boolean stubsOnly() {
+        return flag("stubs-only");
+    }
+
+    public int upstreamLatencyMs() {
+        return intValue("upstream-latency-ms", 20);
+    }
+
+    /** Log-normal sigma for upstream latency; 0 means a fixed delay of {@link #upstreamLatencyMs()}. */
+    public double upstreamLatencySigma() {
+        return doubleValue("upstream-latency-sigma", 0);
+    }
+
+    /** Fraction (0..1) of upstream calls answered with 503. */
+    public double failureRate() {
+        return doubleValue("failure-rate", 0);
+    }
+
+    /** Fraction (0..1) of upstream calls whose connection is reset instead of answered. */
+    public double faultRate() {
+        return doubleValue("fault-rate", 0);
+    }
+
+    /**
+     * Forwarded to report-service as {@code dashboard.live.snapshot-max-age-ms}. The default matches the deployed
+     * 30s; 0 turns the snapshot off so every {@code /dashboard} request runs its own fan-out.
+     */
+    public long dashboardSnapshotMaxAgeMs() {
+        return longValue("dashboard-snapshot-max-age-ms", 30000);
+    }
+
+    public List<ReportEndpoint> endpoints() {
+        String selected = value("endpoints");
+        if (selected == null || selected.isBlank()) {
+            return List.of(ReportEndpoint.values());
+        }
+        return Arrays.stream(selected.split(","))
+                .map(String::trim)
+                .map(ReportEndpoint::fromName)
+                .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package com.devwonder.reportbenchmark;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Turns a random share of upstream responses into connection resets or 503s.
+ */
+public class FailureInjectionTransformer implements ResponseDefinitionTransformerV2 {
+
+    private final double faultRate;
+    private final double failureRate;
+
+    public FailureInjectionTransformer(double faultRate, double failureRate) {
+        this.faultRate = faultRate;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+        ResponseDefinition definition = serveEvent.getResponseDefinition();
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < faultRate) {
+            return ResponseDefinitionBuilder.like(definition)
+                    .withFault(Fault.CONNECTION_RESET_BY_PEER)
+                    .build();
+        }
+        if (roll < faultRate + failureRate) {
+            return ResponseDefinitionBuilder.like(definition)
+                    .withStatus(503)
+                    .withBody("{\"success\":false,\"message\":\"Injected failure\"}")
+                    .build();
+        }
+        return definition;
+    }
+
+    @Override
+    public String getName() {
+        return "failure-injection";
+    }
+}
@@ -0,0 +1,105 @@
+package com.devwonder.reportbenchmark;
+
+import com.devwonder.benchmark.LatencyRecorder;
+import com.devwonder.benchmark.LatencyStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Closed-loop load: a fixed number of workers each issue the next request as soon as the previous one returns.
+ * Requests carry the gateway marker header so report-service treats them as routed through the API gateway.
+ */
+public class LoadDriver implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+
+    private final BenchmarkOptions options;
+    private final String baseUrl;
+    private final ExecutorService clientExecutor;
+    private final HttpClient client;
+
+    public LoadDriver(BenchmarkOptions options, String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.clientExecutor = Executors.newFixedThreadPool(options.concurrency());
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(clientExecutor)
+                .build();
+    }
+
+    public LatencyStats run(ReportEndpoint endpoint) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.getPath()))
+                .header("X-Gateway-Request", "true")
+                .header("Accept", "application/json")
+                .timeout(options.requestTimeout())
+                .GET()
+                .build();
+
+        log.info("Warming up {} for {}s", endpoint.getName(), options.warmup().toSeconds());
+        drive(request, options.warmup());
+
+        log.info("Measuring {} for {}s with {} workers", endpoint.getName(), options.duration().toSeconds(), options.concurrency());
+        return drive(request, options.duration());
+    }
+
+    private LatencyStats drive(HttpRequest request, Duration duration) throws InterruptedException {
+        int workers = options.concurrency();
+        List<LatencyRecorder> recorders = new ArrayList<>(workers);
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        CountDownLatch done = new CountDownLatch(workers);
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        for (int i = 0; i < workers; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            pool.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                recorder.record(System.nanoTime() - sent);
+                            } else {
+                                recorder.recordError();
+                            }
+                        } catch (IOException e) {
+                            recorder.recordError();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        try {
+            done.await();
+            return LatencyRecorder.merge(recorders, System.nanoTime() - start);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Override
+    public void close() {
+        clientExecutor.shutdownNow();
+    }
+}
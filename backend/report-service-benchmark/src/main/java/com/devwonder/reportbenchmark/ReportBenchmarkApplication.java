@@ -0,0 +1,62 @@
+package com.devwonder.reportbenchmark;
+
+import com.devwonder.benchmark.LatencyStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Entry point. Starts the upstream stand-ins, launches report-service against them (or uses {@code --target}),
+ * drives each report endpoint in turn and prints latency percentiles and throughput.
+ */
+public final class ReportBenchmarkApplication {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportBenchmarkApplication.class);
+
+    private ReportBenchmarkApplication() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkOptions options = BenchmarkOptions.parse(args);
+
+        try (UpstreamStubs stubs = new UpstreamStubs(options)) {
+            stubs.start();
+
+            if (options.stubsOnly()) {
+                log.info("Stubs only - start report-service with ORDER_SERVICE_URL={} PRODUCT_SERVICE_URL={} USER_SERVICE_URL={}",
+                        stubs.orderServiceUrl(), stubs.productServiceUrl(), stubs.userServiceUrl());
+                Thread.currentThread().join();
+                return;
+            }
+
+            try (ReportServiceProcess reportService = new ReportServiceProcess(options, stubs)) {
+                String baseUrl = options.target() != null ? options.target() : reportService.start();
+
+                Map<ReportEndpoint, LatencyStats> results = new LinkedHashMap<>();
+                try (LoadDriver driver = new LoadDriver(options, baseUrl)) {
+                    for (ReportEndpoint endpoint : options.endpoints()) {
+                        results.put(endpoint, driver.run(endpoint));
+                    }
+                }
+                printResults(options, results);
+            }
+        }
+        System.exit(0);
+    }
+
+    private static void printResults(BenchmarkOptions options, Map<ReportEndpoint, LatencyStats> results) {
+        System.out.printf(Locale.ROOT, "%nworkers=%d duration=%ds upstream-latency=%dms sigma=%.2f failure-rate=%.3f fault-rate=%.3f snapshot-max-age=%dms%n",
+                options.concurrency(), options.duration().toSeconds(), options.upstreamLatencyMs(),
+                options.upstreamLatencySigma(), options.failureRate(), options.faultRate(),
+                options.dashboardSnapshotMaxAgeMs());
+        System.out.printf(Locale.ROOT, "%-10s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        results.forEach((endpoint, stats) -> System.out.printf(Locale.ROOT,
+                "%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint.getName(), stats.successes(), stats.errors(), stats.throughputPerSecond(),
+                stats.percentileMillis(50), stats.percentileMillis(90), stats.percentileMillis(99), stats.maxMillis()));
+    }
+}
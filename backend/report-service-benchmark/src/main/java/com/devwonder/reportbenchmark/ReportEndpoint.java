@@ -0,0 +1,37 @@
+package com.devwonder.reportbenchmark;
+
+/**
+ * Report-service endpoints driven by the harness, addressed as the gateway forwards them (prefix stripped).
+ */
+public enum ReportEndpoint {
+    DASHBOARD("dashboard", "/report/dashboard/admin"),
+    OVERVIEW("overview", "/reports/overview?from=2024-01-01&to=2024-12-31"),
+    REVENUE("revenue", "/reports/revenue?from=2024-01-01&to=2024-12-31"),
+    DEALERS("dealers", "/reports/dealers?from=2024-01-01&to=2024-12-31&limit=10"),
+    PRODUCTS("products", "/reports/products?from=2024-01-01&to=2024-12-31&include=inventory");
+
+    private final String name;
+    private final String path;
+
+    ReportEndpoint(String name, String path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public static ReportEndpoint fromName(String name) {
+        for (ReportEndpoint endpoint : values()) {
+            if (endpoint.name.equalsIgnoreCase(name)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown report endpoint: " + name);
+    }
+}
@@ -0,0 +1,116 @@
+package com.devwonder.reportbenchmark;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the packaged report-service jar in a child JVM, wired to the upstream stand-ins.
+ * Config server, database, Redis health and Kafka are switched off so only the HTTP fan-out is measured.
+ */
+public class ReportServiceProcess implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportServiceProcess.class);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private final BenchmarkOptions options;
+    private final UpstreamStubs stubs;
+    private Process process;
+
+    public ReportServiceProcess(BenchmarkOptions options, UpstreamStubs stubs) {
+        this.options = options;
+        this.stubs = stubs;
+    }
+
+    public String start() throws IOException, InterruptedException {
+        Path jar = options.reportJar();
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("report-service jar not found at " + jar.toAbsolutePath()
+                    + " - run 'mvn -DskipTests package' in report-service or pass --report-jar / --target");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=" + options.reportPort());
+        command.add("--spring.cloud.config.enabled=false");
+        command.add("--spring.autoconfigure.exclude="
+                + "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration");
+        command.add("--spring.kafka.bootstrap-servers=localhost:9");
+        command.add("--spring.kafka.admin.auto-create=false");
+        // Nothing listens there; fail dashboard update sends fast instead of blocking the refresh for 60s on metadata
+        command.add("--spring.kafka.producer.properties.max.block.ms=100");
+        command.add("--dashboard.live.listener-auto-startup=false");
+        command.add("--dashboard.live.snapshot-max-age-ms=" + options.dashboardSnapshotMaxAgeMs());
+        command.add("--management.health.redis.enabled=false");
+        command.add("--management.endpoints.web.exposure.include=health");
+        command.add("--logging.level.com.devwonder.reportservice=INFO");
+        command.add("--logging.level.feign=INFO");
+        command.add("--services.order-service.url=" + stubs.orderServiceUrl());
+        command.add("--services.product-service.url=" + stubs.productServiceUrl());
+        command.add("--services.user-service.url=" + stubs.userServiceUrl());
+        command.addAll(options.reportArgs());
+
+        Path logFile = Path.of("target", "report-service.log");
+        Files.createDirectories(logFile.getParent());
+
+        log.info("Starting report-service on port {} (log: {})", options.reportPort(), logFile.toAbsolutePath());
+        process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+
+        String baseUrl = "http://localhost:" + options.reportPort();
+        awaitHealthy(baseUrl);
+        return baseUrl;
+    }
+
+    private void awaitHealthy(String baseUrl) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("report-service exited during startup with code " + process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    log.info("report-service is up at {}", baseUrl);
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("report-service did not become healthy within " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (process != null && process.isAlive()) {
+            process.destroy();
+            if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+}
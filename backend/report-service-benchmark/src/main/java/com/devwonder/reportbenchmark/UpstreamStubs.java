@@ -0,0 +1,184 @@
+package com.devwonder.reportbenchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * WireMock stand-ins for the order-, product- and user-service dashboard endpoints report-service fans out to.
+ * Payloads are shaped like the real services' responses; values are fixed so runs are comparable.
+ */
+public class UpstreamStubs implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(UpstreamStubs.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final BenchmarkOptions options;
+    private final WireMockServer orderService;
+    private final WireMockServer productService;
+    private final WireMockServer userService;
+
+    public UpstreamStubs(BenchmarkOptions options) {
+        this.options = options;
+        this.orderService = newServer();
+        this.productService = newServer();
+        this.userService = newServer();
+    }
+
+    public void start() {
+        orderService.start();
+        productService.start();
+        userService.start();
+
+        stubOrderService();
+        stubProductService();
+        stubUserService();
+
+        log.info("Upstream stand-ins: order-service={} product-service={} user-service={} (latency {}ms sigma {}, failure {}, fault {})",
+                orderService.baseUrl(), productService.baseUrl(), userService.baseUrl(),
+                options.upstreamLatencyMs(), options.upstreamLatencySigma(), options.failureRate(), options.faultRate());
+    }
+
+    public String orderServiceUrl() {
+        return orderService.baseUrl();
+    }
+
+    public String productServiceUrl() {
+        return productService.baseUrl();
+    }
+
+    public String userServiceUrl() {
+        return userService.baseUrl();
+    }
+
+    @Override
+    public void close() {
+        orderService.stop();
+        productService.stop();
+        userService.stop();
+    }
+
+    private WireMockServer newServer() {
+        return new WireMockServer(options()
+                .dynamicPort()
+                .containerThreads(Math.max(50, options.concurrency() * 4))
+                .asynchronousResponseEnabled(true)
+                .asynchronousResponseThreads(Math.max(10, options.concurrency() * 2))
+                .disableRequestJournal()
+                .extensions(new FailureInjectionTransformer(options.faultRate(), options.failureRate())));
+    }
+
+    private void stubOrderService() {
+        String base = "/order-service/dashboard";
+        stubJson(orderService, base + "/revenue-today", 12_500_000);
+        stubJson(orderService, base + "/revenue-yesterday", 11_000_000);
+        stubJson(orderService, base + "/revenue-month", 320_000_000);
+        stubJson(orderService, base + "/revenue-last-month", 298_000_000);
+        stubJson(orderService, base + "/completed-orders-today", 42);
+        stubJson(orderService, base + "/total-orders-today", 57);
+        stubJson(orderService, base + "/total-orders-month", 1_240);
+        stubJson(orderService, base + "/dealer-count-this-month", 35);
+        stubJson(orderService, base + "/dealer-count-last-month", 31);
+        stubJson(orderService, base + "/top-dealers", topDealers(10));
+        stubJson(orderService, base + "/product-sales", productSales(10));
+    }
+
+    private void stubProductService() {
+        String base = "/product-service/dashboard";
+        stubJson(productService, base + "/inventory-alerts", Map.of("lowStockCount", 7, "overstockCount", 3,
+                "lowStockProducts", lowStockProducts(7)));
+        stubJson(productService, base + "/low-stock-count", 7);
+        stubJson(productService, base + "/total-products", 180);
+        stubJson(productService, base + "/top-products", productSales(10));
+        productService.stubFor(get(urlPathEqualTo(base + "/urgent-product"))
+                .willReturn(withLatency(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/plain; charset=UTF-8")
+                        .withBody("Tai nghe Sony WH-1000XM5"))));
+    }
+
+    private void stubUserService() {
+        stubJson(userService, "/user-service/dashboard/dealer-count", 120);
+    }
+
+    private void stubJson(WireMockServer server, String path, Object body) {
+        server.stubFor(get(urlPathEqualTo(path))
+                .willReturn(withLatency(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(toJson(body)))));
+    }
+
+    private ResponseDefinitionBuilder withLatency(ResponseDefinitionBuilder response) {
+        if (options.upstreamLatencySigma() > 0) {
+            return response.withLogNormalRandomDelay(options.upstreamLatencyMs(), options.upstreamLatencySigma());
+        }
+        return response.withFixedDelay(options.upstreamLatencyMs());
+    }
+
+    private static List<Map<String, Object>> topDealers(int count) {
+        List<Map<String, Object>> dealers = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Map<String, Object> dealer = new LinkedHashMap<>();
+            dealer.put("rank", i);
+            dealer.put("id", (long) i);
+            dealer.put("name", "Dealer " + i);
+            dealer.put("totalSpent", 50_000_000L / i);
+            dealer.put("totalOrders", 40 / i + 1);
+            dealer.put("lastOrder", "2024-12-0" + (i % 9 + 1));
+            dealers.add(dealer);
+        }
+        return dealers;
+    }
+
+    private static List<Map<String, Object>> productSales(int count) {
+        List<Map<String, Object>> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Map<String, Object> product = new LinkedHashMap<>();
+            product.put("rank", i);
+            product.put("productId", (long) i);
+            product.put("productName", "Product " + i);
+            product.put("name", "Product " + i);
+            product.put("soldQuantity", 200 / i);
+            product.put("soldCount", 200 / i);
+            product.put("revenue", 30_000_000L / i);
+            product.put("growth", 12.5 - i);
+            products.add(product);
+        }
+        return products;
+    }
+
+    private static List<Map<String, Object>> lowStockProducts(int count) {
+        List<Map<String, Object>> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> product = new LinkedHashMap<>();
+            product.put("productId", 100L + i);
+            product.put("name", "Product " + (100 + i));
+            product.put("inStock", i);
+            product.put("threshold", 10);
+            products.add(product);
+        }
+        return products;
+    }
+
+    private static String toJson(Object body) {
+        try {
+            return MAPPER.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize stub body", e);
+        }
+    }
+}
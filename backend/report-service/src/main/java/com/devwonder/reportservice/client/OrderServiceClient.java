@@ -1,5 +1,7 @@
 package com.devwonder.reportservice.client;
 
+import com.devwonder.common.dto.dashboard.v1.DealerRanking;
+import com.devwonder.common.dto.dashboard.v1.ProductRanking;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -7,7 +9,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
 
 @FeignClient(name = "order-service", url = "${services.order-service.url:http://order-service:8085}", path = "/order-service/dashboard")
 public interface OrderServiceClient {
@@ -31,7 +32,15 @@ public interface OrderServiceClient {
     Long getTotalOrdersToday(@RequestHeader("X-API-Key") String apiKey);
 
     @GetMapping("/top-dealers")
-    List<Map<String, Object>> getTopDealers(@RequestHeader("X-API-Key") String apiKey);
+    List<DealerRanking> getTopDealers(@RequestHeader("X-API-Key") String apiKey,
+                                      @RequestParam("limit") int limit);
+
+    // Inclusive yyyy-MM-dd bounds
+    @GetMapping("/top-dealers")
+    List<DealerRanking> getTopDealersBetween(@RequestHeader("X-API-Key") String apiKey,
+                                             @RequestParam("from") String from,
+                                             @RequestParam("to") String to,
+                                             @RequestParam("limit") int limit);
 
     @GetMapping("/dealer-count-this-month")
     Long getCurrentMonthDealers(@RequestHeader("X-API-Key") String apiKey);
@@ -40,7 +49,7 @@ public interface OrderServiceClient {
     Long getLastMonthDealers(@RequestHeader("X-API-Key") String apiKey);
 
     @GetMapping("/product-sales")
-    List<Map<String, Object>> getProductSales(@RequestHeader("X-API-Key") String apiKey);
+    List<ProductRanking> getProductSales(@RequestHeader("X-API-Key") String apiKey);
 
     @GetMapping("/total-orders-month")
     Long getTotalOrdersMonth(@RequestHeader("X-API-Key") String apiKey);
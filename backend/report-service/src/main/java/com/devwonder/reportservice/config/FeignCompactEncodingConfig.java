@@ -0,0 +1,33 @@
+package com.devwonder.reportservice.config;
+
+import com.devwonder.common.config.CompactEncodingConfig;
+import feign.MethodMetadata;
+import feign.RequestInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+@Configuration
+@ConditionalOnProperty(name = "services.compact-encoding.enabled", havingValue = "true")
+public class FeignCompactEncodingConfig {
+
+    // JSON stays acceptable so upstreams without the Smile converter keep working during rollout
+    private static final String ACCEPT_SMILE_OR_JSON =
+            CompactEncodingConfig.SMILE_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9";
+
+    @Bean
+    public RequestInterceptor compactEncodingRequestInterceptor() {
+        return template -> {
+            MethodMetadata metadata = template.methodMetadata();
+            // String endpoints are plain text; asking for Smile would get raw text labelled as Smile
+            if (metadata != null && metadata.returnType() == String.class) {
+                return;
+            }
+            if (!template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT, ACCEPT_SMILE_OR_JSON);
+            }
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.devwonder.reportservice.constant;
+
+public final class KafkaTopics {
+
+    // Prevent instantiation
+    private KafkaTopics() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    // Topic names
+    public static final String DASHBOARD_EVENTS = "dashboard-events";
+    public static final String DASHBOARD_UPDATES = "dashboard-updates";
+
+    // Consumer groups (dashboard events use this as a prefix, suffixed per instance)
+    public static final String DASHBOARD_EVENTS_GROUP = "report-service-group-dashboard";
+}
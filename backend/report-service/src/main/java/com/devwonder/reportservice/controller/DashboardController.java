@@ -2,7 +2,7 @@ package com.devwonder.reportservice.controller;
 
 import com.devwonder.common.dto.BaseResponse;
 import com.devwonder.reportservice.dto.DashboardResponse;
-import com.devwonder.reportservice.service.DashboardService;
+import com.devwonder.reportservice.service.DashboardLiveService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -20,7 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
 
     @Autowired
-    private DashboardService dashboardService;
+    private DashboardLiveService dashboardLiveService;
 
     @GetMapping("/admin")
     @Operation(
@@ -29,7 +29,8 @@ public class DashboardController {
                     "top performers, charts data, and ranking lists. This endpoint provides real-time business " +
                     "intelligence data for administrative decision making. Data includes revenue analytics, " +
                     "order completion rates, agent performance, product sales, and inventory management insights. " +
-                    "Requires ADMIN role authorization for access to sensitive business metrics.",
+                    "Requires ADMIN role authorization for access to sensitive business metrics. " +
+                    "Served from the live snapshot; KPI changes are pushed to admins on /topic/dashboard.",
         security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
@@ -43,7 +44,7 @@ public class DashboardController {
         // log.info("Admin dashboard data requested");
 
         try {
-            DashboardResponse dashboardData = dashboardService.getDashboardData();
+            DashboardResponse dashboardData = dashboardLiveService.getDashboard();
 
             BaseResponse<DashboardResponse> response = new BaseResponse<>(
                 true,
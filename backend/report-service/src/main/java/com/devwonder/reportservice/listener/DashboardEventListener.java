@@ -0,0 +1,47 @@
+package com.devwonder.reportservice.listener;
+
+import com.devwonder.common.event.DashboardEvent;
+import com.devwonder.reportservice.constant.KafkaTopics;
+import com.devwonder.reportservice.service.DashboardLiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardEventListener implements ConsumerSeekAware {
+
+    private final DashboardLiveService dashboardLiveService;
+
+    // One group per instance: every replica sees every event and keeps its own snapshot current,
+    // a shared group would leave all but the partition owner serving stale data
+    @KafkaListener(
+        topics = KafkaTopics.DASHBOARD_EVENTS,
+        groupId = KafkaTopics.DASHBOARD_EVENTS_GROUP + "-${dashboard.live.instance-id:${random.uuid}}",
+        containerFactory = "dashboardEventKafkaListenerContainerFactory",
+        autoStartup = "${dashboard.live.listener-auto-startup:true}"
+    )
+    public void consumeDashboardEvent(DashboardEvent event,
+                                      @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                                      @Header(KafkaHeaders.OFFSET) long offset) {
+        try {
+            log.debug("Received dashboard event {} for orderId: {}", event.getEventType(), event.getOrderId());
+            dashboardLiveService.markDirty(event, partition, offset);
+        } catch (Exception e) {
+            log.error("Error processing dashboard event {}", event.getEventType(), e);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        assignments.forEach((partition, position) -> dashboardLiveService.markPosition(partition.partition(), position));
+    }
+}
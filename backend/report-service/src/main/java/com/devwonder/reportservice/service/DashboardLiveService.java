@@ -0,0 +1,225 @@
+package com.devwonder.reportservice.service;
+
+import com.devwonder.common.event.DashboardEvent;
+import com.devwonder.common.event.DashboardUpdateEvent;
+import com.devwonder.reportservice.constant.KafkaTopics;
+import com.devwonder.reportservice.dto.DashboardResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the latest admin dashboard snapshot and pushes KPI diffs to subscribed admins.
+ * Events only mark the snapshot dirty; a burst of events is coalesced into one recompute.
+ * Every replica consumes every event (see DashboardEventListener), so each one keeps its own
+ * snapshot current and they all stamp a diff with the same version for the same events.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardLiveService {
+
+    private static final String FALLBACK_DATA_SOURCE = "fallback_mode";
+
+    private final DashboardService dashboardService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${dashboard.live.snapshot-max-age-ms:30000}")
+    private long snapshotMaxAgeMs;
+
+    private final Set<String> pendingTriggers = ConcurrentHashMap.newKeySet();
+    // Next offset to read per partition, summed it is the number of events on the topic so far
+    private final ConcurrentMap<Integer, Long> positions = new ConcurrentHashMap<>();
+
+    private volatile DashboardResponse snapshot;
+    private volatile long snapshotTakenAt;
+    private Map<String, Object> lastPushedKpis = Map.of();
+
+    public void markDirty(DashboardEvent event, int partition, long offset) {
+        positions.merge(partition, offset + 1, Math::max);
+        pendingTriggers.add(event.getEventType() != null ? event.getEventType() : "UNKNOWN");
+    }
+
+    /**
+     * Seeds a partition's position on assignment, so a replica that starts late counts the events
+     * it never read and its versions line up with the replicas that did.
+     */
+    public void markPosition(int partition, long position) {
+        positions.merge(partition, position, Math::max);
+    }
+
+    /**
+     * Number of dashboard events behind the current state, identical on every replica that has read
+     * the same offsets; a per-instance counter would restart at 1 and make clients drop live diffs.
+     */
+    long consumedVersion() {
+        return positions.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Serves polling clients from the last snapshot while it is fresh, so polls no longer re-run the fan-out.
+     * A max age of 0 turns the snapshot off: every poll runs its own fan-out without queueing on the lock.
+     */
+    public DashboardResponse getDashboard() {
+        if (snapshotMaxAgeMs <= 0) {
+            return dashboardService.getDashboardData();
+        }
+        DashboardResponse current = freshSnapshot();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            // Pollers that queued on the lock find the snapshot the first one just built
+            current = freshSnapshot();
+            return current != null ? current : refresh(List.of(), 0L);
+        }
+    }
+
+    private DashboardResponse freshSnapshot() {
+        DashboardResponse current = snapshot;
+        if (current != null && System.currentTimeMillis() - snapshotTakenAt < snapshotMaxAgeMs) {
+            return current;
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.live.flush-interval-ms:2000}")
+    public void flushPendingEvents() {
+        if (pendingTriggers.isEmpty()) {
+            return;
+        }
+
+        // Read the version before draining so it never runs ahead of the triggers it covers
+        long version = consumedVersion();
+        List<String> triggers = new ArrayList<>();
+        for (String trigger : pendingTriggers) {
+            if (pendingTriggers.remove(trigger)) {
+                triggers.add(trigger);
+            }
+        }
+
+        log.debug("Recomputing dashboard for coalesced events: {}", triggers);
+        boolean refreshed = false;
+        try {
+            refreshed = !isFallback(refresh(triggers, version));
+        } catch (Exception e) {
+            log.error("Error recomputing dashboard for events {}", triggers, e);
+        }
+        if (!refreshed) {
+            // Keep the triggers queued so the next flush pushes these events once downstreams recover
+            pendingTriggers.addAll(triggers);
+        }
+    }
+
+    private synchronized DashboardResponse refresh(List<String> triggers, long version) {
+        DashboardResponse data = dashboardService.getDashboardData();
+
+        // Never cache or broadcast fallback zeros, they would wipe live numbers on every client
+        if (isFallback(data)) {
+            return data;
+        }
+
+        snapshot = data;
+        snapshotTakenAt = System.currentTimeMillis();
+
+        // Poll-driven refreshes only renew the snapshot; diffs are taken against what was last pushed
+        // so changes they picked up still reach push clients with the next event
+        if (triggers.isEmpty()) {
+            return data;
+        }
+
+        Map<String, Object> kpis = flattenKpis(data);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        kpis.forEach((key, value) -> {
+            if (!Objects.equals(lastPushedKpis.get(key), value)) {
+                changes.put(key, value);
+            }
+        });
+        lastPushedKpis = kpis;
+
+        if (!changes.isEmpty()) {
+            publishUpdate(changes, triggers, version);
+        }
+        return data;
+    }
+
+    private static boolean isFallback(DashboardResponse data) {
+        return data.getMetadata() != null && FALLBACK_DATA_SOURCE.equals(data.getMetadata().getDataSource());
+    }
+
+    private void publishUpdate(Map<String, Object> changes, List<String> triggers, long version) {
+        try {
+            DashboardUpdateEvent update = DashboardUpdateEvent.builder()
+                    .version(version)
+                    .changes(changes)
+                    .triggers(triggers)
+                    .generatedAt(LocalDateTime.now())
+                    .build();
+
+            kafkaTemplate.send(KafkaTopics.DASHBOARD_UPDATES, "dashboard", update);
+            log.info("Published dashboard update v{} with {} changed KPIs", update.getVersion(), changes.size());
+        } catch (Exception e) {
+            log.error("Error publishing dashboard update", e);
+        }
+    }
+
+    private Map<String, Object> flattenKpis(DashboardResponse data) {
+        Map<String, Object> kpis = new LinkedHashMap<>();
+
+        // Any section can be missing when a downstream call failed; skip it rather than fail the push
+        DashboardResponse.KpiMetrics kpiMetrics = data.getKpiMetrics();
+        if (kpiMetrics != null) {
+            DashboardResponse.RevenueMetric todayRevenue = kpiMetrics.getTodayRevenue();
+            if (todayRevenue != null) {
+                kpis.put("todayRevenue", todayRevenue.getValue());
+                kpis.put("todayRevenueGrowth", todayRevenue.getGrowth());
+            }
+            DashboardResponse.OrderMetric completedOrders = kpiMetrics.getCompletedOrders();
+            if (completedOrders != null) {
+                kpis.put("completedOrders", completedOrders.getValue());
+                kpis.put("totalOrdersToday", completedOrders.getTotal());
+            }
+            if (kpiMetrics.getMonthDealers() != null) {
+                kpis.put("totalDealers", kpiMetrics.getMonthDealers().getValue());
+            }
+            DashboardResponse.StockMetric lowStockProducts = kpiMetrics.getLowStockProducts();
+            if (lowStockProducts != null) {
+                kpis.put("lowStockProducts", lowStockProducts.getValue());
+                kpis.put("totalProducts", lowStockProducts.getTotal());
+            }
+        }
+
+        DashboardResponse.InventoryAlerts inventoryAlerts = data.getInventoryAlerts();
+        if (inventoryAlerts != null) {
+            kpis.put("overstockCount", inventoryAlerts.getOverstockCount());
+            kpis.put("urgentProduct", inventoryAlerts.getUrgentProduct());
+        }
+
+        DashboardResponse.TopPerformers topPerformers = data.getTopPerformers();
+        if (topPerformers != null) {
+            if (topPerformers.getTopDealer() != null) {
+                kpis.put("topDealer", topPerformers.getTopDealer().getName());
+                kpis.put("topDealerSpent", topPerformers.getTopDealer().getTotalSpent());
+            }
+            if (topPerformers.getTopProduct() != null) {
+                kpis.put("topProduct", topPerformers.getTopProduct().getName());
+                kpis.put("topProductSold", topPerformers.getTopProduct().getSoldQuantity());
+            }
+        }
+
+        return kpis;
+    }
+}
@@ -1,6 +1,8 @@
 package com.devwonder.reportservice.service;
 
-// Using Map<String, Object> instead of DTOs to avoid cross-service dependencies
+import com.devwonder.common.dto.dashboard.v1.DealerRanking;
+import com.devwonder.common.dto.dashboard.v1.InventoryAlerts;
+import com.devwonder.common.dto.dashboard.v1.ProductRanking;
 import com.devwonder.reportservice.client.OrderServiceClient;
 import com.devwonder.reportservice.client.ProductServiceClient;
 import com.devwonder.reportservice.client.UserServiceClient;
@@ -15,7 +17,6 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @Service
@@ -30,6 +31,8 @@ public class DashboardService {
     @Autowired
     private UserServiceClient userServiceClient;
 
+    private static final int TOP_DEALERS_LIMIT = 10;
+
     @Value("${auth.api.key:INTER_SERVICE_KEY}")
     private String apiKey;
 
@@ -42,19 +45,18 @@ public class DashboardService {
         BigDecimal lastMonthRevenue;
         Long completedOrdersToday;
         Long totalOrdersToday;
-        List<Map<String, Object>> topDealersFromOrders;
-        List<Map<String, Object>> productSales;
+        List<DealerRanking> topDealersFromOrders;
+        List<ProductRanking> productSales;
 
         // Product Service Data
-        Map<String, Object> inventoryAlerts;
+        InventoryAlerts inventoryAlerts;
         Integer lowStockCount;
         Integer totalProducts;
         String urgentProduct;
-        List<Map<String, Object>> topProducts;
+        List<ProductRanking> topProducts;
 
         // User Service Data
         Long totalDealers;
-        List<Map<String, Object>> topDealersFromUsers;
     }
 
     public DashboardResponse getDashboardData() {
@@ -92,11 +94,11 @@ public class DashboardService {
         cache.lastMonthRevenue = safeCall(() -> orderServiceClient.getLastMonthRevenue(apiKey), BigDecimal.ZERO);
         cache.completedOrdersToday = safeCall(() -> orderServiceClient.getCompletedOrdersToday(apiKey), 0L);
         cache.totalOrdersToday = safeCall(() -> orderServiceClient.getTotalOrdersToday(apiKey), 0L);
-        cache.topDealersFromOrders = safeCall(() -> orderServiceClient.getTopDealers(apiKey), List.of());
+        cache.topDealersFromOrders = safeCall(() -> orderServiceClient.getTopDealers(apiKey, TOP_DEALERS_LIMIT), List.of());
         cache.productSales = safeCall(() -> orderServiceClient.getProductSales(apiKey), List.of());
 
         // Product Service calls
-        cache.inventoryAlerts = safeCall(() -> productServiceClient.getInventoryAlerts(apiKey), Map.of());
+        cache.inventoryAlerts = safeCall(() -> productServiceClient.getInventoryAlerts(apiKey), new InventoryAlerts());
         cache.lowStockCount = safeCall(() -> productServiceClient.getLowStockCount(apiKey), 0);
         cache.totalProducts = safeCall(() -> productServiceClient.getTotalProducts(apiKey), 0);
         cache.urgentProduct = safeCall(() -> productServiceClient.getUrgentProduct(apiKey), "N/A");
@@ -104,35 +106,10 @@ public class DashboardService {
 
         // User Service calls
         cache.totalDealers = safeCall(() -> userServiceClient.getTotalDealers(apiKey), 0L);
-        cache.topDealersFromUsers = safeCall(() -> userServiceClient.getTopDealers(apiKey), List.of());
-
-        // Cross-service data enrichment
-        enrichDealerDataWithOrderInfo(cache);
 
         return cache;
     }
 
-    private void enrichDealerDataWithOrderInfo(DashboardDataCache cache) {
-        // Enrich User Service dealer data with Order Service sales data
-        log.debug("Enriching dealer data with order information");
-
-        for (Map<String, Object> dealer : cache.topDealersFromUsers) {
-            Long dealerId = getLongFromMap(dealer, "id", 0L);
-            if (dealerId == 0L) continue;
-
-            // Find this dealer in Order Service top dealers data
-            for (Map<String, Object> orderDealer : cache.topDealersFromOrders) {
-                Long orderDealerId = getLongFromMap(orderDealer, "id", 0L);
-                if (dealerId.equals(orderDealerId)) {
-                    // Merge spending data from Order Service
-                    dealer.put("totalSales", getLongFromMap(orderDealer, "totalSpent", 0L));
-                    dealer.put("ordersCount", getIntegerFromMap(orderDealer, "totalOrders", 0));
-                    break;
-                }
-            }
-        }
-    }
-
     private DashboardResponse.KpiMetrics calculateKpiMetrics(DashboardDataCache cache) {
         log.debug("Calculating KPI metrics from cached data");
 
@@ -175,8 +152,8 @@ public class DashboardService {
         log.debug("Calculating inventory alerts from cached data");
 
         return DashboardResponse.InventoryAlerts.builder()
-                .lowStockCount(getIntegerFromMap(cache.inventoryAlerts, "lowStockCount", 0))
-                .overstockCount(getIntegerFromMap(cache.inventoryAlerts, "overstockCount", 0))
+                .lowStockCount(orDefault(cache.inventoryAlerts.getLowStockCount(), 0))
+                .overstockCount(orDefault(cache.inventoryAlerts.getOverstockCount(), 0))
                 .urgentProduct(cache.urgentProduct)
                 .build();
     }
@@ -184,17 +161,17 @@ public class DashboardService {
     private DashboardResponse.TopPerformers calculateTopPerformers(DashboardDataCache cache) {
         log.debug("Calculating top performers from cached data");
 
-        // Top Dealer - Use User Service data (more authoritative)
-        Map<String, Object> topDealerData = cache.topDealersFromUsers.isEmpty() ? Map.of() : cache.topDealersFromUsers.get(0);
+        // Top Dealer - Order Service leaderboard is already ranked and enriched with dealer profiles
+        DealerRanking topDealerData = cache.topDealersFromOrders.isEmpty() ? new DealerRanking() : cache.topDealersFromOrders.get(0);
 
         // Top Product - Use Product Service data, but if empty, fallback to Order Service product sales
-        Map<String, Object> topProductData;
+        ProductRanking topProductData;
         if (!cache.topProducts.isEmpty()) {
             topProductData = cache.topProducts.get(0);
         } else if (!cache.productSales.isEmpty()) {
             topProductData = cache.productSales.get(0);
         } else {
-            topProductData = Map.of();
+            topProductData = new ProductRanking();
         }
 
         // Today Revenue Highlight (from cache)
@@ -202,15 +179,14 @@ public class DashboardService {
 
         return DashboardResponse.TopPerformers.builder()
                 .topDealer(DashboardResponse.TopDealer.builder()
-                        .name(getStringFromMap(topDealerData, "name", "N/A"))
-                        .totalSpent(getLongFromMap(topDealerData, "totalSales", getLongFromMap(topDealerData, "totalSpent", 0L)))
-                        .totalOrders(getIntegerFromMap(topDealerData, "ordersCount", getIntegerFromMap(topDealerData, "totalOrders", 0)))
+                        .name(orDefault(topDealerData.getName(), "N/A"))
+                        .totalSpent(orDefault(topDealerData.getTotalSpent(), 0L))
+                        .totalOrders(orDefault(topDealerData.getTotalOrders(), 0L).intValue())
                         .build())
                 .topProduct(DashboardResponse.TopProduct.builder()
-                        // Fix field mapping - use correct field names from services
-                        .name(getStringFromMap(topProductData, "productName", getStringFromMap(topProductData, "name", "N/A")))
-                        .soldQuantity(getIntegerFromMap(topProductData, "soldQuantity", getIntegerFromMap(topProductData, "soldCount", 0)))
-                        .growth(getDoubleFromMap(topProductData, "growth", 15.0))
+                        .name(orDefault(topProductData.getName(), "N/A"))
+                        .soldQuantity(orDefault(topProductData.getSoldQuantity(), 0))
+                        .growth(orDefault(topProductData.getGrowth(), 15.0))
                         .build())
                 .todayRevenueHighlight(DashboardResponse.RevenueMetric.builder()
                         .value(cache.todayRevenue.longValue())
@@ -243,12 +219,10 @@ public class DashboardService {
     private DashboardResponse.TopLists calculateTopLists(DashboardDataCache cache) {
         log.debug("Calculating top lists from cached data");
 
-        // Use User Service for dealer list (more authoritative) but fallback to Order Service if needed
-        List<Map<String, Object>> dealerData = !cache.topDealersFromUsers.isEmpty() ?
-                cache.topDealersFromUsers : cache.topDealersFromOrders;
+        List<DealerRanking> dealerData = cache.topDealersFromOrders;
 
         // Use Product Service for product list but fallback to Order Service product sales
-        List<Map<String, Object>> productData = !cache.topProducts.isEmpty() ?
+        List<ProductRanking> productData = !cache.topProducts.isEmpty() ?
                 cache.topProducts : cache.productSales;
 
         return DashboardResponse.TopLists.builder()
@@ -299,24 +273,24 @@ public class DashboardService {
                 .build();
     }
 
-    private List<DashboardResponse.RankedDealer> mapToDealerList(List<Map<String, Object>> dealers) {
+    private List<DashboardResponse.RankedDealer> mapToDealerList(List<DealerRanking> dealers) {
         return dealers.stream()
                 .map(dealer -> DashboardResponse.RankedDealer.builder()
-                        .rank(getIntegerFromMap(dealer, "rank", 0))
-                        .name(getStringFromMap(dealer, "name", "N/A"))
-                        .totalSpent(getLongFromMap(dealer, "totalSales", getLongFromMap(dealer, "totalSpent", 0L)))
+                        .rank(orDefault(dealer.getRank(), 0))
+                        .name(orDefault(dealer.getName(), "N/A"))
+                        .totalSpent(orDefault(dealer.getTotalSpent(), 0L))
                         .build())
                 .toList();
     }
 
-    private List<DashboardResponse.RankedProduct> mapToProductList(List<Map<String, Object>> products) {
+    private List<DashboardResponse.RankedProduct> mapToProductList(List<ProductRanking> products) {
         return products.stream()
                 .map(product -> DashboardResponse.RankedProduct.builder()
-                        .rank(getIntegerFromMap(product, "rank", 0))
-                        .name(getStringFromMap(product, "name", "N/A"))
-                        .soldQuantity(getIntegerFromMap(product, "soldQuantity", 0))
-                        .revenue(getLongFromMap(product, "revenue", 0L))
-                        .growth(getDoubleFromMap(product, "growth", 0.0))
+                        .rank(orDefault(product.getRank(), 0))
+                        .name(orDefault(product.getName(), "N/A"))
+                        .soldQuantity(orDefault(product.getSoldQuantity(), 0))
+                        .revenue(orDefault(product.getRevenue(), 0L))
+                        .growth(orDefault(product.getGrowth(), 0.0))
                         .build())
                 .toList();
     }
@@ -336,34 +310,8 @@ public class DashboardService {
         T call() throws Exception;
     }
 
-    // Type-safe map getters
-    private String getStringFromMap(Map<String, Object> map, String key, String defaultValue) {
-        Object value = map.get(key);
-        return value != null ? value.toString() : defaultValue;
-    }
-
-    private Long getLongFromMap(Map<String, Object> map, String key, Long defaultValue) {
-        Object value = map.get(key);
-        if (value instanceof Number) {
-            return ((Number) value).longValue();
-        }
-        return defaultValue;
-    }
-
-    private Integer getIntegerFromMap(Map<String, Object> map, String key, Integer defaultValue) {
-        Object value = map.get(key);
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
-        }
-        return defaultValue;
-    }
-
-    private Double getDoubleFromMap(Map<String, Object> map, String key, Double defaultValue) {
-        Object value = map.get(key);
-        if (value instanceof Number) {
-            return ((Number) value).doubleValue();
-        }
-        return defaultValue;
+    private static <T> T orDefault(T value, T defaultValue) {
+        return value != null ? value : defaultValue;
     }
 
     // Fallback method when all services fail
@@ -1,5 +1,6 @@
 package com.devwonder.reportservice.service;
 
+import com.devwonder.common.dto.dashboard.v1.DealerRanking;
 import com.devwonder.reportservice.client.OrderServiceClient;
 import com.devwonder.reportservice.client.UserServiceClient;
 import com.devwonder.reportservice.dto.DealersResponse;
@@ -14,7 +15,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -32,7 +32,7 @@ public class DealersService {
 
         try {
             // Fetch data from microservices
-            DealerDataCache cache = fetchDealerDataOnce();
+            DealerDataCache cache = fetchDealerDataOnce(from, to, limit);
 
             // Build Dealer KPIs
             DealersResponse.DealerKpis dealerKpis = buildDealerKpis(cache);
@@ -63,7 +63,7 @@ public class DealersService {
         }
     }
 
-    private DealerDataCache fetchDealerDataOnce() {
+    private DealerDataCache fetchDealerDataOnce(String from, String to, Integer limit) {
         DealerDataCache cache = new DealerDataCache();
 
         // User Service calls
@@ -74,9 +74,8 @@ public class DealersService {
         cache.lastMonthDealers = safeCall(() -> orderServiceClient.getLastMonthDealers(apiKey), 0L);
         cache.monthRevenue = safeCall(() -> orderServiceClient.getMonthRevenue(apiKey), BigDecimal.ZERO);
 
-        // Top dealers from both services
-        cache.topDealersFromOrder = safeCall(() -> orderServiceClient.getTopDealers(apiKey), List.of());
-        cache.topDealersFromUser = safeCall(() -> userServiceClient.getTopDealers(apiKey), List.of());
+        // Ranked over the requested range and enriched with dealer profiles by Order Service
+        cache.topDealersFromOrder = safeCall(() -> orderServiceClient.getTopDealersBetween(apiKey, from, to, limit), List.of());
 
         return cache;
     }
@@ -141,20 +140,15 @@ public class DealersService {
 
     private List<DealersResponse.TopDealer> buildTopDealers(DealerDataCache cache, Integer limit) {
         try {
-            // Combine top dealers from both services, prioritize order service data
-            List<Map<String, Object>> topDealers = cache.topDealersFromOrder.isEmpty() ?
-                    cache.topDealersFromUser : cache.topDealersFromOrder;
+            List<DealerRanking> topDealers = cache.topDealersFromOrder;
 
             return topDealers.stream()
                     .limit(Math.min(limit, topDealers.size()))
-                    .map(dealer -> {
-                        int rank = (Integer) dealer.getOrDefault("rank", 1);
-                        return DealersResponse.TopDealer.builder()
-                                .name((String) dealer.getOrDefault("name", "Unknown Dealer"))
-                                .rank(rank)
-                                .totalSpent(BigDecimal.valueOf(((Number) dealer.getOrDefault("totalSpent", 0)).longValue()))
-                                .build();
-                    })
+                    .map(dealer -> DealersResponse.TopDealer.builder()
+                            .name(dealer.getName() != null ? dealer.getName() : "Unknown Dealer")
+                            .rank(dealer.getRank() != null ? dealer.getRank() : 1)
+                            .totalSpent(BigDecimal.valueOf(dealer.getTotalSpent() != null ? dealer.getTotalSpent() : 0L))
+                            .build())
                     .toList();
         } catch (Exception e) {
             log.warn("Failed to build top dealers from service data, returning empty list", e);
@@ -164,23 +158,17 @@ public class DealersService {
 
     private List<DealersResponse.DetailedDealer> buildDetailedDealers(DealerDataCache cache, Integer limit) {
         try {
-            // Use order service data first, fallback to user service data
-            List<Map<String, Object>> topDealers = cache.topDealersFromOrder.isEmpty() ?
-                    cache.topDealersFromUser : cache.topDealersFromOrder;
+            List<DealerRanking> topDealers = cache.topDealersFromOrder;
 
             return topDealers.stream()
                     .limit(Math.min(limit, topDealers.size()))
-                    .map(dealer -> {
-                        int rank = (Integer) dealer.getOrDefault("rank", 1);
-                        return DealersResponse.DetailedDealer.builder()
-                                .name((String) dealer.getOrDefault("name", "Unknown Dealer"))
-                                .rank(rank)
-                                .totalSpent(BigDecimal.valueOf(((Number) dealer.getOrDefault("totalSpent", 0)).longValue()))
-                                .totalOrders((Integer) dealer.getOrDefault("totalOrders", 0))
-                                .lastOrder(dealer.containsKey("lastOrder") ?
-                                        LocalDate.parse((String) dealer.get("lastOrder")) : LocalDate.now())
-                                .build();
-                    })
+                    .map(dealer -> DealersResponse.DetailedDealer.builder()
+                            .name(dealer.getName() != null ? dealer.getName() : "Unknown Dealer")
+                            .rank(dealer.getRank() != null ? dealer.getRank() : 1)
+                            .totalSpent(BigDecimal.valueOf(dealer.getTotalSpent() != null ? dealer.getTotalSpent() : 0L))
+                            .totalOrders(dealer.getTotalOrders() != null ? dealer.getTotalOrders().intValue() : 0)
+                            .lastOrder(dealer.getLastOrder() != null ? LocalDate.parse(dealer.getLastOrder()) : LocalDate.now())
+                            .build())
                     .toList();
         } catch (Exception e) {
             log.warn("Failed to build detailed dealers from service data, returning empty list", e);
@@ -222,7 +210,6 @@ public class DealersService {
         Long currentMonthDealers;
         Long lastMonthDealers;
         BigDecimal monthRevenue;
-        List<Map<String, Object>> topDealersFromOrder;
-        List<Map<String, Object>> topDealersFromUser;
+        List<DealerRanking> topDealersFromOrder;
     }
 }
\ No newline at end of file
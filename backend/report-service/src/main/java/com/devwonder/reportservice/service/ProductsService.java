@@ -1,5 +1,8 @@
 package com.devwonder.reportservice.service;
 
+import com.devwonder.common.dto.dashboard.v1.InventoryAlerts;
+import com.devwonder.common.dto.dashboard.v1.LowStockProduct;
+import com.devwonder.common.dto.dashboard.v1.ProductRanking;
 import com.devwonder.reportservice.client.OrderServiceClient;
 import com.devwonder.reportservice.client.ProductServiceClient;
 import com.devwonder.reportservice.dto.ProductsResponse;
@@ -12,13 +15,15 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProductsService {
 
+    private static final String LOW_STOCK = "Sắp hết";
+    private static final String OUT_OF_STOCK = "Hết hàng";
+
     private final OrderServiceClient orderServiceClient;
     private final ProductServiceClient productServiceClient;
 
@@ -70,7 +75,7 @@ public class ProductsService {
         cache.totalProducts = safeCall(() -> productServiceClient.getTotalProducts(apiKey), 0);
         cache.lowStockCount = safeCall(() -> productServiceClient.getLowStockCount(apiKey), 0);
         cache.topProducts = safeCall(() -> productServiceClient.getTopProducts(apiKey), List.of());
-        cache.inventoryAlerts = safeCall(() -> productServiceClient.getInventoryAlerts(apiKey), Map.of());
+        cache.inventoryAlerts = safeCall(() -> productServiceClient.getInventoryAlerts(apiKey), new InventoryAlerts());
 
         // Order Service calls for product sales
         cache.productSales = safeCall(() -> orderServiceClient.getProductSales(apiKey), List.of());
@@ -81,18 +86,12 @@ public class ProductsService {
     private ProductsResponse.ProductKpis buildProductKpis(ProductDataCache cache) {
         // Count growing products (products with positive growth)
         long growingProducts = cache.topProducts.stream()
-                .mapToLong(product -> {
-                    Number growth = (Number) product.getOrDefault("growth", 0);
-                    return growth.doubleValue() > 0 ? 1 : 0;
-                })
-                .sum();
+                .filter(product -> product.getGrowth() != null && product.getGrowth() > 0)
+                .count();
 
         // Calculate total revenue from top products
         BigDecimal totalRevenue = cache.topProducts.stream()
-                .map(product -> {
-                    Number revenue = (Number) product.getOrDefault("revenue", 0);
-                    return BigDecimal.valueOf(revenue.longValue());
-                })
+                .map(product -> BigDecimal.valueOf(product.getRevenue() != null ? product.getRevenue() : 0L))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         return ProductsResponse.ProductKpis.builder()
@@ -113,16 +112,13 @@ public class ProductsService {
             // Use top products from product service, enhanced with sales data from order service
             return cache.topProducts.stream()
                     .limit(5) // Top 5 products
-                    .map(product -> {
-                        int rank = (Integer) product.getOrDefault("rank", 0);
-                        return ProductsResponse.TopProduct.builder()
-                                .name((String) product.getOrDefault("name", "Unknown Product"))
-                                .rank(rank)
-                                .soldQuantity((Integer) product.getOrDefault("soldQuantity", 0))
-                                .revenue(BigDecimal.valueOf(((Number) product.getOrDefault("revenue", 0)).longValue()))
-                                .growth((Double) product.getOrDefault("growth", 0.0))
-                                .build();
-                    })
+                    .map(product -> ProductsResponse.TopProduct.builder()
+                            .name(product.getName() != null ? product.getName() : "Unknown Product")
+                            .rank(product.getRank() != null ? product.getRank() : 0)
+                            .soldQuantity(product.getSoldQuantity() != null ? product.getSoldQuantity() : 0)
+                            .revenue(BigDecimal.valueOf(product.getRevenue() != null ? product.getRevenue() : 0L))
+                            .growth(product.getGrowth() != null ? product.getGrowth() : 0.0)
+                            .build())
                     .toList();
         } catch (Exception e) {
             log.warn("Failed to build top products from service data, returning empty list", e);
@@ -131,35 +127,30 @@ public class ProductsService {
     }
 
     private List<ProductsResponse.LowStockProduct> buildLowStockProducts(ProductDataCache cache) {
-        try {
-            // Extract low stock products from inventory alerts
-            Map<String, Object> alerts = cache.inventoryAlerts;
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> lowStockList = (List<Map<String, Object>>) alerts.getOrDefault("lowStockProducts", List.of());
-
-            return lowStockList.stream()
-                    .map(product -> ProductsResponse.LowStockProduct.builder()
-                            .id((String) product.getOrDefault("id", ""))
-                            .name((String) product.getOrDefault("name", "Unknown Product"))
-                            .currentStock((Integer) product.getOrDefault("currentStock", 0))
-                            .minStock((Integer) product.getOrDefault("minStock", 0))
-                            .status((String) product.getOrDefault("status", "Sắp hết"))
-                            .build())
-                    .toList();
-        } catch (Exception e) {
-            log.warn("Failed to build low stock products from service data, returning empty list", e);
+        // Rows come with the inventory alerts, so the section costs no extra call
+        List<LowStockProduct> rows = cache.inventoryAlerts.getLowStockProducts();
+        if (rows == null) {
             return List.of();
         }
+        return rows.stream()
+                .map(product -> ProductsResponse.LowStockProduct.builder()
+                        .id(product.getProductId() != null ? product.getProductId().toString() : "")
+                        .name(product.getName() != null ? product.getName() : "Unknown Product")
+                        .currentStock(product.getInStock() != null ? product.getInStock() : 0)
+                        .minStock(product.getThreshold() != null ? product.getThreshold() : 0)
+                        .status(product.getInStock() != null && product.getInStock() == 0 ? OUT_OF_STOCK : LOW_STOCK)
+                        .build())
+                .toList();
     }
 
     private ProductsResponse.InventorySummary buildInventorySummary(ProductDataCache cache) {
         try {
-            Map<String, Object> alerts = cache.inventoryAlerts;
+            InventoryAlerts alerts = cache.inventoryAlerts;
 
             // Extract inventory summary from inventory alerts
-            Long lowStock = ((Number) alerts.getOrDefault("lowStock", cache.lowStockCount)).longValue();
-            Long normal = ((Number) alerts.getOrDefault("normal", Math.max(0, cache.totalProducts - lowStock))).longValue();
-            Long overstock = ((Number) alerts.getOrDefault("overstock", 0)).longValue();
+            Long lowStock = (long) (alerts.getLowStockCount() != null ? alerts.getLowStockCount() : cache.lowStockCount);
+            Long normal = Math.max(0L, cache.totalProducts - lowStock);
+            Long overstock = (long) (alerts.getOverstockCount() != null ? alerts.getOverstockCount() : 0);
 
             String alertMessage = lowStock > 0 ?
                     String.format("⚠️ Cảnh báo: Có %d sản phẩm cần nhập kho ngay!", lowStock) :
@@ -211,8 +202,8 @@ public class ProductsService {
     private static class ProductDataCache {
         Integer totalProducts;
         Integer lowStockCount;
-        List<Map<String, Object>> topProducts;
-        List<Map<String, Object>> productSales;
-        Map<String, Object> inventoryAlerts;
+        List<ProductRanking> topProducts;
+        List<ProductRanking> productSales;
+        InventoryAlerts inventoryAlerts;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.devwonder.reportservice.service;
 
+import com.devwonder.common.dto.dashboard.v1.ProductRanking;
 import com.devwonder.reportservice.client.OrderServiceClient;
 import com.devwonder.reportservice.client.ProductServiceClient;
 import com.devwonder.reportservice.dto.RevenueResponse;
@@ -13,7 +14,6 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -164,15 +164,15 @@ public class RevenueService {
     private List<RevenueResponse.ProductRevenue> buildProductRevenue() {
         try {
             // Get top products from Product Service
-            List<Map<String, Object>> topProducts = productServiceClient.getTopProducts(apiKey);
+            List<ProductRanking> topProducts = productServiceClient.getTopProducts(apiKey);
 
             return topProducts.stream()
                     .limit(8) // Top 8 products for revenue view
                     .map(product -> RevenueResponse.ProductRevenue.builder()
-                            .productName((String) product.get("name"))
-                            .soldQuantity((Integer) product.get("soldQuantity"))
-                            .revenue(BigDecimal.valueOf(((Number) product.get("revenue")).longValue()))
-                            .growth((Double) product.get("growth"))
+                            .productName(product.getName())
+                            .soldQuantity(product.getSoldQuantity())
+                            .revenue(BigDecimal.valueOf(product.getRevenue() != null ? product.getRevenue() : 0L))
+                            .growth(product.getGrowth())
                             .build())
                     .toList();
         } catch (Exception e) {
@@ -0,0 +1,125 @@
+package com.devwonder.reportservice.service;
+
+import com.devwonder.common.event.DashboardEvent;
+import com.devwonder.common.event.DashboardUpdateEvent;
+import com.devwonder.reportservice.constant.KafkaTopics;
+import com.devwonder.reportservice.dto.DashboardResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardLiveServiceTest {
+
+    private final DashboardService dashboardService = mock(DashboardService.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final DashboardLiveService live = new DashboardLiveService(dashboardService, kafkaTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(live, "snapshotMaxAgeMs", 30000L);
+    }
+
+    @Test
+    void fallbackRefreshKeepsTriggersQueued() {
+        when(dashboardService.getDashboardData()).thenReturn(fallback(), data(120L));
+        live.markDirty(event(DashboardEvent.ORDER_PAID), 0, 7);
+
+        live.flushPendingEvents();
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+
+        live.flushPendingEvents();
+        DashboardUpdateEvent update = publishedUpdate();
+        assertThat(update.getTriggers()).containsExactly(DashboardEvent.ORDER_PAID);
+        assertThat(update.getChanges()).containsEntry("todayRevenue", 120L);
+    }
+
+    @Test
+    void failedRefreshKeepsTriggersQueued() {
+        when(dashboardService.getDashboardData())
+                .thenThrow(new IllegalStateException("order-service down"))
+                .thenReturn(data(80L));
+        live.markDirty(event(DashboardEvent.SERIAL_SOLD), 0, 3);
+
+        live.flushPendingEvents();
+        live.flushPendingEvents();
+
+        assertThat(publishedUpdate().getTriggers()).containsExactly(DashboardEvent.SERIAL_SOLD);
+    }
+
+    @Test
+    void versionCountsEventsOnTheTopicNotPerInstance() {
+        when(dashboardService.getDashboardData()).thenReturn(data(50L));
+        // A replica that joined late still counts the 40 events it never read
+        live.markPosition(0, 40);
+        live.markPosition(1, 10);
+        live.markDirty(event(DashboardEvent.ORDER_CREATED), 0, 41);
+
+        live.flushPendingEvents();
+
+        assertThat(publishedUpdate().getVersion()).isEqualTo(52L);
+    }
+
+    @Test
+    void pollRefreshDoesNotSwallowChangesForPushClients() {
+        when(dashboardService.getDashboardData()).thenReturn(data(50L), data(90L));
+
+        assertThat(live.getDashboard().getKpiMetrics().getTodayRevenue().getValue()).isEqualTo(50L);
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+
+        live.markDirty(event(DashboardEvent.ORDER_PAID), 0, 0);
+        live.flushPendingEvents();
+
+        assertThat(publishedUpdate().getChanges()).containsEntry("todayRevenue", 90L);
+        assertThat(live.getDashboard().getKpiMetrics().getTodayRevenue().getValue()).isEqualTo(90L);
+    }
+
+    @Test
+    void getDashboardServesFreshSnapshot() {
+        when(dashboardService.getDashboardData()).thenReturn(data(50L));
+
+        live.getDashboard();
+        live.getDashboard();
+
+        verify(dashboardService, times(1)).getDashboardData();
+    }
+
+    private DashboardUpdateEvent publishedUpdate() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate).send(eq(KafkaTopics.DASHBOARD_UPDATES), eq("dashboard"), captor.capture());
+        return (DashboardUpdateEvent) captor.getValue();
+    }
+
+    private static DashboardEvent event(String type) {
+        return DashboardEvent.builder().eventType(type).build();
+    }
+
+    private static DashboardResponse data(long todayRevenue) {
+        return DashboardResponse.builder()
+                .kpiMetrics(DashboardResponse.KpiMetrics.builder()
+                        .todayRevenue(DashboardResponse.RevenueMetric.builder().value(todayRevenue).growth(0.0).build())
+                        .build())
+                .metadata(DashboardResponse.Metadata.builder().dataSource("live").build())
+                .build();
+    }
+
+    private static DashboardResponse fallback() {
+        return DashboardResponse.builder()
+                .metadata(DashboardResponse.Metadata.builder().dataSource("fallback_mode").build())
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.devwonder.userservice.controller;
 
 import com.devwonder.common.dto.BaseResponse;
+import com.devwonder.userservice.dto.AdminLoginSettingsResponse;
 import com.devwonder.userservice.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,6 +27,16 @@ public class AuthServiceLookupController {
         ));
     }
 
+    @GetMapping("/admin/{accountId}/login-settings")
+    @Operation(summary = "Get admin's login settings", description = "Internal API for auth-service: email and requireLoginEmailConfirmation in one call. Data is null if the account is not an admin")
+    public ResponseEntity<BaseResponse<AdminLoginSettingsResponse>> getAdminLoginSettings(@PathVariable Long accountId) {
+        AdminLoginSettingsResponse settings = userService.getAdminLoginSettings(accountId);
+        return ResponseEntity.ok(BaseResponse.success(
+            "Retrieved admin login settings",
+            settings
+        ));
+    }
+
     @GetMapping("/admin/{accountId}/email")
     @Operation(summary = "Get admin's email", description = "Internal API for auth-service to get admin's email address")
     public ResponseEntity<BaseResponse<String>> getAdminEmail(@PathVariable Long accountId) {
@@ -13,6 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/dealer-service")
 @Tag(name = "Dealer Inter-Service APIs", description = "🏪 Dealer service-to-service communication (API Key required)")
@@ -20,6 +22,8 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class DealerLookupController {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final UserService userService;
 
     @GetMapping("/dealers/{dealerId}")
@@ -43,4 +47,30 @@ public class DealerLookupController {
         DealerResponse dealer = userService.getDealerById(dealerId, fields);
         return ResponseEntity.ok(BaseResponse.success("Dealer retrieved successfully", dealer));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/dealers/batch")
+    @Operation(
+        summary = "Get Dealers By IDs",
+        description = "Retrieve several dealers in one call with optional field filtering. Unknown IDs are skipped. Used by order service to enrich dealer leaderboards. Requires API key authentication.",
+        security = @SecurityRequirement(name = "apiKey")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Dealers retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Too many IDs requested"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing API key"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BaseResponse<List<DealerResponse>>> getDealersByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String fields) {
+
+        log.info("Inter-service call: Getting {} dealers by ID with fields: {}", ids.size(), fields);
+
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot fetch more than " + MAX_BATCH_SIZE + " dealers per request");
+        }
+
+        List<DealerResponse> dealers = userService.getDealersByIds(ids, fields);
+        return ResponseEntity.ok(BaseResponse.success("Dealers retrieved successfully", dealers));
+    }
+}
@@ -5,7 +5,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -33,10 +32,4 @@ public class UserDashboardController {
         log.debug("Getting total dealers");
         return dashboardService.getTotalDealers();
     }
-
-    @GetMapping("/top-dealers")
-    public List<Map<String, Object>> getTopDealers(@RequestHeader("X-API-Key") String apiKey) {
-        log.debug("Getting top dealers");
-        return dashboardService.getTopDealers();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.devwonder.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Admin data auth-service needs at login")
+public class AdminLoginSettingsResponse {
+
+    @Schema(description = "Contact email", example = "admin@devwonder.com")
+    private String email;
+
+    @Schema(description = "Whether each login must be confirmed by email", example = "false")
+    private boolean requireLoginEmailConfirmation;
+}
@@ -0,0 +1,40 @@
+package com.devwonder.userservice.service;
+
+import com.devwonder.common.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Tells auth-service replicas to forget their cached login settings for an admin
+ * whose email or login confirmation flag changed.
+ *
+ * Published after commit so auth-service cannot re-read the old row; a lost message
+ * is bounded by the cache TTL on the auth-service side.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminLoginSettingsPublisher {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${auth.admin-login-settings.invalidation-channel:auth:admin-login-settings:invalidate}")
+    private String invalidationChannel;
+
+    public void settingsChanged(Long accountId) {
+        TransactionUtil.afterCommit(() -> publish(accountId));
+    }
+
+    private void publish(Long accountId) {
+        try {
+            stringRedisTemplate.convertAndSend(invalidationChannel, String.valueOf(accountId));
+            log.debug("Published admin login settings invalidation for accountId: {}", accountId);
+        } catch (Exception e) {
+            log.warn("Failed to publish admin login settings invalidation for accountId {}: {}",
+                    accountId, e.getMessage());
+        }
+    }
+}
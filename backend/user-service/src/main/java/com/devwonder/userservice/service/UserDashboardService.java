@@ -1,6 +1,5 @@
 package com.devwonder.userservice.service;
 
-import com.devwonder.userservice.entity.Dealer;
 import com.devwonder.userservice.repository.DealerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,9 +7,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Service
@@ -76,39 +73,4 @@ public class UserDashboardService {
     public Long getTotalDealers() {
         return dealerRepository.count();
     }
-
-    public List<Map<String, Object>> getTopDealers() {
-        // Get real dealers from database
-        // Note: This only returns basic dealer info without spending data
-        // For complete dealer ranking with spending data, should integrate with Order Service
-        List<Dealer> allDealers = dealerRepository.findAll();
-        List<Map<String, Object>> topDealers = new ArrayList<>();
-
-        int rank = 1;
-        for (Dealer dealer : allDealers) {
-            if (rank > 10) break; // Limit to top 10
-
-            Map<String, Object> dealerData = new HashMap<>();
-            dealerData.put("id", dealer.getAccountId());
-            dealerData.put("name", dealer.getCompanyName());
-            dealerData.put("rank", rank); // Add rank field
-
-            // Note: These fields require Order Service integration for real data
-            dealerData.put("totalSales", 0.0); // Should be populated via Order Service API call
-            dealerData.put("totalSpent", 0.0); // Add totalSpent field for DealersService
-            dealerData.put("ordersCount", 0);   // Should be populated via Order Service API call
-            dealerData.put("totalOrders", 0);   // Add totalOrders field for DealersService
-
-            // Add dealer-specific info that we have
-            dealerData.put("contactPerson", dealer.getCompanyName());
-            dealerData.put("email", dealer.getEmail());
-            dealerData.put("phone", dealer.getPhone());
-            dealerData.put("address", dealer.getAddress());
-
-            topDealers.add(dealerData);
-            rank++;
-        }
-
-        return topDealers;
-    }
-}
\ No newline at end of file
+}
@@ -30,6 +30,7 @@ public class UserService {
     private final DealerEventService dealerEventService;
     private final com.devwonder.userservice.util.FieldFilterUtil fieldFilterUtil;
     private final com.devwonder.userservice.repository.AdminRepository adminRepository;
+    private final AdminLoginSettingsPublisher adminLoginSettingsPublisher;
 
     @Transactional(readOnly = true)
     public List<DealerResponse> getAllDealers() {
@@ -62,6 +63,15 @@ public class UserService {
         return getDealerById(dealerId, null);
     }
 
+    @Transactional(readOnly = true)
+    public List<DealerResponse> getDealersByIds(List<Long> dealerIds, String fields) {
+        log.info("Fetching {} dealers by ID - fields: {}", dealerIds.size(), fields);
+
+        return dealerRepository.findAllById(dealerIds).stream()
+                .map(dealer -> fieldFilterUtil.applyFieldFiltering(dealerMapper.toResponse(dealer), fields))
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public List<DealerResponse> searchDealers(String query, int limit, String fields) {
         log.info("Searching dealers with query: '{}', limit: {}, fields: {}", query, limit, fields);
@@ -290,6 +300,9 @@ public class UserService {
         Admin updatedAdmin = adminRepository.save(existingAdmin);
         log.info("Successfully updated admin with accountId: {}", updatedAdmin.getAccountId());
 
+        // auth-service caches the email it sends login confirmations to
+        adminLoginSettingsPublisher.settingsChanged(updatedAdmin.getAccountId());
+
         return AdminResponse.builder()
                 .accountId(updatedAdmin.getAccountId())
                 .name(updatedAdmin.getName())
@@ -387,6 +400,7 @@ public class UserService {
         Admin updatedAdmin = adminRepository.save(existingAdmin);
         log.info("Successfully updated login email confirmation to {} for accountId: {}",
                 request.getRequireLoginEmailConfirmation(), accountId);
+        adminLoginSettingsPublisher.settingsChanged(accountId);
 
         return AdminResponse.builder()
                 .accountId(updatedAdmin.getAccountId())
@@ -407,6 +421,18 @@ public class UserService {
                 .orElse(false);
     }
 
+    @Transactional(readOnly = true)
+    public AdminLoginSettingsResponse getAdminLoginSettings(Long accountId) {
+        log.debug("Fetching login settings for admin with accountId: {}", accountId);
+
+        return adminRepository.findById(accountId)
+                .map(admin -> AdminLoginSettingsResponse.builder()
+                        .email(admin.getEmail())
+                        .requireLoginEmailConfirmation(Boolean.TRUE.equals(admin.getRequireLoginEmailConfirmation()))
+                        .build())
+                .orElse(null);
+    }
+
     @Transactional(readOnly = true)
     public String getAdminEmail(Long accountId) {
         log.info("Fetching email for admin with accountId: {}", accountId);
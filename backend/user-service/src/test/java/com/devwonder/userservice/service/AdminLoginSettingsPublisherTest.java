@@ -0,0 +1,68 @@
+package com.devwonder.userservice.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminLoginSettingsPublisherTest {
+
+    private static final String CHANNEL = "auth:admin-login-settings:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final AdminLoginSettingsPublisher publisher = new AdminLoginSettingsPublisher(stringRedisTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(publisher, "invalidationChannel", CHANNEL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publishesOnceTheChangeCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.settingsChanged(5L);
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        verify(stringRedisTemplate).convertAndSend(CHANNEL, "5");
+    }
+
+    @Test
+    void rolledBackChangePublishesNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.settingsChanged(5L);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    void redisOutageDoesNotFailTheUpdate() {
+        when(stringRedisTemplate.convertAndSend(anyString(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatCode(() -> publisher.settingsChanged(5L)).doesNotThrowAnyException();
+    }
+}